@@ -0,0 +1,67 @@
+import gzip
+import zlib
+
+# Refuse request bodies that inflate beyond this, so a small gzip bomb can't exhaust memory
+MAX_DECOMPRESSED_BYTES = 32 * 1024 * 1024
+
+
+class GzipRequestMiddleware:
+    """Decode request bodies sent with Content-Encoding: gzip (used by the Spring backend for large payloads)."""
+
+    def __init__(self, app, max_size: int = MAX_DECOMPRESSED_BYTES):
+        self.app = app
+        self.max_size = max_size
+
+    async def __call__(self, scope, receive, send):
+        if scope["type"] != "http":
+            await self.app(scope, receive, send)
+            return
+
+        headers = dict(scope.get("headers") or [])
+        if headers.get(b"content-encoding", b"").lower() != b"gzip":
+            await self.app(scope, receive, send)
+            return
+
+        compressed = bytearray()
+        more_body = True
+        while more_body:
+            message = await receive()
+            compressed.extend(message.get("body", b""))
+            more_body = message.get("more_body", False)
+
+        try:
+            decoder = zlib.decompressobj(16 + zlib.MAX_WBITS)
+            body = decoder.decompress(bytes(compressed), self.max_size)
+            if decoder.unconsumed_tail:
+                await _reject(send, 413, b"Decompressed request body too large")
+                return
+        except (zlib.error, gzip.BadGzipFile):
+            await _reject(send, 400, b"Invalid gzip request body")
+            return
+
+        # Downstream sees a plain body with matching headers
+        scope = dict(scope)
+        scope["headers"] = [
+            (name, value) for name, value in scope["headers"]
+            if name not in (b"content-encoding", b"content-length")
+        ] + [(b"content-length", str(len(body)).encode())]
+
+        delivered = False
+
+        async def receive_decoded():
+            nonlocal delivered
+            if not delivered:
+                delivered = True
+                return {"type": "http.request", "body": body, "more_body": False}
+            return await receive()
+
+        await self.app(scope, receive_decoded, send)
+
+
+async def _reject(send, status: int, detail: bytes):
+    await send({
+        "type": "http.response.start",
+        "status": status,
+        "headers": [(b"content-type", b"text/plain"), (b"content-length", str(len(detail)).encode())],
+    })
+    await send({"type": "http.response.body", "body": detail})
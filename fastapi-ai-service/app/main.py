@@ -3,8 +3,10 @@ from fastapi.middleware.cors import CORSMiddleware
 from contextlib import asynccontextmanager
 import logging
 
+from .gzip_request import GzipRequestMiddleware
 from .routers import resume, matching
 from .services.gemini_service import GeminiAIService
+from .services.ml_service import MLService
 
 # Configure logging
 logging.basicConfig(level=logging.INFO)
@@ -20,6 +22,9 @@ async def lifespan(app: FastAPI):
     await gemini_service.initialize()
     app.state.gemini_service = gemini_service
     
+    # Sentence-transformer model is loaded lazily on the first /embed call
+    app.state.ml_service = MLService()
+    
     yield
     
     # Shutdown
@@ -41,6 +46,9 @@ app.add_middleware(
     allow_headers=["*"],
 )
 
+# Accept gzip-compressed request bodies from the backend
+app.add_middleware(GzipRequestMiddleware)
+
 # Include routers
 app.include_router(resume.router, prefix="/api/v1", tags=["resume"])
 app.include_router(matching.router, prefix="/api/v1", tags=["matching"])
@@ -39,3 +39,26 @@ class MatchResponse(BaseModel):
     matches: List[JobMatch]
     total_jobs: int
     processing_time_ms: int
+
+class EmbedRequest(BaseModel):
+    texts: List[str]
+
+class EmbedResponse(BaseModel):
+    embeddings: List[List[float]]
+    model: str
+    dimension: int
+
+class ResumeAnalysisItem(BaseModel):
+    resumeText: str
+    fileName: Optional[str] = ""
+    fileType: Optional[str] = None
+
+class ResumeAnalysisBatchRequest(BaseModel):
+    items: List[ResumeAnalysisItem] = Field(..., min_length=1, max_length=64)
+
+class ResumeAnalysisBatchResult(BaseModel):
+    analysis: Optional[dict] = None
+    error: Optional[str] = None
+
+class ResumeAnalysisBatchResponse(BaseModel):
+    results: List[ResumeAnalysisBatchResult]
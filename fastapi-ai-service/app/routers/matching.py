@@ -1,6 +1,7 @@
 from fastapi import APIRouter, HTTPException, Depends, Request
-from ..models.schemas import MatchRequest, MatchResponse, JobMatch
+from ..models.schemas import MatchRequest, MatchResponse, JobMatch, EmbedRequest, EmbedResponse
 from ..services.gemini_service import GeminiAIService
+from ..services.ml_service import MLService
 import time
 import logging
 
@@ -11,6 +12,9 @@ router = APIRouter()
 def get_gemini_service(request: Request):
     return request.app.state.gemini_service
 
+def get_ml_service(request: Request):
+    return request.app.state.ml_service
+
 @router.post("/match", response_model=MatchResponse)
 async def match_resume_to_jobs(
     match_request: MatchRequest,
@@ -105,6 +109,35 @@ async def match_jobs_endpoint(
             detail="Error processing job matching request"
         )
 
+@router.post("/embed", response_model=EmbedResponse)
+async def embed_texts(
+    embed_request: EmbedRequest,
+    ml_service: MLService = Depends(get_ml_service)
+):
+    """Embed texts for the Spring Boot in-process job matcher."""
+    
+    if not embed_request.texts:
+        raise HTTPException(status_code=400, detail="At least one text is required")
+    
+    try:
+        if not ml_service.model:
+            await ml_service.initialize()
+        
+        embeddings = await ml_service.compute_embeddings(embed_request.texts)
+        
+        return EmbedResponse(
+            embeddings=embeddings.tolist(),
+            model=ml_service.model_name,
+            dimension=int(embeddings.shape[1])
+        )
+    
+    except Exception as e:
+        logger.error(f"Error computing embeddings: {e}")
+        raise HTTPException(
+            status_code=500,
+            detail="Error computing embeddings"
+        )
+
 @router.get("/health")
 async def health_check():
     """Health check endpoint for the matching service."""
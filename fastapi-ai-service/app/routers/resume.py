@@ -1,13 +1,22 @@
 from fastapi import APIRouter, UploadFile, File, HTTPException, Depends, Request
 from ..services.resume_parser import ResumeParser
 from ..services.gemini_service import GeminiAIService
-from ..models.schemas import ResumeParseResponse
+from ..models.schemas import (
+    ResumeParseResponse,
+    ResumeAnalysisBatchRequest,
+    ResumeAnalysisBatchResponse,
+    ResumeAnalysisBatchResult,
+)
+import asyncio
 import logging
 
 logger = logging.getLogger(__name__)
 
 router = APIRouter()
 
+# Gemini calls in flight per batch request; the rest of the batch waits its turn
+BATCH_CONCURRENCY = 8
+
 def get_resume_parser():
     return ResumeParser()
 
@@ -100,3 +109,28 @@ async def analyze_resume_text(
             status_code=500,
             detail="Error analyzing resume text"
         )
+
+@router.post("/analyze-resume/batch", response_model=ResumeAnalysisBatchResponse)
+async def analyze_resume_batch(
+    request: ResumeAnalysisBatchRequest,
+    gemini_service: GeminiAIService = Depends(get_gemini_service)
+):
+    """Analyze several resumes in one request; results come back in request order.
+
+    A failed item carries an error instead of an analysis so the rest of the batch still succeeds.
+    """
+    semaphore = asyncio.Semaphore(BATCH_CONCURRENCY)
+
+    async def analyze(item) -> ResumeAnalysisBatchResult:
+        if not item.resumeText:
+            return ResumeAnalysisBatchResult(error="Resume text is required")
+        async with semaphore:
+            try:
+                analysis = await gemini_service.analyze_resume(item.resumeText, item.fileName or "")
+                return ResumeAnalysisBatchResult(analysis=analysis)
+            except Exception as e:
+                logger.error(f"Error analyzing resume {item.fileName} in batch: {e}")
+                return ResumeAnalysisBatchResult(error="Error analyzing resume text")
+
+    results = await asyncio.gather(*(analyze(item) for item in request.items))
+    return ResumeAnalysisBatchResponse(results=results)
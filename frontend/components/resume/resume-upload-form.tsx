@@ -38,12 +38,11 @@ export function ResumeUploadForm() {
     const maxSize = 10 * 1024 * 1024 // 10MB
     const allowedTypes = [
       "application/pdf",
-      "application/msword",
       "application/vnd.openxmlformats-officedocument.wordprocessingml.document",
     ]
 
     if (!allowedTypes.includes(selectedFile.type)) {
-      setError("Please upload a PDF or Word document")
+      setError("Please upload a PDF or Word (.docx) document")
       return
     }
 
@@ -160,7 +159,7 @@ export function ResumeUploadForm() {
         <Card>
           <CardHeader>
             <CardTitle>Upload Resume</CardTitle>
-            <CardDescription>Supported formats: PDF, DOC, DOCX (Max 10MB)</CardDescription>
+            <CardDescription>Supported formats: PDF, DOCX (Max 10MB)</CardDescription>
           </CardHeader>
           <CardContent>
             {error && (
@@ -184,7 +183,7 @@ export function ResumeUploadForm() {
                 <input
                   id="file-input"
                   type="file"
-                  accept=".pdf,.doc,.docx"
+                  accept=".pdf,.docx"
                   onChange={handleFileInput}
                   className="hidden"
                 />
@@ -0,0 +1,51 @@
+-- infrastructure/benchmarks/job_filters_trigram.sql
+-- Compares plans for the location/company job filters before and after V7 on 1M jobs.
+--
+-- Run against a database migrated by the backend (Flyway V7 or later):
+--   docker compose exec -T postgres psql -U postgres -d ai_resume_db < infrastructure/benchmarks/job_filters_trigram.sql
+--
+-- Everything runs in one transaction that is rolled back, so no benchmark rows are left behind.
+-- Expected shape: the raw ILIKE predicates show "Seq Scan on jobs" reading every row, while the
+-- search_normalize predicates show "Bitmap Index Scan on idx_jobs_*_search_trgm".
+
+\timing on
+BEGIN;
+
+INSERT INTO users (username, email, password, first_name, last_name, role)
+VALUES ('bench_recruiter', 'bench_recruiter@example.com', 'not-a-real-hash', 'Bench', 'Recruiter', 'RECRUITER');
+
+INSERT INTO jobs (title, description, company, location, recruiter_id, recruiter_email, active)
+SELECT 'Engineer ' || g,
+       'Benchmark job ' || g,
+       (ARRAY['Acme Corp', 'Globex', 'Initech', 'Umbrella', 'Soylent', 'Hooli', 'Société Générale', 'Nestlé'])[1 + g % 8]
+           || ' ' || (g % 5000),
+       (ARRAY['Berlin', 'München', 'Zürich', 'São Paulo', 'New York', 'London', 'Kraków', 'Montréal'])[1 + g % 8]
+           || ' ' || (g % 997),
+       (SELECT id FROM users WHERE username = 'bench_recruiter'),
+       'bench_recruiter@example.com',
+       TRUE
+FROM generate_series(1, 1000000) AS g;
+
+ANALYZE jobs;
+
+-- Before: the predicates findJobSummariesWithFilters used to send; the V3 btree indexes cannot serve them
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT * FROM jobs WHERE location ILIKE '%munchen 42%';
+
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT * FROM jobs WHERE company ILIKE '%nestle 123%';
+
+-- After: the predicates findJobSummariesWithFilters sends now
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT * FROM jobs WHERE location_search LIKE '%' || search_normalize('munchen 42') || '%';
+
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT * FROM jobs WHERE company_search LIKE '%' || search_normalize('Nestle 123') || '%';
+
+-- Combined filter as issued by GET /jobs?location=...&company=...
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT * FROM jobs
+WHERE location_search LIKE '%' || search_normalize('Zurich') || '%'
+  AND company_search LIKE '%' || search_normalize('initech 7') || '%';
+
+ROLLBACK;
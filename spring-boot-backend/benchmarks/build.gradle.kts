@@ -0,0 +1,49 @@
+import org.springframework.boot.gradle.plugin.SpringBootPlugin
+
+plugins {
+    java
+    id("io.spring.dependency-management")
+    id("me.champeau.jmh") version "0.7.3"
+}
+
+java {
+    sourceCompatibility = JavaVersion.VERSION_21
+}
+
+repositories {
+    mavenCentral()
+}
+
+dependencyManagement {
+    imports {
+        mavenBom(SpringBootPlugin.BOM_COORDINATES)
+    }
+}
+
+dependencies {
+    jmh(project(":"))
+    // The application declares these as implementation dependencies, so they are not on this compile classpath
+    jmh("org.springframework.boot:spring-boot-starter-web")
+    jmh("org.springframework.boot:spring-boot-starter-security")
+    jmh("org.springframework.boot:spring-boot-starter-data-jpa")
+    jmh("io.jsonwebtoken:jjwt-api:0.12.5")
+    jmh("io.micrometer:micrometer-core")
+    jmh("org.springframework:spring-test")
+    jmh("org.apache.pdfbox:pdfbox:3.0.3")
+}
+
+// Microbenchmarks of single code paths. Capacity runs that need a server and many concurrent requests, such as
+// the thread model comparison, live in loadtest/ instead.
+// ./gradlew :benchmarks:jmh [-Pjmh.includes=Jwt] writes build/results/jmh/results.json; keep it per release to
+// compare runs (e.g. with jmh.morethan.me)
+jmh {
+    jmhVersion.set("1.37")
+    resultFormat.set("JSON")
+    resultsFile.set(layout.buildDirectory.file("results/jmh/results.json"))
+    (project.findProperty("jmh.includes") as String?)?.let { includes.set(listOf(it)) }
+    fork.set(1)
+    warmupIterations.set(3)
+    iterations.set(5)
+    timeOnIteration.set("2s")
+    warmup.set("2s")
+}
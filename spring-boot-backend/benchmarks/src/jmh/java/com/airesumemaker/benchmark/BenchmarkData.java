@@ -0,0 +1,86 @@
+package com.airesumemaker.benchmark;
+
+import com.airesumemaker.dto.JobResponse;
+import com.airesumemaker.entity.Job;
+import com.airesumemaker.entity.User;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Deterministic users and jobs shaped like production rows, shared by the benchmarks.
+ */
+public final class BenchmarkData {
+
+    // HS256 needs at least 256 bits of key material
+    public static final String JWT_SECRET = "benchmark-secret-benchmark-secret-benchmark-secret";
+    public static final long JWT_EXPIRATION_MS = 24 * 60 * 60 * 1000L;
+
+    private static final String[] SKILLS = {"Java", "Spring Boot", "PostgreSQL", "Kubernetes", "React", "Python",
+            "Kafka", "AWS", "Terraform", "GraphQL", "Redis", "TypeScript"};
+
+    private BenchmarkData() {
+    }
+
+    public static User user() {
+        User user = new User();
+        user.setId(42L);
+        user.setUsername("jdoe");
+        user.setEmail("jane.doe@example.com");
+        user.setPassword("$2a$10$7EqJtq98hPqEX7fNZaFWoOhi5BWX4Z3DFPqUhnMeHbuGFOfIyBhGe");
+        user.setFirstName("Jane");
+        user.setLastName("Doe");
+        user.setRole(User.Role.JOB_SEEKER);
+        user.setEnabled(true);
+        return user;
+    }
+
+    public static List<Job> jobs(int count) {
+        LocalDateTime created = LocalDateTime.of(2024, 1, 1, 9, 0);
+        List<Job> jobs = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            Job job = new Job();
+            job.setId((long) i + 1);
+            job.setTitle("Senior Software Engineer " + i);
+            job.setDescription(("We are looking for an engineer to build and operate services handling "
+                    + (i + 1) * 1000 + " requests per second. ").repeat(6));
+            job.setCompany("Company " + i % 97);
+            job.setLocation(i % 3 == 0 ? "Remote" : "Berlin, Germany");
+            job.setSalaryMin(BigDecimal.valueOf(60000 + i % 50 * 1000L));
+            job.setSalaryMax(BigDecimal.valueOf(90000 + i % 50 * 1000L));
+            job.setJobType(Job.JobType.values()[i % Job.JobType.values().length]);
+            job.setExperienceLevel(Job.ExperienceLevel.values()[i % Job.ExperienceLevel.values().length]);
+            job.setSkills(List.of(SKILLS[i % SKILLS.length], SKILLS[(i + 3) % SKILLS.length],
+                    SKILLS[(i + 7) % SKILLS.length]));
+            job.setRequirements("5+ years of experience with " + SKILLS[i % SKILLS.length]);
+            job.setBenefits("Health insurance, 30 days vacation, learning budget");
+            job.setRecruiterEmail("recruiter" + i % 10 + "@example.com");
+            job.setCreatedAt(created.plusHours(i));
+            job.setUpdatedAt(created.plusHours(i + 1));
+            jobs.add(job);
+        }
+        return jobs;
+    }
+
+    public static List<JobResponse> jobResponses(int count) {
+        return jobs(count).stream().map(job -> new JobResponse(job.getId(), job.getTitle(), job.getDescription(),
+                job.getCompany(), job.getLocation(), job.getSalaryMin(), job.getSalaryMax(), job.getJobType(),
+                job.getExperienceLevel(), job.getSkills(), job.getRequirements(), job.getBenefits(),
+                job.getRecruiterEmail(), job.getCreatedAt(), job.getUpdatedAt())).toList();
+    }
+
+    public static String resumeText() {
+        StringBuilder text = new StringBuilder("Jane Doe - Senior Software Engineer\n");
+        for (int i = 0; i < 40; i++) {
+            text.append("- Built and operated ").append(SKILLS[i % SKILLS.length])
+                    .append(" services across ").append(i % 5 + 2).append(" regions\n");
+        }
+        return text.toString();
+    }
+
+    public static List<String> resumeSkills() {
+        return List.of(SKILLS);
+    }
+}
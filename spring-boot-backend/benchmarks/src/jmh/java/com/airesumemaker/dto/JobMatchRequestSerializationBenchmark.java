@@ -0,0 +1,49 @@
+package com.airesumemaker.dto;
+
+import com.airesumemaker.benchmark.BenchmarkData;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The /match-jobs request body with 1k candidate jobs, serialized as AIServiceClient sends it and read
+ * back as the AI service would receive it.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JobMatchRequestSerializationBenchmark {
+
+    private static final int JOBS = 1000;
+
+    private ObjectMapper objectMapper;
+    private JobMatchRequest request;
+    private byte[] json;
+
+    @Setup
+    public void setUp() throws Exception {
+        // Same defaults as the Spring Boot auto-configured mapper (java.time support, ISO dates)
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        request = new JobMatchRequest(BenchmarkData.resumeText(), BenchmarkData.resumeSkills(),
+                BenchmarkData.jobResponses(JOBS));
+        json = objectMapper.writeValueAsBytes(request);
+    }
+
+    @Benchmark
+    public byte[] serialize() throws Exception {
+        return objectMapper.writeValueAsBytes(request);
+    }
+
+    @Benchmark
+    public JobMatchRequest deserialize() throws Exception {
+        return objectMapper.readValue(json, JobMatchRequest.class);
+    }
+}
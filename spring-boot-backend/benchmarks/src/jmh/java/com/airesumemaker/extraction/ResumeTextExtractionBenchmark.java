@@ -0,0 +1,203 @@
+package com.airesumemaker.extraction;
+
+import com.airesumemaker.config.ExtractionProperties;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.pdmodel.PDPage;
+import org.apache.pdfbox.pdmodel.PDPageContentStream;
+import org.apache.pdfbox.pdmodel.font.PDType1Font;
+import org.apache.pdfbox.pdmodel.font.Standard14Fonts;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+/**
+ * PDF/DOCX resume text extraction. "extractNow" is one file on the calling thread, cycling through the
+ * corpus; "extractCorpusOnPool" is the whole corpus through extract(), the production entry point with its
+ * pool and per-file timeout, so its score divided by the corpus size is the pooled cost per file. Without -p corpus=/path/to/resumes a synthetic corpus of
+ * two to four page resumes is generated in a temp directory.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ResumeTextExtractionBenchmark {
+
+    private static final int SYNTHETIC_RESUMES = 200;
+
+    private static final String[] SKILLS = {"Java", "Spring Boot", "PostgreSQL", "Kubernetes", "React", "Python",
+            "Kafka", "AWS", "Terraform", "GraphQL", "Redis", "TypeScript"};
+
+    @Param("")
+    public String corpus;
+
+    private Path generated;
+    private List<Path> files;
+    private ResumeTextExtractor extractor;
+    // extract() blocks its caller, so each file needs a caller thread of its own, as each resume worker is
+    private ExecutorService callers;
+    private int next;
+
+    @Setup
+    public void setUp() throws IOException {
+        Path directory = Path.of(corpus);
+        if (corpus.isEmpty()) {
+            generated = generateCorpus(Files.createTempDirectory("resume-corpus"));
+            directory = generated;
+        }
+        try (Stream<Path> listing = Files.list(directory)) {
+            files = listing.filter(file -> fileType(file) != null).sorted().toList();
+        }
+        if (files.isEmpty()) {
+            throw new IllegalStateException("No .pdf or .docx files in " + directory);
+        }
+        extractor = new ResumeTextExtractor(new ExtractionProperties());
+        callers = Executors.newVirtualThreadPerTaskExecutor();
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        callers.shutdownNow();
+        extractor.shutdown();
+        if (generated != null) {
+            try (Stream<Path> listing = Files.walk(generated)) {
+                for (Path path : listing.sorted(Comparator.reverseOrder()).toList()) {
+                    Files.delete(path);
+                }
+            }
+        }
+    }
+
+    @Benchmark
+    public String extractNow() {
+        Path file = files.get(next);
+        next = (next + 1) % files.size();
+        return extractor.extractNow(file, fileType(file));
+    }
+
+    @Benchmark
+    public List<String> extractCorpusOnPool() throws InterruptedException, ExecutionException {
+        List<Future<String>> results = new ArrayList<>(files.size());
+        for (Path file : files) {
+            results.add(callers.submit(() -> extractor.extract(file, fileType(file))));
+        }
+        List<String> texts = new ArrayList<>(files.size());
+        for (Future<String> result : results) {
+            texts.add(result.get());
+        }
+        return texts;
+    }
+
+    private static String fileType(Path file) {
+        String name = file.getFileName().toString().toLowerCase(Locale.ROOT);
+        if (name.endsWith(".pdf")) {
+            return "pdf";
+        }
+        if (name.endsWith(".docx")) {
+            return "docx";
+        }
+        return null;
+    }
+
+    private static Path generateCorpus(Path directory) throws IOException {
+        for (int i = 0; i < SYNTHETIC_RESUMES; i++) {
+            List<String> lines = resumeLines(i);
+            if (i % 2 == 0) {
+                writePdf(directory.resolve("resume-" + i + ".pdf"), lines);
+            } else {
+                writeDocx(directory.resolve("resume-" + i + ".docx"), lines);
+            }
+        }
+        return directory;
+    }
+
+    // Two to four pages of plausible resume text, varied per index
+    private static List<String> resumeLines(int index) {
+        List<String> lines = new ArrayList<>();
+        lines.add("Candidate " + index + " - Senior Software Engineer");
+        lines.add("candidate" + index + "@example.com | +1 555 0100 " + index);
+        int roles = 4 + index % 5;
+        for (int role = 0; role < roles; role++) {
+            lines.add("Company " + (index * 7 + role) + ", " + (2010 + role) + " - " + (2011 + role));
+            for (int bullet = 0; bullet < 8; bullet++) {
+                String skill = SKILLS[(index + role + bullet) % SKILLS.length];
+                lines.add("- Built and operated " + skill + " services handling " + (bullet + 1) * 1000
+                        + " requests per second across " + (role + 2) + " regions");
+            }
+        }
+        lines.add("Skills: " + String.join(", ", SKILLS));
+        return lines;
+    }
+
+    private static void writePdf(Path file, List<String> lines) throws IOException {
+        PDType1Font font = new PDType1Font(Standard14Fonts.FontName.HELVETICA);
+        int linesPerPage = 45;
+        try (PDDocument document = new PDDocument()) {
+            for (int first = 0; first < lines.size(); first += linesPerPage) {
+                PDPage page = new PDPage();
+                document.addPage(page);
+                try (PDPageContentStream content = new PDPageContentStream(document, page)) {
+                    content.beginText();
+                    content.setFont(font, 10);
+                    content.setLeading(14);
+                    content.newLineAtOffset(50, 750);
+                    for (String line : lines.subList(first, Math.min(lines.size(), first + linesPerPage))) {
+                        content.showText(line);
+                        content.newLine();
+                    }
+                    content.endText();
+                }
+            }
+            document.save(file.toFile());
+        }
+    }
+
+    private static void writeDocx(Path file, List<String> lines) throws IOException {
+        StringBuilder body = new StringBuilder("<?xml version=\"1.0\" encoding=\"UTF-8\" standalone=\"yes\"?>"
+                + "<w:document xmlns:w=\"http://schemas.openxmlformats.org/wordprocessingml/2006/main\"><w:body>");
+        for (String line : lines) {
+            body.append("<w:p><w:r><w:t xml:space=\"preserve\">").append(line).append("</w:t></w:r></w:p>");
+        }
+        body.append("</w:body></w:document>");
+        try (ZipOutputStream zip = new ZipOutputStream(Files.newOutputStream(file))) {
+            entry(zip, "[Content_Types].xml", "<?xml version=\"1.0\" encoding=\"UTF-8\"?>"
+                    + "<Types xmlns=\"http://schemas.openxmlformats.org/package/2006/content-types\">"
+                    + "<Default Extension=\"rels\" ContentType=\"application/vnd.openxmlformats-package.relationships+xml\"/>"
+                    + "<Default Extension=\"xml\" ContentType=\"application/xml\"/>"
+                    + "<Override PartName=\"/word/document.xml\" ContentType=\"application/vnd.openxmlformats-officedocument.wordprocessingml.document.main+xml\"/>"
+                    + "</Types>");
+            entry(zip, "_rels/.rels", "<?xml version=\"1.0\" encoding=\"UTF-8\"?>"
+                    + "<Relationships xmlns=\"http://schemas.openxmlformats.org/package/2006/relationships\">"
+                    + "<Relationship Id=\"rId1\" Type=\"http://schemas.openxmlformats.org/officeDocument/2006/relationships/officeDocument\" Target=\"word/document.xml\"/>"
+                    + "</Relationships>");
+            entry(zip, "word/document.xml", body.toString());
+        }
+    }
+
+    private static void entry(ZipOutputStream zip, String name, String content) throws IOException {
+        zip.putNextEntry(new ZipEntry(name));
+        zip.write(content.getBytes(StandardCharsets.UTF_8));
+        zip.closeEntry();
+    }
+}
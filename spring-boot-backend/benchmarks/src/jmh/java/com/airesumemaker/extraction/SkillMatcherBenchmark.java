@@ -0,0 +1,83 @@
+package com.airesumemaker.extraction;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Skill extraction over a resume of about 5 KB with the bundled dictionary. "perTermScan" searches the text
+ * once per dictionary term, which is what the automaton replaces; "compile" is the cost of a refresh.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SkillMatcherBenchmark {
+
+    private static final String[] MENTIONS = {"Java", "Spring Boot", "PostgreSQL", "k8s", "React.js", "Python 3",
+            "Apache Kafka", "Amazon Web Services", "Terraform", "GraphQL", "Redis", "TypeScript", "C++", "C#",
+            "CI/CD", "Docker Compose", "golang", "node.js"};
+
+    private Map<String, String> terms;
+    private SkillMatcher matcher;
+    private String resume;
+
+    @Setup
+    public void setUp() throws IOException {
+        try (Reader reader = new InputStreamReader(
+                SkillMatcher.class.getResourceAsStream("/skills/dictionary.txt"), StandardCharsets.UTF_8)) {
+            terms = SkillExtractor.readDictionary(reader);
+        }
+        matcher = SkillMatcher.compile(terms);
+        StringBuilder text = new StringBuilder("Jane Doe - Senior Software Engineer\njane.doe@example.com\n\n");
+        for (int line = 0; text.length() < 5000; line++) {
+            text.append("- Designed and ran ").append(MENTIONS[line % MENTIONS.length])
+                    .append(" services handling ").append((line + 1) * 1000)
+                    .append(" requests per second with ").append(MENTIONS[(line * 7 + 3) % MENTIONS.length])
+                    .append(" and a team of ").append(line % 9 + 2).append(" engineers\n");
+        }
+        resume = text.toString();
+    }
+
+    @Benchmark
+    public List<String> extract() {
+        return matcher.extract(resume);
+    }
+
+    @Benchmark
+    public List<String> perTermScan() {
+        String lower = resume.toLowerCase(Locale.ROOT);
+        List<String> found = new ArrayList<>();
+        for (Map.Entry<String, String> term : terms.entrySet()) {
+            int at = lower.indexOf(term.getKey());
+            while (at >= 0) {
+                int end = at + term.getKey().length();
+                if ((at == 0 || !SkillMatcher.isWordChar(lower.charAt(at - 1)))
+                        && (end == lower.length() || !SkillMatcher.isWordChar(lower.charAt(end)))) {
+                    found.add(term.getValue());
+                    break;
+                }
+                at = lower.indexOf(term.getKey(), at + 1);
+            }
+        }
+        return found;
+    }
+
+    @Benchmark
+    public SkillMatcher compile() {
+        return SkillMatcher.compile(terms);
+    }
+}
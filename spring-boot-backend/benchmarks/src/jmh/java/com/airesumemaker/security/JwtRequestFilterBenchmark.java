@@ -0,0 +1,101 @@
+package com.airesumemaker.security;
+
+import com.airesumemaker.benchmark.BenchmarkData;
+import com.airesumemaker.entity.User;
+import com.airesumemaker.repository.UserRepository;
+import com.airesumemaker.service.UserDetailsServiceImpl;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.lang.reflect.Proxy;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Date;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * One authenticated request through JwtRequestFilter with the token already in the verified-token cache,
+ * as for every request after a user's first. "claims" tokens authenticate from their own claims; "legacy"
+ * tokens carry only the subject and go through UserDetailsServiceImpl, backed here by an in-memory lookup
+ * so the number reflects the filter and not the database.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtRequestFilterBenchmark {
+
+    private static final FilterChain NO_OP_CHAIN = (request, response) -> {
+    };
+
+    @Param({"claims", "legacy"})
+    public String tokenKind;
+
+    private JwtRequestFilter filter;
+    private MockHttpServletRequest request;
+    private MockHttpServletResponse response;
+
+    @Setup
+    public void setUp() {
+        User user = BenchmarkData.user();
+        UserRepository users = userLookup(user);
+        JwtUtil jwtUtil = new JwtUtil(BenchmarkData.JWT_SECRET, BenchmarkData.JWT_EXPIRATION_MS, 10000);
+        // Not started: no refresh thread, and an empty disabled-user snapshot as after a refresh
+        UserStatusCache userStatusCache = new UserStatusCache(users, Duration.ofSeconds(30));
+        filter = new JwtRequestFilter(new UserDetailsServiceImpl(users), jwtUtil, userStatusCache,
+                new SimpleMeterRegistry());
+
+        String token = "claims".equals(tokenKind) ? jwtUtil.generateToken(user) : legacyToken(user);
+        request = new MockHttpServletRequest("GET", "/api/jobs");
+        request.addHeader("Authorization", "Bearer " + token);
+        response = new MockHttpServletResponse();
+    }
+
+    @Benchmark
+    public Authentication filter() throws Exception {
+        try {
+            filter.doFilter(request, response, NO_OP_CHAIN);
+            return SecurityContextHolder.getContext().getAuthentication();
+        } finally {
+            SecurityContextHolder.clearContext();
+        }
+    }
+
+    private static String legacyToken(User user) {
+        long now = System.currentTimeMillis();
+        return Jwts.builder()
+                .subject(user.getEmail())
+                .issuedAt(new Date(now))
+                .expiration(new Date(now + BenchmarkData.JWT_EXPIRATION_MS))
+                .signWith(Keys.hmacShaKeyFor(BenchmarkData.JWT_SECRET.getBytes(StandardCharsets.UTF_8)))
+                .compact();
+    }
+
+    // Answers the two lookups the filter path makes; anything else is a benchmark bug
+    private static UserRepository userLookup(User user) {
+        return (UserRepository) Proxy.newProxyInstance(UserRepository.class.getClassLoader(),
+                new Class<?>[]{UserRepository.class}, (proxy, method, args) -> switch (method.getName()) {
+                    case "findByEmail" -> user.getEmail().equals(args[0]) ? Optional.of(user) : Optional.empty();
+                    case "findDisabledUserIds" -> List.of();
+                    case "hashCode" -> System.identityHashCode(proxy);
+                    case "equals" -> proxy == args[0];
+                    case "toString" -> "UserRepository(benchmark)";
+                    default -> throw new UnsupportedOperationException(method.getName());
+                });
+    }
+}
@@ -0,0 +1,65 @@
+package com.airesumemaker.security;
+
+import com.airesumemaker.benchmark.BenchmarkData;
+import com.airesumemaker.entity.User;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Token issue and verification. "uncached" parses and checks the HMAC on every call, as for the first
+ * request with a token; "cached" is every later request served from the verified-token cache.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtUtilBenchmark {
+
+    private JwtUtil uncached;
+    private JwtUtil cached;
+    private User user;
+    private UserDetails userDetails;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        uncached = new JwtUtil(BenchmarkData.JWT_SECRET, BenchmarkData.JWT_EXPIRATION_MS, 0);
+        cached = new JwtUtil(BenchmarkData.JWT_SECRET, BenchmarkData.JWT_EXPIRATION_MS, 10000);
+        user = BenchmarkData.user();
+        token = uncached.generateToken(user);
+        userDetails = JwtUserPrincipal.fromToken(uncached.verify(token));
+        cached.verify(token);
+    }
+
+    @Benchmark
+    public String generateToken() {
+        return uncached.generateToken(user);
+    }
+
+    @Benchmark
+    public VerifiedToken parseUncached() {
+        return uncached.verify(token);
+    }
+
+    @Benchmark
+    public VerifiedToken parseCached() {
+        return cached.verify(token);
+    }
+
+    @Benchmark
+    public Boolean validateUncached() {
+        return uncached.validateToken(token, userDetails);
+    }
+
+    @Benchmark
+    public Boolean validateCached() {
+        return cached.validateToken(token, userDetails);
+    }
+}
@@ -0,0 +1,68 @@
+package com.airesumemaker.service;
+
+import com.airesumemaker.benchmark.BenchmarkData;
+import com.airesumemaker.dto.JobResponse;
+import com.airesumemaker.entity.Job;
+import com.airesumemaker.repository.JobRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.lang.reflect.Proxy;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Entity to DTO mapping for a page of jobs through JobService.getJob, with the repository answering from
+ * memory; the score is per job.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class JobResponseMappingBenchmark {
+
+    private static final int JOBS = 1000;
+
+    private JobService jobService;
+    private List<Long> ids;
+
+    @Setup
+    public void setUp() {
+        Map<Long, Job> jobs = new HashMap<>();
+        for (Job job : BenchmarkData.jobs(JOBS)) {
+            jobs.put(job.getId(), job);
+        }
+        ids = List.copyOf(jobs.keySet());
+        jobService = new JobService(jobLookup(jobs), null, null, null);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(JOBS)
+    public void getJob(Blackhole blackhole) {
+        for (Long id : ids) {
+            JobResponse response = jobService.getJob(id);
+            blackhole.consume(response);
+        }
+    }
+
+    // Answers the one lookup getJob makes; anything else is a benchmark bug
+    private static JobRepository jobLookup(Map<Long, Job> jobs) {
+        return (JobRepository) Proxy.newProxyInstance(JobRepository.class.getClassLoader(),
+                new Class<?>[]{JobRepository.class}, (proxy, method, args) -> switch (method.getName()) {
+                    case "findById" -> Optional.ofNullable(jobs.get((Long) args[0]));
+                    case "hashCode" -> System.identityHashCode(proxy);
+                    case "equals" -> proxy == args[0];
+                    case "toString" -> "JobRepository(benchmark)";
+                    default -> throw new UnsupportedOperationException(method.getName());
+                });
+    }
+}
@@ -31,6 +31,7 @@ dependencies {
     implementation("org.springframework.boot:spring-boot-starter-security")
     implementation("org.springframework.boot:spring-boot-starter-validation")
     implementation("org.springframework.boot:spring-boot-starter-actuator")
+    runtimeOnly("io.micrometer:micrometer-registry-prometheus")
     implementation("org.springframework.boot:spring-boot-starter-data-elasticsearch")
     
     // JWT
@@ -48,10 +49,14 @@ dependencies {
     
     // HTTP Client
     implementation("org.springframework.boot:spring-boot-starter-webflux")
+    implementation("org.apache.httpcomponents.client5:httpclient5")
     
     // File Upload
     implementation("commons-fileupload:commons-fileupload:1.5")
     implementation("commons-io:commons-io:2.15.1")
+
+    // Resume text extraction (DOCX is read with the JDK's zip and StAX support)
+    implementation("org.apache.pdfbox:pdfbox:3.0.3")
     
     // Lombok
     compileOnly("org.projectlombok:lombok")
@@ -66,6 +71,7 @@ dependencies {
     testImplementation("org.testcontainers:junit-jupiter")
     testImplementation("org.testcontainers:postgresql")
     testImplementation("org.testcontainers:elasticsearch")
+    testRuntimeOnly("org.junit.platform:junit-platform-launcher")
     
     annotationProcessor("org.springframework.boot:spring-boot-configuration-processor")
 }
@@ -77,6 +83,18 @@ tasks.withType<KotlinCompile> {
     }
 }
 
+// Local job matching scores embeddings with the incubating Vector API
+val vectorApiArgs = listOf("--add-modules", "jdk.incubator.vector")
+
+tasks.withType<JavaCompile> {
+    options.compilerArgs.addAll(vectorApiArgs)
+}
+
 tasks.withType<Test> {
     useJUnitPlatform()
+    jvmArgs(vectorApiArgs)
+}
+
+tasks.named<org.springframework.boot.gradle.tasks.run.BootRun>("bootRun") {
+    jvmArgs(vectorApiArgs)
 }
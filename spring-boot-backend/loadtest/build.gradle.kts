@@ -0,0 +1,53 @@
+import org.springframework.boot.gradle.plugin.SpringBootPlugin
+
+plugins {
+    java
+    id("io.spring.dependency-management")
+}
+
+java {
+    sourceCompatibility = JavaVersion.VERSION_21
+}
+
+repositories {
+    mavenCentral()
+}
+
+dependencyManagement {
+    imports {
+        mavenBom(SpringBootPlugin.BOM_COORDINATES)
+    }
+}
+
+dependencies {
+    implementation(project(":"))
+    // The application declares these as implementation dependencies, so they are not on this compile classpath
+    implementation("org.springframework.boot:spring-boot-starter-web")
+    implementation("org.testcontainers:postgresql")
+    implementation("org.apache.httpcomponents.client5:httpclient5")
+    implementation("io.micrometer:micrometer-core")
+}
+
+// ./gradlew :loadtest:loadTest -Prps=200 -Pduration=2m [-PappArgs="--spring.threads.virtual.enabled=true"]
+// Needs Docker for Postgres. Any LoadTest option (rps, duration, warmup, mix, users, recruiters, seedJobs,
+// maxInFlight, analyzeLatency, matchLatency, embedLatency, postgresImage, results) can be set as -P<name>=...
+tasks.register<JavaExec>("loadTest") {
+    group = "verification"
+    description = "Boots the backend against Testcontainers Postgres and a stub AI service and load tests it"
+    classpath = sourceSets.main.get().runtimeClasspath
+    mainClass.set("com.airesumemaker.loadtest.LoadTest")
+    jvmArgs("--add-modules", "jdk.incubator.vector")
+    val options = listOf("rps", "duration", "warmup", "mix", "users", "recruiters", "seedJobs", "maxInFlight",
+            "analyzeLatency", "matchLatency", "embedLatency", "postgresImage", "results")
+    args(options.mapNotNull { name -> project.findProperty(name)?.let { "$name=$it" } })
+    (project.findProperty("appArgs") as String?)?.let { args(it.split(" ").filter(String::isNotBlank)) }
+}
+
+// ./gradlew :loadtest:threadModelBenchmark [-Prequests=2000] [-PlatencyMs=1000] [-Pconnections=N]
+tasks.register<JavaExec>("threadModelBenchmark") {
+    group = "verification"
+    description = "Compares concurrent in-flight AI match calls on platform vs virtual request threads"
+    classpath = sourceSets.main.get().runtimeClasspath
+    mainClass.set("com.airesumemaker.loadtest.ThreadModelBenchmark")
+    args(listOf("requests", "latencyMs", "connections").mapNotNull { project.findProperty(it)?.toString() })
+}
@@ -0,0 +1,140 @@
+package com.airesumemaker.loadtest;
+
+import com.airesumemaker.dto.EmbeddingRequest;
+import com.airesumemaker.dto.EmbeddingResponse;
+import com.airesumemaker.dto.JobMatchResponse;
+import com.airesumemaker.dto.ResumeAnalysisBatchRequest;
+import com.airesumemaker.dto.ResumeAnalysisBatchResponse;
+import com.airesumemaker.dto.ResumeAnalysisResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * In-process stand-in for the FastAPI AI service. Each endpoint the backend calls answers with a well-formed
+ * body built from the backend's own DTOs after a delay drawn from its latency distribution. Requests run on
+ * virtual threads so the stub never caps concurrency itself.
+ */
+final class AiServiceStub implements AutoCloseable {
+
+    // matching.dimension
+    private static final int EMBEDDING_DIMENSION = 384;
+
+    private interface Responder {
+        Object respond(byte[] body) throws IOException;
+    }
+
+    private final HttpServer server;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final Map<String, LongAdder> calls = new ConcurrentHashMap<>();
+
+    AiServiceStub(LatencyDistribution analyzeLatency, LatencyDistribution matchLatency,
+                  LatencyDistribution embedLatency) throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 4096);
+        server.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+        route("/analyze-resume", analyzeLatency, body -> analysis());
+        route("/analyze-resume/batch", analyzeLatency, body -> {
+            ResumeAnalysisBatchRequest request = objectMapper.readValue(body, ResumeAnalysisBatchRequest.class);
+            List<ResumeAnalysisBatchResponse.Result> results = new ArrayList<>();
+            for (int i = 0; i < request.getItems().size(); i++) {
+                ResumeAnalysisBatchResponse.Result result = new ResumeAnalysisBatchResponse.Result();
+                result.setAnalysis(analysis());
+                results.add(result);
+            }
+            ResumeAnalysisBatchResponse response = new ResumeAnalysisBatchResponse();
+            response.setResults(results);
+            return response;
+        });
+        route("/match-jobs", matchLatency, body -> {
+            JobMatchResponse response = new JobMatchResponse();
+            response.setMatches(List.of());
+            return response;
+        });
+        route("/embed", embedLatency, body -> {
+            EmbeddingRequest request = objectMapper.readValue(body, EmbeddingRequest.class);
+            EmbeddingResponse response = new EmbeddingResponse();
+            response.setEmbeddings(request.getTexts().stream().map(AiServiceStub::embedding).toList());
+            response.setModel("load-test-stub");
+            response.setDimension(EMBEDDING_DIMENSION);
+            return response;
+        });
+        server.start();
+    }
+
+    String baseUrl() {
+        return "http://127.0.0.1:" + server.getAddress().getPort();
+    }
+
+    Map<String, Long> calls() {
+        Map<String, Long> counts = new TreeMap<>();
+        calls.forEach((path, count) -> counts.put(path, count.sum()));
+        return counts;
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+    }
+
+    private void route(String path, LatencyDistribution latency, Responder responder) {
+        LongAdder count = calls.computeIfAbsent(path, key -> new LongAdder());
+        server.createContext(path, exchange -> {
+            try (exchange) {
+                count.increment();
+                byte[] body = exchange.getRequestBody().readAllBytes();
+                Thread.sleep(latency.sampleMillis());
+                respond(exchange, 200, objectMapper.writeValueAsBytes(responder.respond(body)));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (IOException | RuntimeException e) {
+                respond(exchange, 500, objectMapper.writeValueAsBytes(Map.of("detail", String.valueOf(e.getMessage()))));
+            }
+        });
+    }
+
+    private static void respond(HttpExchange exchange, int status, byte[] json) throws IOException {
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, json.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(json);
+        }
+    }
+
+    private static ResumeAnalysisResponse analysis() {
+        ResumeAnalysisResponse analysis = new ResumeAnalysisResponse();
+        analysis.setSkills(List.of("Java", "Spring Boot", "PostgreSQL"));
+        analysis.setExperience("5 years");
+        analysis.setSummary("Backend engineer");
+        analysis.setEducation(List.of());
+        analysis.setCertifications(List.of());
+        return analysis;
+    }
+
+    // Unit vector that is stable per text, so identical job texts score identically
+    private static float[] embedding(String text) {
+        SplittableRandom random = new SplittableRandom(text == null ? 0 : text.hashCode());
+        float[] vector = new float[EMBEDDING_DIMENSION];
+        double norm = 0;
+        for (int i = 0; i < vector.length; i++) {
+            vector[i] = (float) (random.nextDouble() * 2 - 1);
+            norm += vector[i] * vector[i];
+        }
+        float scale = (float) (1 / Math.sqrt(norm));
+        for (int i = 0; i < vector.length; i++) {
+            vector[i] *= scale;
+        }
+        return vector;
+    }
+}
@@ -0,0 +1,78 @@
+package com.airesumemaker.loadtest;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Latencies and outcomes for one endpoint. Latency is measured from when a request was scheduled to go out,
+ * not from when it was actually sent, so a backed-up server shows in the percentiles instead of quietly
+ * lowering the offered rate.
+ */
+final class EndpointStats {
+
+    record Summary(String endpoint, long requests, long errors, long dropped, double throughput,
+                   double p50Ms, double p95Ms, double p99Ms, double maxMs, Map<String, Long> outcomes) {
+    }
+
+    private final String endpoint;
+    private final ReentrantLock lock = new ReentrantLock();
+    private long[] latencies = new long[4096];
+    private int count;
+    private final LongAdder errors = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+    // HTTP status, or the exception class when no response arrived
+    private final Map<String, LongAdder> outcomes = new ConcurrentHashMap<>();
+
+    EndpointStats(String endpoint) {
+        this.endpoint = endpoint;
+    }
+
+    void record(long latencyNanos, String outcome, boolean error) {
+        outcomes.computeIfAbsent(outcome, key -> new LongAdder()).increment();
+        if (error) {
+            errors.increment();
+        }
+        lock.lock();
+        try {
+            if (count == latencies.length) {
+                latencies = Arrays.copyOf(latencies, count * 2);
+            }
+            latencies[count++] = latencyNanos;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // Not sent because too many requests were already outstanding
+    void dropped() {
+        dropped.increment();
+    }
+
+    Summary summarize(double seconds) {
+        long[] sorted;
+        lock.lock();
+        try {
+            sorted = Arrays.copyOf(latencies, count);
+        } finally {
+            lock.unlock();
+        }
+        Arrays.sort(sorted);
+        Map<String, Long> byOutcome = new TreeMap<>();
+        outcomes.forEach((outcome, n) -> byOutcome.put(outcome, n.sum()));
+        return new Summary(endpoint, sorted.length, errors.sum(), dropped.sum(), sorted.length / seconds,
+                percentileMs(sorted, 0.50), percentileMs(sorted, 0.95), percentileMs(sorted, 0.99),
+                sorted.length == 0 ? 0 : sorted[sorted.length - 1] / 1e6, byOutcome);
+    }
+
+    private static double percentileMs(long[] sorted, double percentile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.ceil(percentile * sorted.length) - 1;
+        return sorted[Math.max(0, index)] / 1e6;
+    }
+}
@@ -0,0 +1,58 @@
+package com.airesumemaker.loadtest;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.LongSupplier;
+
+/**
+ * Response delay for a stubbed AI endpoint, parsed from "fixed:200", "uniform:50-400" or
+ * "lognormal:800,0.5" (median ms, sigma). Lognormal is the realistic shape for a hosted model: most calls
+ * near the median and a long slow tail.
+ */
+final class LatencyDistribution {
+
+    private final String spec;
+    private final LongSupplier sampler;
+
+    private LatencyDistribution(String spec, LongSupplier sampler) {
+        this.spec = spec;
+        this.sampler = sampler;
+    }
+
+    static LatencyDistribution parse(String spec) {
+        String[] kindAndArgs = spec.split(":", 2);
+        if (kindAndArgs.length != 2) {
+            throw new IllegalArgumentException("Latency must look like fixed:200, uniform:50-400 or lognormal:800,0.5: "
+                    + spec);
+        }
+        String args = kindAndArgs[1];
+        LongSupplier sampler = switch (kindAndArgs[0]) {
+            case "fixed" -> {
+                long millis = Long.parseLong(args);
+                yield () -> millis;
+            }
+            case "uniform" -> {
+                String[] bounds = args.split("-");
+                long min = Long.parseLong(bounds[0]);
+                long max = Long.parseLong(bounds[1]);
+                yield () -> ThreadLocalRandom.current().nextLong(min, max + 1);
+            }
+            case "lognormal" -> {
+                String[] params = args.split(",");
+                double mu = Math.log(Double.parseDouble(params[0]));
+                double sigma = Double.parseDouble(params[1]);
+                yield () -> Math.round(Math.exp(mu + sigma * ThreadLocalRandom.current().nextGaussian()));
+            }
+            default -> throw new IllegalArgumentException("Unknown latency distribution: " + spec);
+        };
+        return new LatencyDistribution(spec, sampler);
+    }
+
+    long sampleMillis() {
+        return sampler.getAsLong();
+    }
+
+    @Override
+    public String toString() {
+        return spec;
+    }
+}
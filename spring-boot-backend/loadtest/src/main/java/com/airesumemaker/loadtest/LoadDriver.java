@@ -0,0 +1,305 @@
+package com.airesumemaker.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.IntConsumer;
+
+/**
+ * Seeds users and jobs through the public API, then sends an open-loop mix of requests at a fixed rate:
+ * request i goes out at start + i / rps whether or not earlier ones have finished, as real clients would.
+ */
+final class LoadDriver {
+
+    enum Endpoint {
+        LOGIN("login", "POST /auth/login"),
+        LIST_JOBS("jobs", "GET /jobs"),
+        CREATE_JOB("create", "POST /jobs");
+
+        final String key;
+        final String label;
+
+        Endpoint(String key, String label) {
+            this.key = key;
+            this.label = label;
+        }
+    }
+
+    private record Account(String email, String password, String token) {
+    }
+
+    private static final String PASSWORD = "load-test-password";
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(60);
+    private static final int SEED_CONCURRENCY = 16;
+
+    private static final String[] SKILLS = {"Java", "Spring Boot", "PostgreSQL", "Kubernetes", "React", "Python",
+            "Kafka", "AWS", "Terraform", "GraphQL", "Redis", "TypeScript"};
+    private static final String[] LOCATIONS = {"Berlin, Germany", "Remote", "London, UK", "New York, NY",
+            "São Paulo, Brazil", "Toronto, Canada"};
+    private static final String[] LOCATION_FILTERS = {"berlin", "remote", "london", "york", "sao paulo", "toronto"};
+    private static final String[] COMPANIES = {"Acme", "Globex", "Initech", "Umbrella", "Hooli", "Stark Industries"};
+    private static final String[] JOB_TYPES = {"FULL_TIME", "PART_TIME", "CONTRACT", "FREELANCE", "INTERNSHIP"};
+    private static final String[] LEVELS = {"ENTRY_LEVEL", "MID_LEVEL", "SENIOR_LEVEL", "EXECUTIVE"};
+
+    private final String baseUrl;
+    private final ObjectMapper objectMapper;
+    private final HttpClient http;
+
+    private final List<Account> seekers = new ArrayList<>();
+    private final List<Account> recruiters = new ArrayList<>();
+
+    LoadDriver(String baseUrl, ObjectMapper objectMapper) {
+        this.baseUrl = baseUrl;
+        this.objectMapper = objectMapper;
+        this.http = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .build();
+    }
+
+    void seed(int seekerCount, int recruiterCount, int jobCount) {
+        seekers.addAll(register("seeker", "JOB_SEEKER", seekerCount));
+        recruiters.addAll(register("recruiter", "RECRUITER", recruiterCount));
+        parallel(jobCount, i -> {
+            HttpResponse<String> response = send(createJob(recruiters.get(i % recruiters.size())));
+            require(response, "create job");
+        });
+    }
+
+    /**
+     * Runs the mix at rps for the given duration and returns per-endpoint stats. At most maxInFlight requests
+     * are outstanding; beyond that new ones are counted as dropped rather than queued without bound.
+     */
+    Map<Endpoint, EndpointStats> run(double rps, Duration duration, Map<Endpoint, Integer> mix, int maxInFlight) {
+        Map<Endpoint, EndpointStats> stats = new EnumMap<>(Endpoint.class);
+        for (Endpoint endpoint : Endpoint.values()) {
+            stats.put(endpoint, new EndpointStats(endpoint.label));
+        }
+        Endpoint[] weighted = mix.entrySet().stream()
+                .flatMap(entry -> Collections.nCopies(entry.getValue(), entry.getKey()).stream())
+                .toArray(Endpoint[]::new);
+        Semaphore inFlight = new Semaphore(maxInFlight);
+        long durationNanos = duration.toNanos();
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            long start = System.nanoTime();
+            for (long i = 0; ; i++) {
+                long intended = start + (long) (i * 1e9 / rps);
+                if (intended - start >= durationNanos) {
+                    break;
+                }
+                long wait = intended - System.nanoTime();
+                if (wait > 0) {
+                    LockSupport.parkNanos(wait);
+                }
+                Endpoint endpoint = weighted[ThreadLocalRandom.current().nextInt(weighted.length)];
+                EndpointStats endpointStats = stats.get(endpoint);
+                if (!inFlight.tryAcquire()) {
+                    endpointStats.dropped();
+                    continue;
+                }
+                executor.execute(() -> {
+                    try {
+                        HttpResponse<String> response = send(request(endpoint));
+                        int status = response.statusCode();
+                        endpointStats.record(System.nanoTime() - intended, String.valueOf(status), status >= 400);
+                    } catch (RuntimeException e) {
+                        Throwable cause = e.getCause() != null ? e.getCause() : e;
+                        endpointStats.record(System.nanoTime() - intended, cause.getClass().getSimpleName(), true);
+                    } finally {
+                        inFlight.release();
+                    }
+                });
+            }
+        }
+        return stats;
+    }
+
+    static Map<Endpoint, Integer> parseMix(String mix) {
+        Map<Endpoint, Integer> weights = new LinkedHashMap<>();
+        for (String part : mix.split(",")) {
+            String[] keyAndWeight = part.trim().split(":");
+            Endpoint endpoint = null;
+            for (Endpoint candidate : Endpoint.values()) {
+                if (candidate.key.equals(keyAndWeight[0])) {
+                    endpoint = candidate;
+                }
+            }
+            if (endpoint == null || keyAndWeight.length != 2) {
+                throw new IllegalArgumentException("Mix entries look like login:1,jobs:8,create:1, got " + part);
+            }
+            int weight = Integer.parseInt(keyAndWeight[1]);
+            if (weight > 0) {
+                weights.put(endpoint, weight);
+            }
+        }
+        if (weights.isEmpty()) {
+            throw new IllegalArgumentException("Mix has no endpoint with a positive weight: " + mix);
+        }
+        return weights;
+    }
+
+    private HttpRequest request(Endpoint endpoint) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        return switch (endpoint) {
+            case LOGIN -> {
+                Account account = seekers.get(random.nextInt(seekers.size()));
+                yield post("/auth/login", Map.of("email", account.email(), "password", account.password()), null);
+            }
+            case LIST_JOBS -> get(jobsQuery(random), seekers.get(random.nextInt(seekers.size())).token());
+            case CREATE_JOB -> createJob(recruiters.get(random.nextInt(recruiters.size())));
+        };
+    }
+
+    // A spread of the filter combinations the job board sends
+    private static String jobsQuery(ThreadLocalRandom random) {
+        StringBuilder query = new StringBuilder("/jobs?size=20&page=").append(random.nextInt(5));
+        if (random.nextInt(2) == 0) {
+            query.append("&location=").append(encode(LOCATION_FILTERS[random.nextInt(LOCATION_FILTERS.length)]));
+        }
+        if (random.nextInt(2) == 0) {
+            query.append("&skills=").append(encode(SKILLS[random.nextInt(SKILLS.length)]));
+            if (random.nextInt(2) == 0) {
+                query.append("&skills=").append(encode(SKILLS[random.nextInt(SKILLS.length)]));
+            }
+        }
+        if (random.nextInt(4) == 0) {
+            query.append("&company=").append(encode(COMPANIES[random.nextInt(COMPANIES.length)].toLowerCase()));
+        }
+        return query.toString();
+    }
+
+    private HttpRequest createJob(Account recruiter) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int salary = 50_000 + random.nextInt(100) * 1_000;
+        Map<String, Object> job = new LinkedHashMap<>();
+        job.put("title", "Software Engineer " + random.nextInt(100_000));
+        job.put("description", "Build and operate services for a growing platform. ".repeat(8));
+        job.put("company", COMPANIES[random.nextInt(COMPANIES.length)]);
+        job.put("location", LOCATIONS[random.nextInt(LOCATIONS.length)]);
+        job.put("salaryMin", salary);
+        job.put("salaryMax", salary + 30_000);
+        job.put("jobType", JOB_TYPES[random.nextInt(JOB_TYPES.length)]);
+        job.put("experienceLevel", LEVELS[random.nextInt(LEVELS.length)]);
+        job.put("skills", List.of(SKILLS[random.nextInt(SKILLS.length)], SKILLS[random.nextInt(SKILLS.length)]));
+        job.put("requirements", "3+ years of professional experience");
+        job.put("benefits", "Remote friendly, learning budget");
+        return post("/jobs", job, recruiter.token());
+    }
+
+    private List<Account> register(String prefix, String role, int count) {
+        Account[] accounts = new Account[count];
+        String run = Long.toString(System.currentTimeMillis(), 36);
+        parallel(count, i -> {
+            String email = prefix + i + "-" + run + "@loadtest.example.com";
+            Map<String, Object> body = Map.of("username", prefix + i + "-" + run, "email", email,
+                    "password", PASSWORD, "firstName", "Load", "lastName", "Test " + i, "role", role);
+            HttpResponse<String> response = send(post("/auth/register", body, null));
+            require(response, "register " + email);
+            try {
+                JsonNode auth = objectMapper.readTree(response.body());
+                accounts[i] = new Account(email, PASSWORD, auth.get("token").asText());
+            } catch (IOException e) {
+                throw new IllegalStateException("Unreadable register response: " + response.body(), e);
+            }
+        });
+        return List.of(accounts);
+    }
+
+    private HttpRequest get(String path, String token) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(baseUrl + path)).timeout(REQUEST_TIMEOUT).GET();
+        if (token != null) {
+            builder.header("Authorization", "Bearer " + token);
+        }
+        return builder.build();
+    }
+
+    private HttpRequest post(String path, Object body, String token) {
+        byte[] json;
+        try {
+            json = objectMapper.writeValueAsBytes(body);
+        } catch (IOException e) {
+            throw new IllegalArgumentException(e);
+        }
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .timeout(REQUEST_TIMEOUT)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofByteArray(json));
+        if (token != null) {
+            builder.header("Authorization", "Bearer " + token);
+        }
+        return builder.build();
+    }
+
+    private HttpResponse<String> send(HttpRequest request) {
+        try {
+            return http.send(request, HttpResponse.BodyHandlers.ofString());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted", e);
+        }
+    }
+
+    private static void require(HttpResponse<String> response, String action) {
+        if (response.statusCode() >= 300) {
+            throw new IllegalStateException(action + " failed with " + response.statusCode() + ": " + response.body());
+        }
+    }
+
+    private static void parallel(int count, IntConsumer task) {
+        Semaphore permits = new Semaphore(SEED_CONCURRENCY);
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<?>> results = new ArrayList<>();
+            for (int i = 0; i < count; i++) {
+                int index = i;
+                permits.acquireUninterruptibly();
+                results.add(executor.submit(() -> {
+                    try {
+                        task.accept(index);
+                    } finally {
+                        permits.release();
+                    }
+                }));
+            }
+            for (Future<?> result : results) {
+                try {
+                    result.get();
+                } catch (ExecutionException e) {
+                    throw new IllegalStateException("Seeding failed: " + e.getCause().getMessage(), e.getCause());
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new IllegalStateException("Interrupted while seeding", e);
+                }
+            }
+        }
+    }
+
+    private static String encode(String value) {
+        return URLEncoder.encode(value, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,159 @@
+package com.airesumemaker.loadtest;
+
+import com.airesumemaker.AiResumeMakerApplication;
+import com.airesumemaker.loadtest.LoadDriver.Endpoint;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.convert.DurationStyle;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.utility.DockerImageName;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Boots the backend against a throwaway Postgres (Testcontainers, needs Docker) and an in-process AI service
+ * stub, seeds users and jobs, then drives login, job search and job creation at a target rate and reports
+ * p50/p95/p99 latency and throughput per endpoint.
+ *
+ * Args are key=value (see DEFAULTS); anything starting with -- is passed to the application, e.g.
+ * --spring.threads.virtual.enabled=true. Results are also written as JSON to the results path.
+ */
+public class LoadTest {
+
+    private static final Map<String, String> DEFAULTS = new LinkedHashMap<>();
+
+    static {
+        DEFAULTS.put("rps", "100");
+        DEFAULTS.put("duration", "60s");
+        DEFAULTS.put("warmup", "15s");
+        DEFAULTS.put("mix", "login:1,jobs:8,create:1");
+        DEFAULTS.put("users", "50");
+        DEFAULTS.put("recruiters", "5");
+        DEFAULTS.put("seedJobs", "500");
+        DEFAULTS.put("maxInFlight", "5000");
+        DEFAULTS.put("analyzeLatency", "lognormal:1500,0.5");
+        DEFAULTS.put("matchLatency", "lognormal:800,0.5");
+        DEFAULTS.put("embedLatency", "lognormal:40,0.3");
+        DEFAULTS.put("postgresImage", "postgres:16-alpine");
+        DEFAULTS.put("results", "build/loadtest/results.json");
+    }
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = new LinkedHashMap<>(DEFAULTS);
+        List<String> appArgs = new ArrayList<>();
+        for (String arg : args) {
+            if (arg.startsWith("--")) {
+                appArgs.add(arg);
+            } else if (arg.contains("=") && DEFAULTS.containsKey(arg.substring(0, arg.indexOf('=')))) {
+                options.put(arg.substring(0, arg.indexOf('=')), arg.substring(arg.indexOf('=') + 1));
+            } else {
+                throw new IllegalArgumentException("Unknown argument " + arg + "; options are " + DEFAULTS.keySet());
+            }
+        }
+        double rps = Double.parseDouble(options.get("rps"));
+        Duration duration = DurationStyle.detectAndParse(options.get("duration"));
+        Duration warmup = DurationStyle.detectAndParse(options.get("warmup"));
+        Map<Endpoint, Integer> mix = LoadDriver.parseMix(options.get("mix"));
+        int maxInFlight = Integer.parseInt(options.get("maxInFlight"));
+        ObjectMapper objectMapper = new ObjectMapper();
+
+        try (PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>(
+                DockerImageName.parse(options.get("postgresImage")).asCompatibleSubstituteFor("postgres"));
+             AiServiceStub stub = new AiServiceStub(LatencyDistribution.parse(options.get("analyzeLatency")),
+                     LatencyDistribution.parse(options.get("matchLatency")),
+                     LatencyDistribution.parse(options.get("embedLatency")))) {
+            postgres.start();
+            Path workDir = Files.createTempDirectory("airesumemaker-loadtest");
+            try (ConfigurableApplicationContext app = boot(postgres, stub, workDir, appArgs)) {
+                int port = app.getEnvironment().getRequiredProperty("local.server.port", Integer.class);
+                LoadDriver driver = new LoadDriver("http://127.0.0.1:" + port + "/api", objectMapper);
+
+                System.out.printf(Locale.ROOT, "Seeding %s users, %s recruiters and %s jobs%n",
+                        options.get("users"), options.get("recruiters"), options.get("seedJobs"));
+                driver.seed(Integer.parseInt(options.get("users")), Integer.parseInt(options.get("recruiters")),
+                        Integer.parseInt(options.get("seedJobs")));
+
+                if (!warmup.isZero()) {
+                    System.out.printf(Locale.ROOT, "Warming up for %s at %.0f req/s%n", warmup, rps);
+                    driver.run(rps, warmup, mix, maxInFlight);
+                }
+                System.out.printf(Locale.ROOT, "Measuring for %s at %.0f req/s, mix %s%n", duration, rps, mix);
+                long start = System.nanoTime();
+                Map<Endpoint, EndpointStats> stats = driver.run(rps, duration, mix, maxInFlight);
+                double seconds = (System.nanoTime() - start) / 1e9;
+
+                List<EndpointStats.Summary> summaries = new ArrayList<>();
+                for (Endpoint endpoint : mix.keySet()) {
+                    summaries.add(stats.get(endpoint).summarize(seconds));
+                }
+                print(summaries, stub.calls());
+                write(Path.of(options.get("results")), options, appArgs, summaries, stub.calls(), objectMapper);
+            }
+        }
+    }
+
+    private static ConfigurableApplicationContext boot(PostgreSQLContainer<?> postgres, AiServiceStub stub,
+                                                       Path workDir, List<String> appArgs) {
+        Map<String, Object> properties = new LinkedHashMap<>();
+        properties.put("server.port", 0);
+        properties.put("spring.datasource.url", postgres.getJdbcUrl());
+        properties.put("spring.datasource.username", postgres.getUsername());
+        properties.put("spring.datasource.password", postgres.getPassword());
+        properties.put("aiservice.base-url", stub.baseUrl());
+        properties.put("jwt.secret", UUID.randomUUID() + "-" + UUID.randomUUID());
+        properties.put("resume-storage.directory", workDir.resolve("resumes"));
+        properties.put("matching.store.directory", workDir.resolve("embeddings"));
+        // Nothing in the load path uses Elasticsearch, and none is running
+        properties.put("management.health.elasticsearch.enabled", false);
+        // application.yml logs the app and Spring Security at DEBUG, which would dominate request latency
+        properties.put("logging.level.com.airesumemaker", "INFO");
+        properties.put("logging.level.org.springframework.security", "WARN");
+
+        // Passed as command-line args so they win over application.yml; the caller's own args come last
+        List<String> args = new ArrayList<>();
+        properties.forEach((key, value) -> args.add("--" + key + "=" + value));
+        args.addAll(appArgs);
+        return SpringApplication.run(AiResumeMakerApplication.class, args.toArray(String[]::new));
+    }
+
+    private static void print(List<EndpointStats.Summary> summaries, Map<String, Long> stubCalls) {
+        System.out.printf(Locale.ROOT, "%n%-18s %9s %7s %8s %9s %9s %9s %9s %9s%n",
+                "endpoint", "requests", "errors", "dropped", "req/s", "p50 ms", "p95 ms", "p99 ms", "max ms");
+        for (EndpointStats.Summary summary : summaries) {
+            System.out.printf(Locale.ROOT, "%-18s %9d %7d %8d %9.1f %9.1f %9.1f %9.1f %9.1f%n",
+                    summary.endpoint(), summary.requests(), summary.errors(), summary.dropped(), summary.throughput(),
+                    summary.p50Ms(), summary.p95Ms(), summary.p99Ms(), summary.maxMs());
+            if (summary.errors() > 0) {
+                System.out.printf(Locale.ROOT, "%-18s outcomes %s%n", "", summary.outcomes());
+            }
+        }
+        System.out.printf(Locale.ROOT, "AI stub calls: %s%n", stubCalls);
+    }
+
+    private static void write(Path file, Map<String, String> options, List<String> appArgs,
+                              List<EndpointStats.Summary> summaries, Map<String, Long> stubCalls,
+                              ObjectMapper objectMapper) throws IOException {
+        Map<String, Object> report = new HashMap<>();
+        report.put("options", options);
+        report.put("appArgs", appArgs);
+        report.put("endpoints", summaries);
+        report.put("aiStubCalls", stubCalls);
+        Path parent = file.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        objectMapper.writerWithDefaultPrettyPrinter().writeValue(file.toFile(), report);
+        System.out.println("Results written to " + file.toAbsolutePath());
+    }
+}
@@ -0,0 +1,157 @@
+package com.airesumemaker.loadtest;
+
+import com.airesumemaker.client.AICallMetrics;
+import com.airesumemaker.client.AIServiceClient;
+import com.airesumemaker.client.AIServiceGuard;
+import com.airesumemaker.config.AIServiceProperties;
+import com.airesumemaker.config.RestTemplateConfig;
+import com.airesumemaker.dto.JobMatchRequest;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.springframework.web.client.RestTemplate;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * How many blocking /match-jobs calls can be in flight at once when each request holds a thread for the
+ * whole AI call: Tomcat's default 200 platform threads versus one virtual thread per request. The AI
+ * service is a local stub with fixed latency that records its own peak concurrency.
+ *
+ * Args: [requests=2000] [latencyMs=1000] [connections=requests]. With connections left at the configured
+ * aiservice.http.max-connections-per-route (20) the connection pool, not the thread model, is the limit.
+ */
+public class ThreadModelBenchmark {
+
+    // server.tomcat.threads.max default
+    private static final int TOMCAT_MAX_THREADS = 200;
+
+    private static final byte[] MATCH_RESPONSE = "{\"matches\":[]}".getBytes(StandardCharsets.UTF_8);
+
+    private static final AtomicInteger serverInFlight = new AtomicInteger();
+    private static final AtomicInteger serverPeak = new AtomicInteger();
+
+    public static void main(String[] args) throws Exception {
+        int requests = args.length > 0 ? Integer.parseInt(args[0]) : 2000;
+        int latencyMs = args.length > 1 ? Integer.parseInt(args[1]) : 1000;
+        int connections = args.length > 2 ? Integer.parseInt(args[2]) : requests;
+
+        HttpServer stub = startStub(latencyMs);
+        String baseUrl = "http://127.0.0.1:" + stub.getAddress().getPort();
+        System.out.printf(Locale.ROOT, "%d concurrent match requests, %d ms AI latency, %d pooled connections%n",
+                requests, latencyMs, connections);
+        try {
+            ThreadPoolExecutor tomcatLike = new ThreadPoolExecutor(TOMCAT_MAX_THREADS, TOMCAT_MAX_THREADS,
+                    60, TimeUnit.SECONDS, new LinkedBlockingQueue<>());
+            run("platform", tomcatLike, baseUrl, requests, connections);
+            run("virtual", Executors.newVirtualThreadPerTaskExecutor(), baseUrl, requests, connections);
+        } finally {
+            stub.stop(0);
+        }
+    }
+
+    private static void run(String mode, ExecutorService executor, String baseUrl, int requests, int connections)
+            throws Exception {
+        AIServiceProperties properties = new AIServiceProperties();
+        properties.setBaseUrl(baseUrl);
+        properties.getHttp().setMaxConnections(connections);
+        properties.getHttp().setMaxConnectionsPerRoute(connections);
+        // Queued calls wait for a connection instead of failing, so every request is measured to completion
+        properties.getHttp().setConnectionRequestTimeout(Duration.ofMinutes(5));
+        properties.getBatch().setEnabled(false);
+        // The bulkhead would cap both modes at the same concurrency, which is what is being compared
+        properties.getResilience().setEnabled(false);
+
+        RestTemplateConfig config = new RestTemplateConfig();
+        PoolingHttpClientConnectionManager connectionManager = config.aiServiceConnectionManager(properties);
+        CloseableHttpClient httpClient = config.aiServiceHttpClient(connectionManager, properties);
+        RestTemplate restTemplate = config.restTemplate(httpClient, properties);
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        AIServiceClient client = new AIServiceClient(restTemplate, properties, new ObjectMapper(), meterRegistry,
+                new AICallMetrics(meterRegistry), new AIServiceGuard(properties, meterRegistry));
+
+        ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        threads.resetPeakThreadCount();
+        serverPeak.set(0);
+        AtomicInteger clientInFlight = new AtomicInteger();
+        AtomicInteger clientPeak = new AtomicInteger();
+        AtomicInteger failures = new AtomicInteger();
+        long[] latencies = new long[requests];
+        CountDownLatch done = new CountDownLatch(requests);
+
+        long start = System.nanoTime();
+        for (int i = 0; i < requests; i++) {
+            int index = i;
+            long submitted = System.nanoTime();
+            executor.execute(() -> {
+                clientPeak.accumulateAndGet(clientInFlight.incrementAndGet(), Math::max);
+                try {
+                    // Distinct resume text so request coalescing does not merge the calls
+                    client.matchJobs(new JobMatchRequest("resume " + index, List.of("Java"), List.of()));
+                } catch (RuntimeException e) {
+                    failures.incrementAndGet();
+                } finally {
+                    clientInFlight.decrementAndGet();
+                    latencies[index] = System.nanoTime() - submitted;
+                    done.countDown();
+                }
+            });
+        }
+        done.await();
+        double seconds = (System.nanoTime() - start) / 1e9;
+
+        Arrays.sort(latencies);
+        System.out.printf(Locale.ROOT, "%-8s peak in-flight at AI service %5d, in request threads %5d | %7.1f req/s,"
+                        + " p50 %6.0f ms, p99 %6.0f ms | peak JVM threads %4d, failures %d%n",
+                mode, serverPeak.get(), clientPeak.get(), requests / seconds,
+                latencies[requests / 2] / 1e6, latencies[(int) (requests * 0.99)] / 1e6,
+                threads.getPeakThreadCount(), failures.get());
+
+        executor.shutdown();
+        executor.awaitTermination(1, TimeUnit.MINUTES);
+        client.shutdown();
+        httpClient.close();
+    }
+
+    private static HttpServer startStub(int latencyMs) throws IOException {
+        HttpServer server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 8192);
+        server.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+        server.createContext("/match-jobs", exchange -> {
+            serverPeak.accumulateAndGet(serverInFlight.incrementAndGet(), Math::max);
+            try {
+                exchange.getRequestBody().readAllBytes();
+                Thread.sleep(latencyMs);
+                exchange.getResponseHeaders().add("Content-Type", "application/json");
+                exchange.sendResponseHeaders(200, MATCH_RESPONSE.length);
+                try (OutputStream body = exchange.getResponseBody()) {
+                    body.write(MATCH_RESPONSE);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                serverInFlight.decrementAndGet();
+                exchange.close();
+            }
+        });
+        server.start();
+        return server;
+    }
+}
@@ -0,0 +1,8 @@
+// JMH microbenchmarks for the request hot paths: ./gradlew :benchmarks:jmh
+// End-to-end load test against Testcontainers Postgres and a stub AI service: ./gradlew :loadtest:loadTest
+// The Docker build copies only the application, so both subprojects are optional
+for (subproject in listOf("benchmarks", "loadtest")) {
+    if (file(subproject).isDirectory) {
+        include(subproject)
+    }
+}
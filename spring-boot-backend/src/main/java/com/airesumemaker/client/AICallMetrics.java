@@ -0,0 +1,98 @@
+package com.airesumemaker.client;
+
+import com.airesumemaker.tracing.RequestTrace;
+import com.airesumemaker.tracing.SpanKind;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.SignalType;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+/**
+ * AI service calls as callers experience them, including time spent joined to a coalesced call or waiting
+ * for a batch window: timer ai.client.calls{operation, outcome, exception} and gauge
+ * ai.client.in.flight{operation}. Shared by the blocking and reactive clients so both feed the same series.
+ * Each call is also an AI span in the current request trace.
+ */
+@Component
+public class AICallMetrics {
+
+    private final MeterRegistry meterRegistry;
+    private final Map<String, AtomicInteger> inFlight = new ConcurrentHashMap<>();
+
+    public AICallMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    public <T> T record(String operation, Supplier<T> call) {
+        AtomicInteger active = inFlight(operation);
+        Timer.Sample sample = Timer.start(meterRegistry);
+        long start = System.nanoTime();
+        active.incrementAndGet();
+        try {
+            T result = call.get();
+            sample.stop(timer(operation, "success", null));
+            return result;
+        } catch (RuntimeException e) {
+            sample.stop(timer(operation, "error", e));
+            throw e;
+        } finally {
+            active.decrementAndGet();
+            RequestTrace.record(SpanKind.AI, operation, start);
+        }
+    }
+
+    // Timed from subscription; a subscriber that cancels (client went away) is recorded as "cancelled"
+    public <T> Mono<T> record(String operation, Mono<T> call) {
+        // Captured at assembly, on the request thread; the call completes on a Netty thread with no trace bound
+        RequestTrace trace = RequestTrace.current();
+        return Mono.defer(() -> {
+            AtomicInteger active = inFlight(operation);
+            Timer.Sample sample = Timer.start(meterRegistry);
+            long start = System.nanoTime();
+            AtomicReference<Throwable> error = new AtomicReference<>();
+            active.incrementAndGet();
+            return call
+                    .doOnError(error::set)
+                    // Before the response is written, so the span lands before the trace is finished
+                    .doOnTerminate(() -> {
+                        if (trace != null) {
+                            trace.add(SpanKind.AI, operation, start, System.nanoTime());
+                        }
+                    })
+                    .doFinally(signal -> {
+                        active.decrementAndGet();
+                        String outcome = signal == SignalType.CANCEL ? "cancelled"
+                                : error.get() != null ? "error" : "success";
+                        sample.stop(timer(operation, outcome, error.get()));
+                    });
+        });
+    }
+
+    private AtomicInteger inFlight(String operation) {
+        return inFlight.computeIfAbsent(operation, key -> {
+            AtomicInteger active = new AtomicInteger();
+            Gauge.builder("ai.client.in.flight", active, AtomicInteger::get)
+                    .description("AI service calls currently waiting on a response")
+                    .tag("operation", key)
+                    .register(meterRegistry);
+            return active;
+        });
+    }
+
+    private Timer timer(String operation, String outcome, Throwable error) {
+        return Timer.builder("ai.client.calls")
+                .description("AI service call latency as seen by the caller")
+                .tag("operation", operation)
+                .tag("outcome", outcome)
+                .tag("exception", error == null ? "none" : error.getClass().getSimpleName())
+                .register(meterRegistry);
+    }
+}
@@ -1,10 +1,17 @@
 package com.airesumemaker.client;
 
+import com.airesumemaker.config.AIServiceProperties;
+import com.airesumemaker.dto.EmbeddingRequest;
+import com.airesumemaker.dto.EmbeddingResponse;
+import com.airesumemaker.dto.ResumeAnalysisBatchRequest;
+import com.airesumemaker.dto.ResumeAnalysisBatchResponse;
 import com.airesumemaker.dto.ResumeAnalysisRequest;
 import com.airesumemaker.dto.ResumeAnalysisResponse;
 import com.airesumemaker.dto.JobMatchRequest;
 import com.airesumemaker.dto.JobMatchResponse;
-import org.springframework.beans.factory.annotation.Value;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
@@ -13,18 +20,62 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Component;
 import org.springframework.web.client.RestTemplate;
 
+import java.util.List;
+
 @Component
 public class AIServiceClient {
 
     private final RestTemplate restTemplate;
     private final String aiServiceUrl;
+    private final ObjectMapper objectMapper;
+
+    // Double submits and client retries during a slow call share the in-flight request instead of repeating it
+    private final SingleFlight<String, ResumeAnalysisResponse> analyzeFlight;
+    private final SingleFlight<String, JobMatchResponse> matchFlight;
+
+    // Null when batching is disabled
+    private final AnalyzeBatcher analyzeBatcher;
 
-    public AIServiceClient(RestTemplate restTemplate, @Value("${ai-service.url}") String aiServiceUrl) {
+    private final AICallMetrics callMetrics;
+    private final AIServiceGuard guard;
+
+    public AIServiceClient(RestTemplate restTemplate, AIServiceProperties properties, ObjectMapper objectMapper,
+                           MeterRegistry meterRegistry, AICallMetrics callMetrics, AIServiceGuard guard) {
         this.restTemplate = restTemplate;
-        this.aiServiceUrl = aiServiceUrl;
+        this.aiServiceUrl = properties.getBaseUrl();
+        this.objectMapper = objectMapper;
+        this.callMetrics = callMetrics;
+        this.guard = guard;
+        this.analyzeFlight = new SingleFlight<>(meterRegistry, "analyzeResume");
+        this.matchFlight = new SingleFlight<>(meterRegistry, "matchJobs");
+        this.analyzeBatcher = properties.getBatch().isEnabled()
+                ? new AnalyzeBatcher(properties.getBatch(), properties.batchDeadline(), meterRegistry,
+                        this::postAnalyzeResume, this::postAnalyzeResumes)
+                : null;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (analyzeBatcher != null) {
+            analyzeBatcher.shutdown();
+        }
     }
 
     public ResumeAnalysisResponse analyzeResume(ResumeAnalysisRequest request) {
+        // Coalesce first so identical requests take one slot in a batch. The guard sits outside the metrics so
+        // refused calls show up as ai.client.rejected rather than as instant failures.
+        return guard.call("analyzeResume", () -> callMetrics.record("analyzeResume", () ->
+                analyzeFlight.execute(RequestFingerprint.of(objectMapper, request), () -> analyzeBatcher != null
+                        ? analyzeBatcher.analyze(request)
+                        : postAnalyzeResume(request))));
+    }
+
+    public JobMatchResponse matchJobs(JobMatchRequest request) {
+        return guard.call("matchJobs", () -> callMetrics.record("matchJobs", () ->
+                matchFlight.execute(RequestFingerprint.of(objectMapper, request), () -> postMatchJobs(request))));
+    }
+
+    private ResumeAnalysisResponse postAnalyzeResume(ResumeAnalysisRequest request) {
         HttpHeaders headers = new HttpHeaders();
         headers.setContentType(MediaType.APPLICATION_JSON);
         
@@ -40,7 +91,23 @@ public class AIServiceClient {
         return response.getBody();
     }
 
-    public JobMatchResponse matchJobs(JobMatchRequest request) {
+    private ResumeAnalysisBatchResponse postAnalyzeResumes(List<ResumeAnalysisRequest> requests) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+
+        HttpEntity<ResumeAnalysisBatchRequest> entity = new HttpEntity<>(new ResumeAnalysisBatchRequest(requests), headers);
+
+        ResponseEntity<ResumeAnalysisBatchResponse> response = restTemplate.exchange(
+            aiServiceUrl + "/analyze-resume/batch",
+            HttpMethod.POST,
+            entity,
+            ResumeAnalysisBatchResponse.class
+        );
+
+        return response.getBody();
+    }
+
+    private JobMatchResponse postMatchJobs(JobMatchRequest request) {
         HttpHeaders headers = new HttpHeaders();
         headers.setContentType(MediaType.APPLICATION_JSON);
         
@@ -55,4 +122,24 @@ public class AIServiceClient {
         
         return response.getBody();
     }
+
+    public EmbeddingResponse embed(EmbeddingRequest request) {
+        return guard.call("embed", () -> callMetrics.record("embed", () -> postEmbed(request)));
+    }
+
+    private EmbeddingResponse postEmbed(EmbeddingRequest request) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        
+        HttpEntity<EmbeddingRequest> entity = new HttpEntity<>(request, headers);
+        
+        ResponseEntity<EmbeddingResponse> response = restTemplate.exchange(
+            aiServiceUrl + "/embed",
+            HttpMethod.POST,
+            entity,
+            EmbeddingResponse.class
+        );
+        
+        return response.getBody();
+    }
 }
\ No newline at end of file
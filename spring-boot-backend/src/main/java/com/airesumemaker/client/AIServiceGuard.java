@@ -0,0 +1,185 @@
+package com.airesumemaker.client;
+
+import com.airesumemaker.config.AIServiceProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.apache.hc.core5.http.ConnectionRequestTimeoutException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpStatusCodeException;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import org.springframework.web.server.ResponseStatusException;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.SignalType;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+/**
+ * Fail-fast protection in front of the AI service, shared by the blocking and reactive clients: a circuit
+ * breaker per operation, and for blocking calls a bulkhead capping how many threads can wait on the service
+ * at once. Refused calls throw AIServiceUnavailableException straight away so callers can fall back.
+ * Metrics: ai.client.circuit.state{operation} (0 closed, 1 open, 2 half-open) and
+ * ai.client.rejected{operation, reason}.
+ */
+@Component
+public class AIServiceGuard {
+
+    private static final Logger log = LoggerFactory.getLogger(AIServiceGuard.class);
+
+    // Retry hint for a full bulkhead or a pending probe; both clear as soon as one call returns
+    private static final Duration SHORT_RETRY_AFTER = Duration.ofSeconds(1);
+
+    private final AIServiceProperties.Resilience properties;
+    private final MeterRegistry meterRegistry;
+    private final Semaphore bulkhead;
+    private final Map<String, CircuitBreaker> breakers = new ConcurrentHashMap<>();
+
+    public AIServiceGuard(AIServiceProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties.getResilience();
+        this.meterRegistry = meterRegistry;
+        this.bulkhead = new Semaphore(Math.max(1, this.properties.getMaxConcurrentCalls()));
+    }
+
+    public <T> T call(String operation, Supplier<T> call) {
+        if (!properties.isEnabled()) {
+            return call.get();
+        }
+        CircuitBreaker breaker = breaker(operation);
+        if (!breaker.tryAcquire()) {
+            throw circuitOpen(operation, breaker);
+        }
+        if (!enterBulkhead()) {
+            breaker.onIgnored();
+            rejected(operation, "bulkhead_full");
+            throw new AIServiceUnavailableException("Too many AI service calls in progress", SHORT_RETRY_AFTER);
+        }
+        long start = System.nanoTime();
+        try {
+            T result = call.get();
+            breaker.onSuccess(System.nanoTime() - start);
+            return result;
+        } catch (RuntimeException e) {
+            onError(operation, breaker, e);
+            throw e;
+        } finally {
+            bulkhead.release();
+        }
+    }
+
+    // No bulkhead here: reactive calls hold no thread while they wait, and the Netty pool already bounds them
+    public <T> Mono<T> call(String operation, Mono<T> call) {
+        if (!properties.isEnabled()) {
+            return call;
+        }
+        return Mono.defer(() -> {
+            CircuitBreaker breaker = breaker(operation);
+            if (!breaker.tryAcquire()) {
+                return Mono.error(circuitOpen(operation, breaker));
+            }
+            long start = System.nanoTime();
+            AtomicReference<Throwable> error = new AtomicReference<>();
+            return call
+                    .doOnError(error::set)
+                    .doFinally(signal -> {
+                        if (signal == SignalType.CANCEL) {
+                            breaker.onIgnored();
+                        } else if (error.get() != null) {
+                            onError(operation, breaker, error.get());
+                        } else {
+                            breaker.onSuccess(System.nanoTime() - start);
+                        }
+                    });
+        });
+    }
+
+    private boolean enterBulkhead() {
+        Duration maxWait = properties.getMaxWait();
+        if (maxWait.isZero()) {
+            return bulkhead.tryAcquire();
+        }
+        try {
+            return bulkhead.tryAcquire(maxWait.toNanos(), TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private void onError(String operation, CircuitBreaker breaker, Throwable error) {
+        if (!isServiceFailure(error)) {
+            breaker.onIgnored();
+            return;
+        }
+        CircuitBreaker.State before = breaker.state();
+        breaker.onFailure();
+        if (before != CircuitBreaker.State.OPEN && breaker.state() == CircuitBreaker.State.OPEN) {
+            log.warn("AI service circuit for {} opened for {} after: {}", operation, properties.getOpenDuration(),
+                    error.getMessage());
+        }
+    }
+
+    // Errors that say nothing about the service's health: its 4xx answers, and limits hit before it was reached
+    static boolean isServiceFailure(Throwable error) {
+        if (error instanceof HttpStatusCodeException e) {
+            return e.getStatusCode().is5xxServerError();
+        }
+        if (error instanceof WebClientResponseException e) {
+            return e.getStatusCode().is5xxServerError();
+        }
+        if (error instanceof ResourceAccessException e && e.getCause() instanceof ConnectionRequestTimeoutException) {
+            return false;
+        }
+        if (error instanceof ResponseStatusException e) {
+            // 503s here are our own rejections or the reactive pool at capacity; a missed deadline is a 504
+            return e.getStatusCode().is5xxServerError()
+                    && e.getStatusCode().value() != HttpStatus.SERVICE_UNAVAILABLE.value();
+        }
+        return true;
+    }
+
+    private AIServiceUnavailableException circuitOpen(String operation, CircuitBreaker breaker) {
+        rejected(operation, "circuit_open");
+        // A half-open breaker is waiting on its probe; that resolves within one call's deadline at most
+        long remaining = breaker.remainingOpenNanos();
+        return new AIServiceUnavailableException("AI service is unavailable",
+                remaining > 0 ? Duration.ofNanos(remaining) : SHORT_RETRY_AFTER);
+    }
+
+    private void rejected(String operation, String reason) {
+        Counter.builder("ai.client.rejected")
+                .description("AI service calls refused without reaching the service")
+                .tag("operation", operation)
+                .tag("reason", reason)
+                .register(meterRegistry)
+                .increment();
+    }
+
+    private CircuitBreaker breaker(String operation) {
+        return breakers.computeIfAbsent(operation, key -> {
+            CircuitBreaker breaker = new CircuitBreaker(properties);
+            Gauge.builder("ai.client.circuit.state", breaker, AIServiceGuard::stateValue)
+                    .description("AI service circuit breaker state: 0 closed, 1 open, 2 half-open")
+                    .tag("operation", key)
+                    .register(meterRegistry);
+            return breaker;
+        });
+    }
+
+    private static double stateValue(CircuitBreaker breaker) {
+        return switch (breaker.state()) {
+            case CLOSED -> 0;
+            case OPEN -> 1;
+            case HALF_OPEN -> 2;
+        };
+    }
+}
@@ -0,0 +1,32 @@
+package com.airesumemaker.client;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.Duration;
+
+/**
+ * An AI call refused without reaching the service, because its circuit is open or the bulkhead is full.
+ * Answers 503 with a Retry-After matching when the call could next go through.
+ */
+public class AIServiceUnavailableException extends ResponseStatusException {
+
+    private final Duration retryAfter;
+
+    public AIServiceUnavailableException(String reason, Duration retryAfter) {
+        super(HttpStatus.SERVICE_UNAVAILABLE, reason);
+        this.retryAfter = retryAfter;
+    }
+
+    public Duration getRetryAfter() {
+        return retryAfter;
+    }
+
+    @Override
+    public HttpHeaders getHeaders() {
+        HttpHeaders headers = new HttpHeaders();
+        headers.set(HttpHeaders.RETRY_AFTER, Long.toString(Math.max(1, (retryAfter.toMillis() + 999) / 1000)));
+        return headers;
+    }
+}
@@ -0,0 +1,200 @@
+package com.airesumemaker.client;
+
+import com.airesumemaker.config.AIServiceProperties;
+import com.airesumemaker.dto.ResumeAnalysisBatchResponse;
+import com.airesumemaker.dto.ResumeAnalysisRequest;
+import com.airesumemaker.dto.ResumeAnalysisResponse;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+
+/**
+ * Collects analyze calls for up to one window or maxSize items and sends them as a single batch request,
+ * then hands each caller its own result. A batch that closes with one item goes to the single endpoint.
+ */
+class AnalyzeBatcher {
+
+    private static final Logger logger = LoggerFactory.getLogger(AnalyzeBatcher.class);
+
+    private record Pending(ResumeAnalysisRequest request, CompletableFuture<ResumeAnalysisResponse> result) {
+    }
+
+    private final Function<ResumeAnalysisRequest, ResumeAnalysisResponse> single;
+    private final Function<List<ResumeAnalysisRequest>, ResumeAnalysisBatchResponse> batch;
+    private final long windowNanos;
+    private final int maxSize;
+    private final long resultTimeoutNanos;
+    private final DistributionSummary batchSizes;
+
+    // Request threads contend here; with virtual threads a contended monitor would pin carriers, a lock does not
+    private final ReentrantLock lock = new ReentrantLock();
+    private List<Pending> open = new ArrayList<>();
+    private ScheduledFuture<?> windowTimer;
+
+    private final ScheduledExecutorService timer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "ai-analyze-batch-window");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final ExecutorService senders;
+
+    AnalyzeBatcher(AIServiceProperties.Batch properties, Duration batchDeadline, MeterRegistry meterRegistry,
+                   Function<ResumeAnalysisRequest, ResumeAnalysisResponse> single,
+                   Function<List<ResumeAnalysisRequest>, ResumeAnalysisBatchResponse> batch) {
+        this.single = single;
+        this.batch = batch;
+        this.windowNanos = properties.getWindow().toNanos();
+        this.maxSize = Math.max(1, properties.getMaxSize());
+        // The window, then up to one batch ahead on the senders, then this batch's own request
+        this.resultTimeoutNanos = windowNanos + 2 * batchDeadline.toNanos();
+        this.batchSizes = DistributionSummary.builder("ai.client.batch.size")
+                .description("Resume analyses sent per request to the AI service")
+                .register(meterRegistry);
+        AtomicInteger threadCount = new AtomicInteger();
+        this.senders = Executors.newFixedThreadPool(Math.max(1, properties.getMaxConcurrentBatches()), runnable -> {
+            Thread thread = new Thread(runnable, "ai-analyze-batch-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    ResumeAnalysisResponse analyze(ResumeAnalysisRequest request) {
+        CompletableFuture<ResumeAnalysisResponse> result = new CompletableFuture<>();
+        List<Pending> full = null;
+        lock.lock();
+        try {
+            open.add(new Pending(request, result));
+            if (open.size() >= maxSize) {
+                full = close();
+            } else if (open.size() == 1) {
+                List<Pending> opened = open;
+                try {
+                    windowTimer = timer.schedule(() -> closeWindow(opened), windowNanos, TimeUnit.NANOSECONDS);
+                } catch (RejectedExecutionException e) {
+                    // Shut down, so nothing would ever close this window; dispatch fails it instead
+                    full = close();
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+        if (full != null) {
+            dispatch(full);
+        }
+        try {
+            return result.get(resultTimeoutNanos, TimeUnit.NANOSECONDS);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException(e.getCause());
+        } catch (TimeoutException e) {
+            // A late batch result then lands on an already completed future
+            result.completeExceptionally(e);
+            throw new IllegalStateException("No resume analysis result within "
+                    + TimeUnit.NANOSECONDS.toMillis(resultTimeoutNanos) + " ms", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for a resume analysis", e);
+        }
+    }
+
+    void shutdown() {
+        timer.shutdownNow();
+        senders.shutdownNow();
+        List<Pending> abandoned;
+        lock.lock();
+        try {
+            abandoned = close();
+        } finally {
+            lock.unlock();
+        }
+        fail(abandoned, new IllegalStateException("AI service client is shutting down"));
+    }
+
+    // Called under lock
+    private List<Pending> close() {
+        if (windowTimer != null) {
+            windowTimer.cancel(false);
+            windowTimer = null;
+        }
+        List<Pending> closed = open;
+        open = new ArrayList<>();
+        return closed;
+    }
+
+    private void closeWindow(List<Pending> opened) {
+        List<Pending> closed;
+        lock.lock();
+        try {
+            // The batch already went out because it filled up; this timer belongs to it, not the new one
+            if (open != opened) {
+                return;
+            }
+            closed = close();
+        } finally {
+            lock.unlock();
+        }
+        dispatch(closed);
+    }
+
+    private void dispatch(List<Pending> closed) {
+        batchSizes.record(closed.size());
+        try {
+            senders.execute(() -> send(closed));
+        } catch (RejectedExecutionException e) {
+            fail(closed, new IllegalStateException("AI service client is shutting down"));
+        }
+    }
+
+    private static void fail(List<Pending> closed, RuntimeException error) {
+        closed.forEach(pending -> pending.result().completeExceptionally(error));
+    }
+
+    private void send(List<Pending> closed) {
+        try {
+            if (closed.size() == 1) {
+                Pending only = closed.get(0);
+                only.result().complete(single.apply(only.request()));
+                return;
+            }
+            List<ResumeAnalysisRequest> requests = closed.stream().map(Pending::request).toList();
+            ResumeAnalysisBatchResponse response = batch.apply(requests);
+            List<ResumeAnalysisBatchResponse.Result> results = response != null ? response.getResults() : null;
+            if (results == null || results.size() != closed.size()) {
+                throw new IllegalStateException("AI service returned " + (results == null ? 0 : results.size())
+                        + " results for a batch of " + closed.size());
+            }
+            for (int i = 0; i < closed.size(); i++) {
+                ResumeAnalysisBatchResponse.Result item = results.get(i);
+                CompletableFuture<ResumeAnalysisResponse> result = closed.get(i).result();
+                if (item.getError() != null) {
+                    result.completeExceptionally(new IllegalStateException("AI service could not analyze resume: "
+                            + item.getError()));
+                } else {
+                    result.complete(item.getAnalysis());
+                }
+            }
+        } catch (RuntimeException e) {
+            logger.warn("Resume analysis batch of {} failed: {}", closed.size(), e.getMessage());
+            fail(closed, e);
+        }
+    }
+}
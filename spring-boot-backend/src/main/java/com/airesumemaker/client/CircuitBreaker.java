@@ -0,0 +1,153 @@
+package com.airesumemaker.client;
+
+import com.airesumemaker.config.AIServiceProperties;
+
+import java.util.Arrays;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Count-based circuit breaker. Closed, it tracks the outcome of the last slidingWindowSize calls and opens
+ * once the failure rate reaches the threshold. Open, it rejects every call until openDuration has passed,
+ * then lets exactly one probe through (half-open): the probe succeeding closes it, failing reopens it.
+ */
+class CircuitBreaker {
+
+    enum State {
+        CLOSED, OPEN, HALF_OPEN
+    }
+
+    private final int windowSize;
+    private final int minimumCalls;
+    private final int failureRateThreshold;
+    private final long slowCallNanos;
+    private final long openNanos;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    // Ring of recent outcomes, true for a failure
+    private final boolean[] outcomes;
+    private int next;
+    private int calls;
+    private int failures;
+    private long openedAt;
+
+    // Read without the lock so a closed breaker costs one volatile read per call
+    private volatile State state = State.CLOSED;
+
+    CircuitBreaker(AIServiceProperties.Resilience properties) {
+        this.windowSize = Math.max(1, properties.getSlidingWindowSize());
+        this.minimumCalls = Math.max(1, Math.min(properties.getMinimumCalls(), windowSize));
+        this.failureRateThreshold = properties.getFailureRateThreshold();
+        this.slowCallNanos = properties.getSlowCallThreshold().toNanos();
+        this.openNanos = properties.getOpenDuration().toNanos();
+        this.outcomes = new boolean[windowSize];
+    }
+
+    State state() {
+        return state;
+    }
+
+    /**
+     * Whether a call may go ahead. Every permitted call must be followed by exactly one of onSuccess,
+     * onFailure or onIgnored.
+     */
+    boolean tryAcquire() {
+        if (state == State.CLOSED) {
+            return true;
+        }
+        lock.lock();
+        try {
+            if (state == State.OPEN && System.nanoTime() - openedAt >= openNanos) {
+                state = State.HALF_OPEN;
+                return true;
+            }
+            return state == State.CLOSED;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // Nanoseconds until an open breaker admits its probe; 0 if it admits calls now
+    long remainingOpenNanos() {
+        lock.lock();
+        try {
+            return state == State.OPEN ? Math.max(0, openNanos - (System.nanoTime() - openedAt)) : 0;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    void onSuccess(long durationNanos) {
+        if (durationNanos > slowCallNanos) {
+            onFailure();
+            return;
+        }
+        lock.lock();
+        try {
+            if (state == State.HALF_OPEN) {
+                close();
+            } else if (state == State.CLOSED) {
+                record(false);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    void onFailure() {
+        lock.lock();
+        try {
+            if (state == State.HALF_OPEN) {
+                open();
+            } else if (state == State.CLOSED) {
+                record(true);
+                if (calls >= minimumCalls && failures * 100 >= failureRateThreshold * calls) {
+                    open();
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // The call said nothing about the service's health (e.g. the caller went away); a probe is handed to the next caller
+    void onIgnored() {
+        lock.lock();
+        try {
+            if (state == State.HALF_OPEN) {
+                state = State.OPEN;
+                openedAt = System.nanoTime() - openNanos;
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // Called under lock
+    private void record(boolean failed) {
+        if (calls == windowSize) {
+            if (outcomes[next]) {
+                failures--;
+            }
+        } else {
+            calls++;
+        }
+        outcomes[next] = failed;
+        if (failed) {
+            failures++;
+        }
+        next = (next + 1) % windowSize;
+    }
+
+    private void open() {
+        state = State.OPEN;
+        openedAt = System.nanoTime();
+    }
+
+    private void close() {
+        Arrays.fill(outcomes, false);
+        next = 0;
+        calls = 0;
+        failures = 0;
+        state = State.CLOSED;
+    }
+}
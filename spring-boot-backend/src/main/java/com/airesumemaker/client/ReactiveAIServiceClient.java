@@ -0,0 +1,110 @@
+package com.airesumemaker.client;
+
+import com.airesumemaker.config.AIServiceProperties;
+import com.airesumemaker.dto.JobMatchRequest;
+import com.airesumemaker.dto.JobMatchResponse;
+import com.airesumemaker.dto.ResumeAnalysisRequest;
+import com.airesumemaker.dto.ResumeAnalysisResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import org.springframework.web.server.ResponseStatusException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.function.Supplier;
+
+/**
+ * Non-blocking counterpart of AIServiceClient. Calls hold a pooled Netty connection rather than a thread,
+ * so a slow Gemini call no longer pins a servlet thread while it waits.
+ */
+@Component
+public class ReactiveAIServiceClient {
+
+    // reactor-pool is shaded inside reactor-netty, so its exceptions are matched by name rather than type
+    private static final Set<String> POOL_EXHAUSTED_ERRORS =
+            Set.of("PoolAcquirePendingLimitException", "PoolAcquireTimeoutException");
+
+    private final WebClient webClient;
+    private final int streamConcurrency;
+    private final ObjectMapper objectMapper;
+    private final SingleFlight<String, ResumeAnalysisResponse> analyzeFlight;
+    private final SingleFlight<String, JobMatchResponse> matchFlight;
+    private final AICallMetrics callMetrics;
+    private final AIServiceGuard guard;
+    private final AIServiceProperties.Resilience resilience;
+
+    public ReactiveAIServiceClient(@Qualifier("aiServiceWebClient") WebClient webClient, AIServiceProperties properties,
+                                   ObjectMapper objectMapper, MeterRegistry meterRegistry, AICallMetrics callMetrics,
+                                   AIServiceGuard guard) {
+        this.webClient = webClient;
+        this.objectMapper = objectMapper;
+        this.callMetrics = callMetrics;
+        this.guard = guard;
+        this.resilience = properties.getResilience();
+        this.analyzeFlight = new SingleFlight<>(meterRegistry, "analyzeResume");
+        this.matchFlight = new SingleFlight<>(meterRegistry, "matchJobs");
+        // A stream wider than the pool would only overflow the pending queue
+        this.streamConcurrency = Math.min(properties.getReactive().getStreamConcurrency(),
+                properties.getReactive().getMaxInFlight());
+    }
+
+    public Mono<ResumeAnalysisResponse> analyzeResume(ResumeAnalysisRequest request) {
+        return guard.call("analyzeResume", callMetrics.record("analyzeResume", coalesced(analyzeFlight, request,
+                () -> withDeadline("analyzeResume", post("/analyze-resume", request, ResumeAnalysisResponse.class)))));
+    }
+
+    public Mono<JobMatchResponse> matchJobs(JobMatchRequest request) {
+        return guard.call("matchJobs", callMetrics.record("matchJobs", coalesced(matchFlight, request,
+                () -> withDeadline("matchJobs", post("/match-jobs", request, JobMatchResponse.class)))));
+    }
+
+    // Requests upstream only as slots free up, so a large input stream is never buffered in full
+    public Flux<ResumeAnalysisResponse> analyzeResumes(Flux<ResumeAnalysisRequest> requests) {
+        return requests.flatMapSequential(this::analyzeResume, streamConcurrency, 1);
+    }
+
+    public Flux<JobMatchResponse> matchJobs(Flux<JobMatchRequest> requests) {
+        return requests.flatMapSequential(this::matchJobs, streamConcurrency, 1);
+    }
+
+    // Identical concurrent calls subscribe to one shared future; a subscriber cancelling must not cancel it for the rest
+    private <T> Mono<T> coalesced(SingleFlight<String, T> flight, Object request, Supplier<Mono<T>> call) {
+        return Mono.defer(() -> Mono.fromFuture(
+                flight.submit(RequestFingerprint.of(objectMapper, request), () -> call.get().toFuture()), true));
+    }
+
+    private <T> Mono<T> post(String path, Object body, Class<T> responseType) {
+        return webClient.post()
+                .uri(path)
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(body)
+                .retrieve()
+                .bodyToMono(responseType)
+                .onErrorMap(ReactiveAIServiceClient::isPoolExhausted,
+                        e -> new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "AI service is at capacity", e));
+    }
+
+    // Applied to the shared call, so callers joined to it are released at the same deadline
+    private <T> Mono<T> withDeadline(String operation, Mono<T> call) {
+        Duration deadline = resilience.deadlineFor(operation);
+        if (deadline == null) {
+            return call;
+        }
+        return call.timeout(deadline, Mono.error(() -> new ResponseStatusException(HttpStatus.GATEWAY_TIMEOUT,
+                "AI service did not answer " + operation + " within " + deadline)));
+    }
+
+    // WebClient wraps pool rejections in a WebClientRequestException
+    private static boolean isPoolExhausted(Throwable error) {
+        Throwable cause = error instanceof WebClientRequestException ? error.getCause() : error;
+        return cause != null && POOL_EXHAUSTED_ERRORS.contains(cause.getClass().getSimpleName());
+    }
+}
@@ -3,11 +3,372 @@ package com.airesumemaker.config;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.context.annotation.Configuration;
 
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
 @Configuration
 @ConfigurationProperties(prefix = "aiservice")
 public class AIServiceProperties {
     private String baseUrl = "http://localhost:8001";
 
+    // Model and prompt that produce resume analyses; cached analyses from other versions are ignored
+    private String analysisVersion = "gemini-1.5-flash/v1";
+
+    // Entries in the in-memory tier of the resume analysis cache
+    private int analysisCacheSize = 5000;
+
+    private Http http = new Http();
+
+    private Reactive reactive = new Reactive();
+
+    private Batch batch = new Batch();
+
+    private Resilience resilience = new Resilience();
+
+    public static class Http {
+        // Time to establish the TCP connection to the AI service
+        private Duration connectTimeout = Duration.ofSeconds(2);
+
+        // Longest gap allowed between response bytes; Gemini calls are slow but should never hang a Tomcat thread
+        private Duration responseTimeout = Duration.ofSeconds(30);
+
+        // How long a caller waits for a free pooled connection before failing fast
+        private Duration connectionRequestTimeout = Duration.ofSeconds(1);
+
+        private int maxConnections = 50;
+
+        // All calls go to one host, so this is the effective concurrency limit
+        private int maxConnectionsPerRoute = 20;
+
+        // Kept below uvicorn's keep-alive timeout so we never reuse a socket the server already closed
+        private Duration keepAlive = Duration.ofSeconds(4);
+
+        private Duration validateAfterInactivity = Duration.ofSeconds(2);
+
+        private Duration evictIdleAfter = Duration.ofSeconds(30);
+
+        // Gzip request bodies at or above gzipMinBytes; the AI service decodes Content-Encoding: gzip
+        private boolean gzipRequests = false;
+
+        private int gzipMinBytes = 2048;
+
+        public Duration getConnectTimeout() {
+            return connectTimeout;
+        }
+
+        public void setConnectTimeout(Duration connectTimeout) {
+            this.connectTimeout = connectTimeout;
+        }
+
+        public Duration getResponseTimeout() {
+            return responseTimeout;
+        }
+
+        public void setResponseTimeout(Duration responseTimeout) {
+            this.responseTimeout = responseTimeout;
+        }
+
+        public Duration getConnectionRequestTimeout() {
+            return connectionRequestTimeout;
+        }
+
+        public void setConnectionRequestTimeout(Duration connectionRequestTimeout) {
+            this.connectionRequestTimeout = connectionRequestTimeout;
+        }
+
+        public int getMaxConnections() {
+            return maxConnections;
+        }
+
+        public void setMaxConnections(int maxConnections) {
+            this.maxConnections = maxConnections;
+        }
+
+        public int getMaxConnectionsPerRoute() {
+            return maxConnectionsPerRoute;
+        }
+
+        public void setMaxConnectionsPerRoute(int maxConnectionsPerRoute) {
+            this.maxConnectionsPerRoute = maxConnectionsPerRoute;
+        }
+
+        public Duration getKeepAlive() {
+            return keepAlive;
+        }
+
+        public void setKeepAlive(Duration keepAlive) {
+            this.keepAlive = keepAlive;
+        }
+
+        public Duration getValidateAfterInactivity() {
+            return validateAfterInactivity;
+        }
+
+        public void setValidateAfterInactivity(Duration validateAfterInactivity) {
+            this.validateAfterInactivity = validateAfterInactivity;
+        }
+
+        public Duration getEvictIdleAfter() {
+            return evictIdleAfter;
+        }
+
+        public void setEvictIdleAfter(Duration evictIdleAfter) {
+            this.evictIdleAfter = evictIdleAfter;
+        }
+
+        public boolean isGzipRequests() {
+            return gzipRequests;
+        }
+
+        public void setGzipRequests(boolean gzipRequests) {
+            this.gzipRequests = gzipRequests;
+        }
+
+        public int getGzipMinBytes() {
+            return gzipMinBytes;
+        }
+
+        public void setGzipMinBytes(int gzipMinBytes) {
+            this.gzipMinBytes = gzipMinBytes;
+        }
+    }
+
+    public static class Reactive {
+        // Requests on the wire at once; with HTTP/1.1 each holds one pooled connection
+        private int maxInFlight = 256;
+
+        // Callers queued for a connection beyond maxInFlight before new calls are rejected
+        private int maxPending = 1024;
+
+        private Duration pendingAcquireTimeout = Duration.ofSeconds(5);
+
+        // Per-stream limit for the Flux batch methods so one caller cannot take the whole pool
+        private int streamConcurrency = 16;
+
+        private int maxInMemorySize = 16 * 1024 * 1024;
+
+        public int getMaxInFlight() {
+            return maxInFlight;
+        }
+
+        public void setMaxInFlight(int maxInFlight) {
+            this.maxInFlight = maxInFlight;
+        }
+
+        public int getMaxPending() {
+            return maxPending;
+        }
+
+        public void setMaxPending(int maxPending) {
+            this.maxPending = maxPending;
+        }
+
+        public Duration getPendingAcquireTimeout() {
+            return pendingAcquireTimeout;
+        }
+
+        public void setPendingAcquireTimeout(Duration pendingAcquireTimeout) {
+            this.pendingAcquireTimeout = pendingAcquireTimeout;
+        }
+
+        public int getStreamConcurrency() {
+            return streamConcurrency;
+        }
+
+        public void setStreamConcurrency(int streamConcurrency) {
+            this.streamConcurrency = streamConcurrency;
+        }
+
+        public int getMaxInMemorySize() {
+            return maxInMemorySize;
+        }
+
+        public void setMaxInMemorySize(int maxInMemorySize) {
+            this.maxInMemorySize = maxInMemorySize;
+        }
+    }
+
+    public static class Batch {
+        // Send concurrent analyses as one batch request instead of one request each
+        private boolean enabled = true;
+
+        // Longest a call waits for others to join its batch; every lone call pays this on top of the analysis
+        private Duration window = Duration.ofMillis(10);
+
+        // A batch is sent as soon as it holds this many calls, without waiting out the window
+        private int maxSize = 16;
+
+        // Batch requests on the wire at once; later batches queue behind them
+        private int maxConcurrentBatches = 4;
+
+        // Analyses the AI service runs at once within one batch (BATCH_CONCURRENCY in the FastAPI resume router)
+        private int serverConcurrency = 8;
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public Duration getWindow() {
+            return window;
+        }
+
+        public void setWindow(Duration window) {
+            this.window = window;
+        }
+
+        public int getMaxSize() {
+            return maxSize;
+        }
+
+        public void setMaxSize(int maxSize) {
+            this.maxSize = maxSize;
+        }
+
+        public int getMaxConcurrentBatches() {
+            return maxConcurrentBatches;
+        }
+
+        public void setMaxConcurrentBatches(int maxConcurrentBatches) {
+            this.maxConcurrentBatches = maxConcurrentBatches;
+        }
+
+        public int getServerConcurrency() {
+            return serverConcurrency;
+        }
+
+        public void setServerConcurrency(int serverConcurrency) {
+            this.serverConcurrency = serverConcurrency;
+        }
+
+        // Rounds of serverConcurrency analyses the AI service needs for a full batch
+        public int waves() {
+            int size = Math.max(1, maxSize);
+            int concurrency = Math.max(1, serverConcurrency);
+            return (size + concurrency - 1) / concurrency;
+        }
+    }
+
+    public static class Resilience {
+        // Circuit breaker per operation and a bulkhead for blocking calls; deadlines apply either way
+        private boolean enabled = true;
+
+        // Most recent calls per operation that the failure rate is computed over
+        private int slidingWindowSize = 20;
+
+        // The breaker never opens on fewer calls than this, so one early failure cannot trip it
+        private int minimumCalls = 10;
+
+        // Percentage of failed calls in the window that opens the breaker
+        private int failureRateThreshold = 50;
+
+        // A call that succeeds but takes longer than this still counts as a failure; a degrading Gemini gets slow first
+        private Duration slowCallThreshold = Duration.ofSeconds(20);
+
+        // How long an open breaker rejects calls before letting a single probe through
+        private Duration openDuration = Duration.ofSeconds(30);
+
+        // Blocking AI calls allowed at once across all operations. Kept well under Tomcat's thread pool and the
+        // Hikari pool so a slow AI service cannot take the threads and connections job listings need.
+        private int maxConcurrentCalls = 40;
+
+        // How long a blocking call waits for a bulkhead slot before it is rejected
+        private Duration maxWait = Duration.ZERO;
+
+        // Longest wait for the AI service's response per operation; operations not listed use http.response-timeout
+        private Map<String, Duration> deadlines = new HashMap<>(Map.of(
+                "analyzeResume", Duration.ofSeconds(30),
+                "matchJobs", Duration.ofSeconds(20),
+                "embed", Duration.ofSeconds(5)));
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public int getSlidingWindowSize() {
+            return slidingWindowSize;
+        }
+
+        public void setSlidingWindowSize(int slidingWindowSize) {
+            this.slidingWindowSize = slidingWindowSize;
+        }
+
+        public int getMinimumCalls() {
+            return minimumCalls;
+        }
+
+        public void setMinimumCalls(int minimumCalls) {
+            this.minimumCalls = minimumCalls;
+        }
+
+        public int getFailureRateThreshold() {
+            return failureRateThreshold;
+        }
+
+        public void setFailureRateThreshold(int failureRateThreshold) {
+            this.failureRateThreshold = failureRateThreshold;
+        }
+
+        public Duration getSlowCallThreshold() {
+            return slowCallThreshold;
+        }
+
+        public void setSlowCallThreshold(Duration slowCallThreshold) {
+            this.slowCallThreshold = slowCallThreshold;
+        }
+
+        public Duration getOpenDuration() {
+            return openDuration;
+        }
+
+        public void setOpenDuration(Duration openDuration) {
+            this.openDuration = openDuration;
+        }
+
+        public int getMaxConcurrentCalls() {
+            return maxConcurrentCalls;
+        }
+
+        public void setMaxConcurrentCalls(int maxConcurrentCalls) {
+            this.maxConcurrentCalls = maxConcurrentCalls;
+        }
+
+        public Duration getMaxWait() {
+            return maxWait;
+        }
+
+        public void setMaxWait(Duration maxWait) {
+            this.maxWait = maxWait;
+        }
+
+        public Map<String, Duration> getDeadlines() {
+            return deadlines;
+        }
+
+        public void setDeadlines(Map<String, Duration> deadlines) {
+            this.deadlines = deadlines;
+        }
+
+        // Null when the operation has no deadline of its own
+        public Duration deadlineFor(String operation) {
+            return deadlines.get(operation);
+        }
+    }
+
+    // Each wave of a full batch can be as slow as one analysis, so a batch gets the single call's deadline once per wave
+    public Duration batchDeadline() {
+        Duration single = resilience.deadlineFor("analyzeResume");
+        return (single != null ? single : http.getResponseTimeout()).multipliedBy(batch.waves());
+    }
+
     public String getBaseUrl() {
         return baseUrl;
     }
@@ -15,4 +376,52 @@ public class AIServiceProperties {
     public void setBaseUrl(String baseUrl) {
         this.baseUrl = baseUrl;
     }
-}
\ No newline at end of file
+
+    public String getAnalysisVersion() {
+        return analysisVersion;
+    }
+
+    public void setAnalysisVersion(String analysisVersion) {
+        this.analysisVersion = analysisVersion;
+    }
+
+    public int getAnalysisCacheSize() {
+        return analysisCacheSize;
+    }
+
+    public void setAnalysisCacheSize(int analysisCacheSize) {
+        this.analysisCacheSize = analysisCacheSize;
+    }
+
+    public Http getHttp() {
+        return http;
+    }
+
+    public void setHttp(Http http) {
+        this.http = http;
+    }
+
+    public Reactive getReactive() {
+        return reactive;
+    }
+
+    public void setReactive(Reactive reactive) {
+        this.reactive = reactive;
+    }
+
+    public Batch getBatch() {
+        return batch;
+    }
+
+    public void setBatch(Batch batch) {
+        this.batch = batch;
+    }
+
+    public Resilience getResilience() {
+        return resilience;
+    }
+
+    public void setResilience(Resilience resilience) {
+        this.resilience = resilience;
+    }
+}
@@ -0,0 +1,30 @@
+package com.airesumemaker.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConfigurationProperties(prefix = "actuator-access")
+public class ActuatorAccessProperties {
+    // HTTP Basic user for actuator endpoints other than health and info, e.g. the Prometheus scraper
+    private String username = "actuator";
+
+    // Left empty, every actuator endpoint other than health and info is refused
+    private String password = "";
+
+    public String getUsername() {
+        return username;
+    }
+
+    public void setUsername(String username) {
+        this.username = username;
+    }
+
+    public String getPassword() {
+        return password;
+    }
+
+    public void setPassword(String password) {
+        this.password = password;
+    }
+}
@@ -0,0 +1,74 @@
+package com.airesumemaker.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Configuration
+@ConfigurationProperties(prefix = "extraction")
+public class ExtractionProperties {
+    // Extraction is CPU-bound, so one thread per core; kept apart from the I/O-bound resume workers
+    private int threads = Runtime.getRuntime().availableProcessors();
+
+    // Text kept per resume; anything past this is not a resume the AI service would read anyway
+    private int maxChars = 200_000;
+
+    private int maxPages = 50;
+
+    private Duration timeout = Duration.ofSeconds(30);
+
+    // Curated skills and synonyms compiled into the skill extractor, together with the skills table
+    private String skillDictionary = "classpath:skills/dictionary.txt";
+
+    // How often skills first seen in job postings are compiled into the skill extractor
+    private Duration skillRefreshInterval = Duration.ofMinutes(10);
+
+    public int getThreads() {
+        return threads;
+    }
+
+    public void setThreads(int threads) {
+        this.threads = threads;
+    }
+
+    public int getMaxChars() {
+        return maxChars;
+    }
+
+    public void setMaxChars(int maxChars) {
+        this.maxChars = maxChars;
+    }
+
+    public int getMaxPages() {
+        return maxPages;
+    }
+
+    public void setMaxPages(int maxPages) {
+        this.maxPages = maxPages;
+    }
+
+    public Duration getTimeout() {
+        return timeout;
+    }
+
+    public void setTimeout(Duration timeout) {
+        this.timeout = timeout;
+    }
+
+    public String getSkillDictionary() {
+        return skillDictionary;
+    }
+
+    public void setSkillDictionary(String skillDictionary) {
+        this.skillDictionary = skillDictionary;
+    }
+
+    public Duration getSkillRefreshInterval() {
+        return skillRefreshInterval;
+    }
+
+    public void setSkillRefreshInterval(Duration skillRefreshInterval) {
+        this.skillRefreshInterval = skillRefreshInterval;
+    }
+}
@@ -39,7 +39,8 @@ public class GlobalExceptionHandler {
         Map<String, Object> body = new HashMap<>();
         body.put(KEY_STATUS, ex.getStatusCode().value());
         body.put(KEY_MESSAGE, ex.getReason());
-        return new ResponseEntity<>(body, ex.getStatusCode());
+        // Carries e.g. Retry-After when the AI service is refusing calls
+        return new ResponseEntity<>(body, ex.getHeaders(), ex.getStatusCode());
     }
 
     @ExceptionHandler({BadCredentialsException.class, UsernameNotFoundException.class})
@@ -0,0 +1,42 @@
+package com.airesumemaker.config;
+
+import com.airesumemaker.matching.EmbeddingStore;
+import com.airesumemaker.matching.ExactJobIndex;
+import com.airesumemaker.matching.HnswJobIndex;
+import com.airesumemaker.matching.JobVectorIndex;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.nio.file.Path;
+
+@Configuration
+public class MatchingConfig {
+
+    @Bean
+    public JobVectorIndex jobVectorIndex(MatchingProperties properties) {
+        if (properties.getIndexType() == MatchingProperties.IndexType.HNSW) {
+            MatchingProperties.Hnsw hnsw = properties.getHnsw();
+            return new HnswJobIndex(properties.getDimension(), hnsw.getM(), hnsw.getEfConstruction(),
+                    hnsw.getEfSearch(), hnsw.getRecallSampleRate(), properties.getInitialCapacity());
+        }
+        return new ExactJobIndex(properties.getDimension(), properties.getInitialCapacity());
+    }
+
+    @Bean
+    public EmbeddingStore jobEmbeddingStore(MatchingProperties properties) {
+        return openStore(properties, "jobs.emb");
+    }
+
+    @Bean
+    public EmbeddingStore resumeEmbeddingStore(MatchingProperties properties) {
+        return openStore(properties, "resumes.emb");
+    }
+
+    private EmbeddingStore openStore(MatchingProperties properties, String fileName) {
+        MatchingProperties.Store store = properties.getStore();
+        EmbeddingStore embeddingStore = EmbeddingStore.open(
+                Path.of(store.getDirectory(), fileName), properties.getDimension());
+        embeddingStore.startBackgroundCompaction(store.getCompactionInterval(), store.getCompactionThreshold());
+        return embeddingStore;
+    }
+}
@@ -0,0 +1,197 @@
+package com.airesumemaker.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Configuration
+@ConfigurationProperties(prefix = "matching")
+public class MatchingProperties {
+    // Score resumes against the in-process job index instead of POSTing the catalog to /match-jobs
+    private boolean localEnabled = true;
+
+    // Must match the embedding model served by the AI service (all-MiniLM-L6-v2 = 384)
+    private int dimension = 384;
+
+    private int initialCapacity = 1024;
+
+    private int embeddingBatchSize = 64;
+
+    private int maxMatches = 50;
+
+    // EXACT scans every embedding; HNSW trades a little recall for sub-linear search on large catalogs
+    private IndexType indexType = IndexType.EXACT;
+
+    private Hnsw hnsw = new Hnsw();
+
+    private Store store = new Store();
+
+    public static class Store {
+        // Memory-mapped job/resume embedding files that survive restarts; relative to the working directory
+        private String directory = "data/embeddings";
+
+        private Duration compactionInterval = Duration.ofMinutes(10);
+
+        // Compact once this fraction of slots belongs to deleted records
+        private double compactionThreshold = 0.25;
+
+        public String getDirectory() {
+            return directory;
+        }
+
+        public void setDirectory(String directory) {
+            this.directory = directory;
+        }
+
+        public Duration getCompactionInterval() {
+            return compactionInterval;
+        }
+
+        public void setCompactionInterval(Duration compactionInterval) {
+            this.compactionInterval = compactionInterval;
+        }
+
+        public double getCompactionThreshold() {
+            return compactionThreshold;
+        }
+
+        public void setCompactionThreshold(double compactionThreshold) {
+            this.compactionThreshold = compactionThreshold;
+        }
+    }
+
+    public enum IndexType {
+        EXACT, HNSW
+    }
+
+    public static class Hnsw {
+        // Links per node per layer (layer 0 keeps 2*M)
+        private int m = 16;
+
+        private int efConstruction = 200;
+
+        private int efSearch = 64;
+
+        // Fraction of searches re-run against an exact scan to measure recall; 0 disables verification
+        private double recallSampleRate = 0.0;
+
+        // Recall@10 the graph should reach; the check after the catalog loads warns below it
+        private double recallTarget = 0.95;
+
+        // Queries for that check and the default for /actuator/matchingrecall; 0 skips the check
+        private int recallCheckQueries = 200;
+
+        public int getM() {
+            return m;
+        }
+
+        public void setM(int m) {
+            this.m = m;
+        }
+
+        public int getEfConstruction() {
+            return efConstruction;
+        }
+
+        public void setEfConstruction(int efConstruction) {
+            this.efConstruction = efConstruction;
+        }
+
+        public int getEfSearch() {
+            return efSearch;
+        }
+
+        public void setEfSearch(int efSearch) {
+            this.efSearch = efSearch;
+        }
+
+        public double getRecallSampleRate() {
+            return recallSampleRate;
+        }
+
+        public void setRecallSampleRate(double recallSampleRate) {
+            this.recallSampleRate = recallSampleRate;
+        }
+
+        public double getRecallTarget() {
+            return recallTarget;
+        }
+
+        public void setRecallTarget(double recallTarget) {
+            this.recallTarget = recallTarget;
+        }
+
+        public int getRecallCheckQueries() {
+            return recallCheckQueries;
+        }
+
+        public void setRecallCheckQueries(int recallCheckQueries) {
+            this.recallCheckQueries = recallCheckQueries;
+        }
+    }
+
+    public boolean isLocalEnabled() {
+        return localEnabled;
+    }
+
+    public void setLocalEnabled(boolean localEnabled) {
+        this.localEnabled = localEnabled;
+    }
+
+    public int getDimension() {
+        return dimension;
+    }
+
+    public void setDimension(int dimension) {
+        this.dimension = dimension;
+    }
+
+    public int getInitialCapacity() {
+        return initialCapacity;
+    }
+
+    public void setInitialCapacity(int initialCapacity) {
+        this.initialCapacity = initialCapacity;
+    }
+
+    public int getEmbeddingBatchSize() {
+        return embeddingBatchSize;
+    }
+
+    public void setEmbeddingBatchSize(int embeddingBatchSize) {
+        this.embeddingBatchSize = embeddingBatchSize;
+    }
+
+    public int getMaxMatches() {
+        return maxMatches;
+    }
+
+    public void setMaxMatches(int maxMatches) {
+        this.maxMatches = maxMatches;
+    }
+
+    public IndexType getIndexType() {
+        return indexType;
+    }
+
+    public void setIndexType(IndexType indexType) {
+        this.indexType = indexType;
+    }
+
+    public Hnsw getHnsw() {
+        return hnsw;
+    }
+
+    public void setHnsw(Hnsw hnsw) {
+        this.hnsw = hnsw;
+    }
+
+    public Store getStore() {
+        return store;
+    }
+
+    public void setStore(Store store) {
+        this.store = store;
+    }
+}
@@ -0,0 +1,59 @@
+package com.airesumemaker.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.HashMap;
+import java.util.Map;
+
+@Configuration
+@ConfigurationProperties(prefix = "query-budget")
+public class QueryBudgetProperties {
+    // Counts the statements Hibernate prepares for each request; costs a map update per statement
+    private boolean enabled = true;
+
+    // Requests preparing more statements than this are logged with their statements grouped by SQL
+    private int maxStatements = 10;
+
+    // Budgets for single endpoints, keyed by method and route pattern, e.g. "[GET /jobs/{id}]": 2
+    private Map<String, Integer> endpoints = new HashMap<>();
+
+    // Fail the request instead of logging; meant for the test profile so an N+1 breaks the build
+    private boolean failOnExceed = false;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public int getMaxStatements() {
+        return maxStatements;
+    }
+
+    public void setMaxStatements(int maxStatements) {
+        this.maxStatements = maxStatements;
+    }
+
+    public Map<String, Integer> getEndpoints() {
+        return endpoints;
+    }
+
+    public void setEndpoints(Map<String, Integer> endpoints) {
+        this.endpoints = endpoints;
+    }
+
+    public boolean isFailOnExceed() {
+        return failOnExceed;
+    }
+
+    public void setFailOnExceed(boolean failOnExceed) {
+        this.failOnExceed = failOnExceed;
+    }
+
+    public int budgetFor(String endpoint) {
+        return endpoints.getOrDefault(endpoint, maxStatements);
+    }
+}
@@ -0,0 +1,65 @@
+package com.airesumemaker.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Configuration
+@ConfigurationProperties(prefix = "request-tracing")
+public class RequestTracingProperties {
+    // Every request is traced; one that is not among the slowest costs a few nanoTime calls and field reads
+    private boolean enabled = true;
+
+    // Traces kept per endpoint (HTTP method and route pattern)
+    private int slowestPerEndpoint = 10;
+
+    // A kept trace older than this can be displaced by any newer one, so the view follows recent traffic
+    private Duration maxAge = Duration.ofMinutes(15);
+
+    // Spans kept per trace; later ones still count toward the per-kind totals
+    private int maxSpans = 128;
+
+    // Routes beyond this many are pooled under one key rather than growing the map without bound
+    private int maxEndpoints = 200;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public int getSlowestPerEndpoint() {
+        return slowestPerEndpoint;
+    }
+
+    public void setSlowestPerEndpoint(int slowestPerEndpoint) {
+        this.slowestPerEndpoint = slowestPerEndpoint;
+    }
+
+    public Duration getMaxAge() {
+        return maxAge;
+    }
+
+    public void setMaxAge(Duration maxAge) {
+        this.maxAge = maxAge;
+    }
+
+    public int getMaxSpans() {
+        return maxSpans;
+    }
+
+    public void setMaxSpans(int maxSpans) {
+        this.maxSpans = maxSpans;
+    }
+
+    public int getMaxEndpoints() {
+        return maxEndpoints;
+    }
+
+    public void setMaxEndpoints(int maxEndpoints) {
+        this.maxEndpoints = maxEndpoints;
+    }
+}
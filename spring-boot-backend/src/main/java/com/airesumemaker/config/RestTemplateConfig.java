@@ -1,14 +1,129 @@
 package com.airesumemaker.config;
 
+import com.airesumemaker.client.GzipRequestInterceptor;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.httpcomponents.hc5.PoolingHttpClientConnectionManagerMetricsBinder;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.client5.http.protocol.HttpClientContext;
+import org.apache.hc.core5.http.protocol.HttpContext;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
 import org.springframework.web.client.RestTemplate;
 
+import java.net.URI;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.BiFunction;
+
 @Configuration
 public class RestTemplateConfig {
 
+    // AI service paths and the operation whose deadline applies to them; batches get AIServiceProperties.batchDeadline()
+    private static final Map<String, String> OPERATIONS_BY_PATH = Map.of(
+            "/analyze-resume", "analyzeResume",
+            "/match-jobs", "matchJobs",
+            "/embed", "embed");
+
+    private static final String BATCH_PATH = "/analyze-resume/batch";
+
+    @Bean(destroyMethod = "close")
+    public PoolingHttpClientConnectionManager aiServiceConnectionManager(AIServiceProperties properties) {
+        AIServiceProperties.Http http = properties.getHttp();
+        return PoolingHttpClientConnectionManagerBuilder.create()
+                .setMaxConnTotal(http.getMaxConnections())
+                .setMaxConnPerRoute(http.getMaxConnectionsPerRoute())
+                .setDefaultConnectionConfig(ConnectionConfig.custom()
+                        .setConnectTimeout(Timeout.of(http.getConnectTimeout()))
+                        .setSocketTimeout(Timeout.of(longestDeadline(properties)))
+                        .setValidateAfterInactivity(TimeValue.of(http.getValidateAfterInactivity()))
+                        .build())
+                .build();
+    }
+
+    @Bean(destroyMethod = "close")
+    public CloseableHttpClient aiServiceHttpClient(PoolingHttpClientConnectionManager aiServiceConnectionManager,
+                                                   AIServiceProperties properties) {
+        AIServiceProperties.Http http = properties.getHttp();
+        TimeValue keepAlive = TimeValue.of(http.getKeepAlive());
+        return HttpClients.custom()
+                .setConnectionManager(aiServiceConnectionManager)
+                .setDefaultRequestConfig(requestConfig(http))
+                // uvicorn sends no Keep-Alive header, so the client's 3 minute default would outlive the server's
+                .setKeepAliveStrategy((response, context) -> keepAlive)
+                .evictExpiredConnections()
+                .evictIdleConnections(TimeValue.of(http.getEvictIdleAfter()))
+                .build();
+    }
+
+    @Bean
+    public RestTemplate restTemplate(CloseableHttpClient aiServiceHttpClient, AIServiceProperties properties) {
+        HttpComponentsClientHttpRequestFactory requestFactory = new HttpComponentsClientHttpRequestFactory(aiServiceHttpClient);
+        requestFactory.setHttpContextFactory(deadlineContexts(properties));
+        RestTemplate restTemplate = new RestTemplate(requestFactory);
+        if (properties.getHttp().isGzipRequests()) {
+            restTemplate.getInterceptors().add(new GzipRequestInterceptor(properties.getHttp().getGzipMinBytes()));
+        }
+        return restTemplate;
+    }
+
+    // The connection's socket timeout must not undercut any per-request response timeout set in deadlineContexts
+    private static Duration longestDeadline(AIServiceProperties properties) {
+        Duration longest = properties.getHttp().getResponseTimeout();
+        if (properties.batchDeadline().compareTo(longest) > 0) {
+            longest = properties.batchDeadline();
+        }
+        for (Duration deadline : properties.getResilience().getDeadlines().values()) {
+            if (deadline.compareTo(longest) > 0) {
+                longest = deadline;
+            }
+        }
+        return longest;
+    }
+
+    private static RequestConfig requestConfig(AIServiceProperties.Http http) {
+        return RequestConfig.custom()
+                .setConnectionRequestTimeout(Timeout.of(http.getConnectionRequestTimeout()))
+                .setResponseTimeout(Timeout.of(http.getResponseTimeout()))
+                .build();
+    }
+
+    // A request to an operation with its own deadline gets that as its response timeout; others keep the default
+    private static BiFunction<HttpMethod, URI, HttpContext> deadlineContexts(AIServiceProperties properties) {
+        RequestConfig defaults = requestConfig(properties.getHttp());
+        Map<String, RequestConfig> configByPath = new HashMap<>();
+        OPERATIONS_BY_PATH.forEach((path, operation) -> {
+            Duration deadline = properties.getResilience().deadlineFor(operation);
+            if (deadline != null) {
+                configByPath.put(path, RequestConfig.copy(defaults).setResponseTimeout(Timeout.of(deadline)).build());
+            }
+        });
+        configByPath.put(BATCH_PATH, RequestConfig.copy(defaults)
+                .setResponseTimeout(Timeout.of(properties.batchDeadline())).build());
+        return (method, uri) -> {
+            for (Map.Entry<String, RequestConfig> entry : configByPath.entrySet()) {
+                if (uri.getPath().endsWith(entry.getKey())) {
+                    HttpClientContext context = HttpClientContext.create();
+                    context.setRequestConfig(entry.getValue());
+                    return context;
+                }
+            }
+            return null;
+        };
+    }
+
+    // Publishes httpcomponents.httpclient.pool.* gauges (leased, available, pending, max) for pool saturation
     @Bean
-    public RestTemplate restTemplate() {
-        return new RestTemplate();
+    public MeterBinder aiServiceConnectionPoolMetrics(PoolingHttpClientConnectionManager aiServiceConnectionManager) {
+        return new PoolingHttpClientConnectionManagerMetricsBinder(aiServiceConnectionManager, "ai-service");
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,85 @@
+package com.airesumemaker.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Configuration
+@ConfigurationProperties(prefix = "resume-processing")
+public class ResumeProcessingProperties {
+    // Run queue workers on this node; submissions are queued either way
+    private boolean workersEnabled = true;
+
+    // Resumes analyzed concurrently on this node
+    private int workers = 4;
+
+    // Fallback poll for retries and work submitted on other nodes; local submissions wake the poller at once
+    private Duration pollInterval = Duration.ofSeconds(2);
+
+    // How long a claimed task stays hidden from other workers; must outlast one full AI call
+    private Duration lease = Duration.ofMinutes(2);
+
+    private int maxAttempts = 5;
+
+    // Delay before the first retry, doubled on each further attempt up to maxRetryBackoff
+    private Duration retryBackoff = Duration.ofSeconds(10);
+
+    private Duration maxRetryBackoff = Duration.ofMinutes(10);
+
+    public boolean isWorkersEnabled() {
+        return workersEnabled;
+    }
+
+    public void setWorkersEnabled(boolean workersEnabled) {
+        this.workersEnabled = workersEnabled;
+    }
+
+    public int getWorkers() {
+        return workers;
+    }
+
+    public void setWorkers(int workers) {
+        this.workers = workers;
+    }
+
+    public Duration getPollInterval() {
+        return pollInterval;
+    }
+
+    public void setPollInterval(Duration pollInterval) {
+        this.pollInterval = pollInterval;
+    }
+
+    public Duration getLease() {
+        return lease;
+    }
+
+    public void setLease(Duration lease) {
+        this.lease = lease;
+    }
+
+    public int getMaxAttempts() {
+        return maxAttempts;
+    }
+
+    public void setMaxAttempts(int maxAttempts) {
+        this.maxAttempts = maxAttempts;
+    }
+
+    public Duration getRetryBackoff() {
+        return retryBackoff;
+    }
+
+    public void setRetryBackoff(Duration retryBackoff) {
+        this.retryBackoff = retryBackoff;
+    }
+
+    public Duration getMaxRetryBackoff() {
+        return maxRetryBackoff;
+    }
+
+    public void setMaxRetryBackoff(Duration maxRetryBackoff) {
+        this.maxRetryBackoff = maxRetryBackoff;
+    }
+}
@@ -0,0 +1,42 @@
+package com.airesumemaker.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.unit.DataSize;
+
+@Configuration
+@ConfigurationProperties(prefix = "resume-storage")
+public class ResumeStorageProperties {
+    // Root of the content-addressed store for uploaded resume files; relative to the working directory, and kept
+    // out of java.io.tmpdir, whose cleaners would delete files the database still points at
+    private String directory = "data/resumes";
+
+    private DataSize maxFileSize = DataSize.ofMegabytes(10);
+
+    // Copy buffer allocated once per upload; heap per upload stays at this size whatever the file size
+    private DataSize bufferSize = DataSize.ofKilobytes(64);
+
+    public String getDirectory() {
+        return directory;
+    }
+
+    public void setDirectory(String directory) {
+        this.directory = directory;
+    }
+
+    public DataSize getMaxFileSize() {
+        return maxFileSize;
+    }
+
+    public void setMaxFileSize(DataSize maxFileSize) {
+        this.maxFileSize = maxFileSize;
+    }
+
+    public DataSize getBufferSize() {
+        return bufferSize;
+    }
+
+    public void setBufferSize(DataSize bufferSize) {
+        this.bufferSize = bufferSize;
+    }
+}
@@ -0,0 +1,42 @@
+package com.airesumemaker.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Duration;
+import java.util.concurrent.Executors;
+
+/**
+ * spring.threads.virtual.enabled switches Tomcat, @Async and MVC async to virtual threads. This adds the
+ * pieces Boot does not cover: where Mono-wrapped blocking work runs, and detection of carrier pinning.
+ */
+@Configuration
+public class VirtualThreadConfig {
+
+    // Blocking JPA and AI calls behind Mono endpoints; one virtual thread each instead of boundedElastic's capped pool
+    @Bean(destroyMethod = "dispose")
+    @ConditionalOnThreading(Threading.VIRTUAL)
+    public Scheduler blockingCallScheduler() {
+        return Schedulers.fromExecutorService(Executors.newVirtualThreadPerTaskExecutor(), "blocking-virtual");
+    }
+
+    // Shared scheduler, so it must not be disposed with this context
+    @Bean(name = "blockingCallScheduler", destroyMethod = "")
+    @ConditionalOnThreading(Threading.PLATFORM)
+    public Scheduler platformBlockingCallScheduler() {
+        return Schedulers.boundedElastic();
+    }
+
+    @Bean(initMethod = "start", destroyMethod = "stop")
+    @ConditionalOnThreading(Threading.VIRTUAL)
+    public VirtualThreadPinningMonitor virtualThreadPinningMonitor(
+            MeterRegistry meterRegistry, @Value("${virtual-threads.pinning-threshold:20ms}") Duration threshold) {
+        return new VirtualThreadPinningMonitor(meterRegistry, threshold);
+    }
+}
@@ -0,0 +1,44 @@
+package com.airesumemaker.config;
+
+import io.netty.channel.ChannelOption;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+@Configuration
+public class WebClientConfig {
+
+    // The pool is the concurrency limit for reactive AI calls: at most maxInFlight on the wire,
+    // maxPending waiting for a connection, and anything beyond that fails fast instead of queueing unbounded
+    @Bean(destroyMethod = "dispose")
+    public ConnectionProvider aiServiceConnectionProvider(AIServiceProperties properties) {
+        AIServiceProperties.Reactive reactive = properties.getReactive();
+        return ConnectionProvider.builder("ai-service")
+                .maxConnections(reactive.getMaxInFlight())
+                .pendingAcquireMaxCount(reactive.getMaxPending())
+                .pendingAcquireTimeout(reactive.getPendingAcquireTimeout())
+                .maxIdleTime(properties.getHttp().getKeepAlive())
+                .evictInBackground(properties.getHttp().getEvictIdleAfter())
+                // reactor.netty.connection.provider.* gauges (active, idle, pending)
+                .metrics(true)
+                .build();
+    }
+
+    @Bean
+    public WebClient aiServiceWebClient(WebClient.Builder builder, ConnectionProvider aiServiceConnectionProvider,
+                                        AIServiceProperties properties) {
+        AIServiceProperties.Http http = properties.getHttp();
+        HttpClient httpClient = HttpClient.create(aiServiceConnectionProvider)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, (int) http.getConnectTimeout().toMillis())
+                .responseTimeout(http.getResponseTimeout())
+                .compress(true);
+        return builder
+                .baseUrl(properties.getBaseUrl())
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
+                .codecs(codecs -> codecs.defaultCodecs().maxInMemorySize(properties.getReactive().getMaxInMemorySize()))
+                .build();
+    }
+}
@@ -2,14 +2,15 @@ package com.airesumemaker.controller;
 
 import com.airesumemaker.dto.AuthRequest;
 import com.airesumemaker.dto.AuthResponse;
+import com.airesumemaker.dto.CurrentUserResponse;
 import com.airesumemaker.dto.RegisterRequest;
 import com.airesumemaker.dto.ResumeLoginRequest;
 import com.airesumemaker.service.AuthService;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.core.userdetails.UserDetails;
-import com.airesumemaker.entity.User;
 import com.airesumemaker.repository.UserRepository;
+import com.airesumemaker.security.JwtUserPrincipal;
 import org.springframework.web.bind.annotation.*;
 
 import jakarta.validation.Valid;
@@ -42,12 +43,18 @@ public class AuthController {
     }
 
     @GetMapping("/me")
-    public ResponseEntity<User> me(@AuthenticationPrincipal UserDetails userDetails) {
+    public ResponseEntity<CurrentUserResponse> me(@AuthenticationPrincipal UserDetails userDetails) {
         if (userDetails == null) {
             return ResponseEntity.status(401).build();
         }
+        if (userDetails instanceof JwtUserPrincipal principal) {
+            // Everything the client needs is already in the verified token
+            return ResponseEntity.ok(new CurrentUserResponse(principal.getId(), principal.getDisplayUsername(),
+                    principal.getEmail(), principal.getFirstName(), principal.getLastName(), principal.getRole()));
+        }
         return userRepository.findByEmail(userDetails.getUsername())
-                .map(ResponseEntity::ok)
+                .map(user -> ResponseEntity.ok(new CurrentUserResponse(user.getId(), user.getUsername(),
+                        user.getEmail(), user.getFirstName(), user.getLastName(), user.getRole().name())))
                 .orElseGet(() -> ResponseEntity.notFound().build());
     }
 }
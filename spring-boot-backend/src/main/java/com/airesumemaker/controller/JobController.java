@@ -1,8 +1,13 @@
 package com.airesumemaker.controller;
 
 import com.airesumemaker.dto.JobCreateRequest;
+import com.airesumemaker.dto.JobMatchRequest;
+import com.airesumemaker.dto.JobMatchResponse;
 import com.airesumemaker.dto.JobResponse;
+import com.airesumemaker.dto.JobSliceResponse;
+import com.airesumemaker.dto.JobSummary;
 import com.airesumemaker.dto.JobUpdateRequest;
+import com.airesumemaker.service.JobMatchingService;
 import com.airesumemaker.service.JobService;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -10,6 +15,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
 
 import jakarta.validation.Valid;
 import java.util.List;
@@ -19,13 +25,15 @@ import java.util.List;
 public class JobController {
 
     private final JobService jobService;
+    private final JobMatchingService jobMatchingService;
 
-    public JobController(JobService jobService) {
+    public JobController(JobService jobService, JobMatchingService jobMatchingService) {
         this.jobService = jobService;
+        this.jobMatchingService = jobMatchingService;
     }
 
     @GetMapping
-    public ResponseEntity<Page<JobResponse>> getAllJobs(
+    public ResponseEntity<Page<JobSummary>> getAllJobs(
             Pageable pageable,
             @RequestParam(required = false) String location,
             @RequestParam(required = false) List<String> skills,
@@ -33,25 +41,43 @@ public class JobController {
         return ResponseEntity.ok(jobService.getAllJobs(pageable, location, skills, company));
     }
 
+    @GetMapping("/scroll")
+    public ResponseEntity<JobSliceResponse> scrollJobs(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(required = false) String location,
+            @RequestParam(required = false) List<String> skills,
+            @RequestParam(required = false) String company,
+            @RequestParam(defaultValue = "false") boolean includeTotal) {
+        return ResponseEntity.ok(jobService.scrollJobs(cursor, size, location, skills, company, includeTotal));
+    }
+
     @GetMapping("/{id}")
     public ResponseEntity<JobResponse> getJob(@PathVariable Long id) {
         return ResponseEntity.ok(jobService.getJob(id));
     }
 
+    // Completes asynchronously so the servlet thread is released while matching or the AI service runs
+    @PostMapping("/match")
+    public Mono<ResponseEntity<JobMatchResponse>> matchJobs(@Valid @RequestBody JobMatchRequest request,
+                                                            Authentication auth) {
+        return jobMatchingService.matchJobsAsync(request, auth.getName()).map(ResponseEntity::ok);
+    }
+
     @PostMapping
-    @PreAuthorize("hasAuthority('RECRUITER')")
+    @PreAuthorize("hasRole('RECRUITER')")
     public ResponseEntity<JobResponse> createJob(@Valid @RequestBody JobCreateRequest request, Authentication auth) {
         return ResponseEntity.ok(jobService.createJob(request, auth.getName()));
     }
 
     @PutMapping("/{id}")
-    @PreAuthorize("hasAuthority('RECRUITER')")
+    @PreAuthorize("hasRole('RECRUITER')")
     public ResponseEntity<JobResponse> updateJob(@PathVariable Long id, @Valid @RequestBody JobUpdateRequest request, Authentication auth) {
         return ResponseEntity.ok(jobService.updateJob(id, request, auth.getName()));
     }
 
     @DeleteMapping("/{id}")
-    @PreAuthorize("hasAuthority('RECRUITER')")
+    @PreAuthorize("hasRole('RECRUITER')")
     public ResponseEntity<Void> deleteJob(@PathVariable Long id, Authentication auth) {
         jobService.deleteJob(id, auth.getName());
         return ResponseEntity.noContent().build();
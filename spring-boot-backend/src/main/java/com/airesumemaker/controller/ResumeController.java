@@ -0,0 +1,114 @@
+package com.airesumemaker.controller;
+
+import com.airesumemaker.client.AIServiceUnavailableException;
+import com.airesumemaker.client.ReactiveAIServiceClient;
+import com.airesumemaker.dto.ResumeAnalysisRequest;
+import com.airesumemaker.dto.ResumeAnalysisResponse;
+import com.airesumemaker.dto.ResumeStatusResponse;
+import com.airesumemaker.dto.ResumeSubmitRequest;
+import com.airesumemaker.entity.ResumeStatus;
+import com.airesumemaker.service.ResumeAnalysisCache;
+import com.airesumemaker.service.ResumeService;
+import jakarta.validation.Valid;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+
+import java.io.IOException;
+import java.net.URI;
+
+@RestController
+@RequestMapping("/resumes")
+public class ResumeController {
+
+    // Seconds a client should wait before polling a resume that is still being analyzed
+    private static final String RETRY_AFTER_SECONDS = "2";
+
+    // Marks an analysis served from the cache of an earlier model version while the AI service is unavailable
+    private static final String DEGRADED_HEADER = "X-Analysis-Degraded";
+
+    private final ReactiveAIServiceClient reactiveAIServiceClient;
+    private final ResumeService resumeService;
+    private final ResumeAnalysisCache analysisCache;
+    private final Scheduler blockingCallScheduler;
+
+    public ResumeController(ReactiveAIServiceClient reactiveAIServiceClient, ResumeService resumeService,
+                            ResumeAnalysisCache analysisCache, Scheduler blockingCallScheduler) {
+        this.reactiveAIServiceClient = reactiveAIServiceClient;
+        this.resumeService = resumeService;
+        this.analysisCache = analysisCache;
+        this.blockingCallScheduler = blockingCallScheduler;
+    }
+
+    // Saves and queues the resume; analysis happens in the background and is polled through Location
+    @PostMapping
+    public ResponseEntity<ResumeStatusResponse> submitResume(@Valid @RequestBody ResumeSubmitRequest request, Authentication auth) {
+        ResumeStatusResponse status = resumeService.submitResume(request.getResumeText(), request.getFileName(), auth.getName());
+        return accepted(status);
+    }
+
+    /**
+     * Raw file upload: the request body is the file itself and fileName names it. Reading the body as a
+     * stream rather than as multipart keeps it off the heap and out of servlet temp files.
+     */
+    @PostMapping(value = "/upload", consumes = {
+            MediaType.APPLICATION_PDF_VALUE,
+            "application/vnd.openxmlformats-officedocument.wordprocessingml.document",
+            MediaType.TEXT_PLAIN_VALUE})
+    public ResponseEntity<ResumeStatusResponse> uploadResume(@RequestParam String fileName, HttpServletRequest request,
+                                                             Authentication auth) throws IOException {
+        ResumeStatusResponse status = resumeService.uploadResume(request.getInputStream(), request.getContentLengthLong(),
+                fileName, MediaType.parseMediaType(request.getContentType()), auth.getName());
+        return accepted(status);
+    }
+
+    @GetMapping("/{id}/status")
+    public ResponseEntity<ResumeStatusResponse> getResumeStatus(@PathVariable Long id, Authentication auth) {
+        ResumeStatusResponse status = resumeService.getResumeStatus(id, auth.getName());
+        if (status.getStatus() == ResumeStatus.PENDING || status.getStatus() == ResumeStatus.PROCESSING) {
+            return ResponseEntity.ok().header(HttpHeaders.RETRY_AFTER, RETRY_AFTER_SECONDS).body(status);
+        }
+        return ResponseEntity.ok(status);
+    }
+
+    // Analysis without persisting the resume; the request completes asynchronously while Gemini works. Text
+    // analyzed before is answered from the analysis cache, and new analyses are added to it. With the AI
+    // service's circuit open, an earlier analysis of the same text is returned instead of a 503 where one exists.
+    @PostMapping("/analyze")
+    public Mono<ResponseEntity<ResumeAnalysisResponse>> analyzeResume(@RequestBody ResumeAnalysisRequest request) {
+        return Mono.fromCallable(() -> analysisCache.findCurrentVersion(request.getResumeText()))
+                .subscribeOn(blockingCallScheduler)
+                .flatMap(cached -> cached.map(Mono::just).orElseGet(() -> analyzeAndCache(request)))
+                .map(ResponseEntity::ok)
+                .onErrorResume(AIServiceUnavailableException.class, e -> Mono
+                        .fromCallable(() -> analysisCache.findAnyVersion(request.getResumeText())
+                                .map(stale -> ResponseEntity.ok().header(DEGRADED_HEADER, "true").body(stale))
+                                .orElseThrow(() -> e))
+                        .subscribeOn(blockingCallScheduler));
+    }
+
+    private Mono<ResumeAnalysisResponse> analyzeAndCache(ResumeAnalysisRequest request) {
+        return reactiveAIServiceClient.analyzeResume(request)
+                .flatMap(analysis -> Mono.fromRunnable(() -> analysisCache.save(request.getResumeText(), analysis))
+                        .subscribeOn(blockingCallScheduler)
+                        .thenReturn(analysis));
+    }
+
+    // 202 pointing at the status URL clients poll until analysis finishes
+    private ResponseEntity<ResumeStatusResponse> accepted(ResumeStatusResponse status) {
+        URI location = ServletUriComponentsBuilder.fromCurrentContextPath()
+                .path("/resumes/{id}/status")
+                .buildAndExpand(status.getId())
+                .toUri();
+        return ResponseEntity.accepted()
+                .location(location)
+                .header(HttpHeaders.RETRY_AFTER, RETRY_AFTER_SECONDS)
+                .body(status);
+    }
+}
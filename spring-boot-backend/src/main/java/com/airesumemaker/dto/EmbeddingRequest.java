@@ -0,0 +1,19 @@
+package com.airesumemaker.dto;
+
+import java.util.List;
+
+public class EmbeddingRequest {
+    private List<String> texts;
+
+    public EmbeddingRequest() {
+        // Default constructor for JSON deserialization
+    }
+
+    public EmbeddingRequest(List<String> texts) {
+        this.texts = texts;
+    }
+
+    // Getters and Setters
+    public List<String> getTexts() { return texts; }
+    public void setTexts(List<String> texts) { this.texts = texts; }
+}
@@ -0,0 +1,23 @@
+package com.airesumemaker.dto;
+
+import java.util.List;
+
+public class EmbeddingResponse {
+    private List<float[]> embeddings;
+    private String model;
+    private int dimension;
+
+    public EmbeddingResponse() {
+        // Default constructor
+    }
+
+    // Getters and Setters
+    public List<float[]> getEmbeddings() { return embeddings; }
+    public void setEmbeddings(List<float[]> embeddings) { this.embeddings = embeddings; }
+
+    public String getModel() { return model; }
+    public void setModel(String model) { this.model = model; }
+
+    public int getDimension() { return dimension; }
+    public void setDimension(int dimension) { this.dimension = dimension; }
+}
@@ -1,11 +1,19 @@
 package com.airesumemaker.dto;
 
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
 import java.util.List;
 
 public class JobMatchRequest {
+    private Long resumeId;
+
+    @NotBlank
     private String resumeText;
+
     private List<String> resumeSkills;
     private List<JobResponse> availableJobs;
+
+    @Min(1)
     private int maxMatches = 10;
 
     public JobMatchRequest() {
@@ -19,6 +27,9 @@ public class JobMatchRequest {
     }
 
     // Getters and Setters
+    public Long getResumeId() { return resumeId; }
+    public void setResumeId(Long resumeId) { this.resumeId = resumeId; }
+
     public String getResumeText() { return resumeText; }
     public void setResumeText(String resumeText) { this.resumeText = resumeText; }
 
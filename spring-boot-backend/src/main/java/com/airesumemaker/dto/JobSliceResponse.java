@@ -0,0 +1,40 @@
+package com.airesumemaker.dto;
+
+import java.util.List;
+
+public class JobSliceResponse {
+    private List<JobSummary> content;
+    private int size;
+    private boolean hasNext;
+    private String nextCursor;
+    // Planner estimate, only filled in when requested
+    private Long approximateTotal;
+
+    public JobSliceResponse() {
+        // Default constructor
+    }
+
+    public JobSliceResponse(List<JobSummary> content, int size, boolean hasNext, String nextCursor, Long approximateTotal) {
+        this.content = content;
+        this.size = size;
+        this.hasNext = hasNext;
+        this.nextCursor = nextCursor;
+        this.approximateTotal = approximateTotal;
+    }
+
+    // Getters and Setters
+    public List<JobSummary> getContent() { return content; }
+    public void setContent(List<JobSummary> content) { this.content = content; }
+
+    public int getSize() { return size; }
+    public void setSize(int size) { this.size = size; }
+
+    public boolean isHasNext() { return hasNext; }
+    public void setHasNext(boolean hasNext) { this.hasNext = hasNext; }
+
+    public String getNextCursor() { return nextCursor; }
+    public void setNextCursor(String nextCursor) { this.nextCursor = nextCursor; }
+
+    public Long getApproximateTotal() { return approximateTotal; }
+    public void setApproximateTotal(Long approximateTotal) { this.approximateTotal = approximateTotal; }
+}
@@ -0,0 +1,78 @@
+package com.airesumemaker.dto;
+
+import com.airesumemaker.entity.Job.ExperienceLevel;
+import com.airesumemaker.entity.Job.JobType;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Slim job row for list views. Leaves out the TEXT columns; GET /jobs/{id} returns the full JobResponse.
+ */
+public class JobSummary {
+    private Long id;
+    private String title;
+    private String company;
+    private String location;
+    private BigDecimal salaryMin;
+    private BigDecimal salaryMax;
+    private JobType jobType;
+    private ExperienceLevel experienceLevel;
+    private List<String> skills = new ArrayList<>();
+    private String recruiterEmail;
+    private LocalDateTime createdAt;
+
+    // Constructors
+    public JobSummary() {
+        // Default constructor
+    }
+
+    // Used by the JPQL constructor projections in JobRepository; skills are attached afterwards
+    public JobSummary(Long id, String title, String company, String location, BigDecimal salaryMin, BigDecimal salaryMax, JobType jobType, ExperienceLevel experienceLevel, String recruiterEmail, LocalDateTime createdAt) {
+        this.id = id;
+        this.title = title;
+        this.company = company;
+        this.location = location;
+        this.salaryMin = salaryMin;
+        this.salaryMax = salaryMax;
+        this.jobType = jobType;
+        this.experienceLevel = experienceLevel;
+        this.recruiterEmail = recruiterEmail;
+        this.createdAt = createdAt;
+    }
+
+    // Getters and Setters
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+
+    public String getTitle() { return title; }
+    public void setTitle(String title) { this.title = title; }
+
+    public String getCompany() { return company; }
+    public void setCompany(String company) { this.company = company; }
+
+    public String getLocation() { return location; }
+    public void setLocation(String location) { this.location = location; }
+
+    public BigDecimal getSalaryMin() { return salaryMin; }
+    public void setSalaryMin(BigDecimal salaryMin) { this.salaryMin = salaryMin; }
+
+    public BigDecimal getSalaryMax() { return salaryMax; }
+    public void setSalaryMax(BigDecimal salaryMax) { this.salaryMax = salaryMax; }
+
+    public JobType getJobType() { return jobType; }
+    public void setJobType(JobType jobType) { this.jobType = jobType; }
+
+    public ExperienceLevel getExperienceLevel() { return experienceLevel; }
+    public void setExperienceLevel(ExperienceLevel experienceLevel) { this.experienceLevel = experienceLevel; }
+
+    public List<String> getSkills() { return skills; }
+    public void setSkills(List<String> skills) { this.skills = skills; }
+
+    public String getRecruiterEmail() { return recruiterEmail; }
+    public void setRecruiterEmail(String recruiterEmail) { this.recruiterEmail = recruiterEmail; }
+
+    public LocalDateTime getCreatedAt() { return createdAt; }
+    public void setCreatedAt(LocalDateTime createdAt) { this.createdAt = createdAt; }
+}
@@ -0,0 +1,19 @@
+package com.airesumemaker.dto;
+
+import java.util.List;
+
+public class ResumeAnalysisBatchRequest {
+    private List<ResumeAnalysisRequest> items;
+
+    public ResumeAnalysisBatchRequest() {
+        // Default constructor for JSON deserialization
+    }
+
+    public ResumeAnalysisBatchRequest(List<ResumeAnalysisRequest> items) {
+        this.items = items;
+    }
+
+    // Getters and Setters
+    public List<ResumeAnalysisRequest> getItems() { return items; }
+    public void setItems(List<ResumeAnalysisRequest> items) { this.items = items; }
+}
@@ -0,0 +1,33 @@
+package com.airesumemaker.dto;
+
+import java.util.List;
+
+public class ResumeAnalysisBatchResponse {
+    // One entry per request item, in request order
+    private List<Result> results;
+
+    public ResumeAnalysisBatchResponse() {
+        // Default constructor
+    }
+
+    public static class Result {
+        private ResumeAnalysisResponse analysis;
+        // Set instead of analysis when this item failed; the other items are unaffected
+        private String error;
+
+        public Result() {
+            // Default constructor
+        }
+
+        // Getters and Setters
+        public ResumeAnalysisResponse getAnalysis() { return analysis; }
+        public void setAnalysis(ResumeAnalysisResponse analysis) { this.analysis = analysis; }
+
+        public String getError() { return error; }
+        public void setError(String error) { this.error = error; }
+    }
+
+    // Getters and Setters
+    public List<Result> getResults() { return results; }
+    public void setResults(List<Result> results) { this.results = results; }
+}
@@ -0,0 +1,47 @@
+package com.airesumemaker.dto;
+
+import com.airesumemaker.entity.ResumeStatus;
+
+import java.time.LocalDateTime;
+
+public class ResumeStatusResponse {
+    private Long id;
+    private String fileName;
+    private ResumeStatus status;
+    // Filled in once status is COMPLETED
+    private String skills;
+    private String experience;
+    // Last failure, once status is FAILED
+    private String processingError;
+    private LocalDateTime createdAt;
+    private LocalDateTime processedAt;
+
+    public ResumeStatusResponse() {
+        // Default constructor
+    }
+
+    // Getters and Setters
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+
+    public String getFileName() { return fileName; }
+    public void setFileName(String fileName) { this.fileName = fileName; }
+
+    public ResumeStatus getStatus() { return status; }
+    public void setStatus(ResumeStatus status) { this.status = status; }
+
+    public String getSkills() { return skills; }
+    public void setSkills(String skills) { this.skills = skills; }
+
+    public String getExperience() { return experience; }
+    public void setExperience(String experience) { this.experience = experience; }
+
+    public String getProcessingError() { return processingError; }
+    public void setProcessingError(String processingError) { this.processingError = processingError; }
+
+    public LocalDateTime getCreatedAt() { return createdAt; }
+    public void setCreatedAt(LocalDateTime createdAt) { this.createdAt = createdAt; }
+
+    public LocalDateTime getProcessedAt() { return processedAt; }
+    public void setProcessedAt(LocalDateTime processedAt) { this.processedAt = processedAt; }
+}
@@ -0,0 +1,22 @@
+package com.airesumemaker.dto;
+
+import jakarta.validation.constraints.NotBlank;
+
+public class ResumeSubmitRequest {
+    @NotBlank
+    private String resumeText;
+
+    @NotBlank
+    private String fileName;
+
+    public ResumeSubmitRequest() {
+        // Default constructor for JSON deserialization
+    }
+
+    // Getters and Setters
+    public String getResumeText() { return resumeText; }
+    public void setResumeText(String resumeText) { this.resumeText = resumeText; }
+
+    public String getFileName() { return fileName; }
+    public void setFileName(String fileName) { this.fileName = fileName; }
+}
@@ -7,7 +7,9 @@ import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
 @Entity
 @Table(name = "jobs")
@@ -29,6 +31,13 @@ public class Job {
     @Column(nullable = false)
     private String location;
 
+    // Generated by the database (search_normalize) and trigram-indexed for substring filters
+    @Column(insertable = false, updatable = false)
+    private String companySearch;
+
+    @Column(insertable = false, updatable = false)
+    private String locationSearch;
+
     @Column(columnDefinition = "TEXT")
     private String requirements;
 
@@ -49,6 +58,12 @@ public class Job {
     @Column(name = "skill")
     private List<String> skills;
 
+    // Canonical skill ids backing skill filters; skills above keeps the display names
+    @ElementCollection
+    @CollectionTable(name = "job_skill_ids", joinColumns = @JoinColumn(name = "job_id"))
+    @Column(name = "skill_id")
+    private Set<Integer> skillIds = new HashSet<>();
+
     @Column(nullable = false)
     private Boolean active = true;
 
@@ -112,6 +127,10 @@ public class Job {
     public String getLocation() { return location; }
     public void setLocation(String location) { this.location = location; }
 
+    public String getCompanySearch() { return companySearch; }
+
+    public String getLocationSearch() { return locationSearch; }
+
     public String getRequirements() { return requirements; }
     public void setRequirements(String requirements) { this.requirements = requirements; }
 
@@ -133,6 +152,9 @@ public class Job {
     public List<String> getSkills() { return skills; }
     public void setSkills(List<String> skills) { this.skills = skills; }
 
+    public Set<Integer> getSkillIds() { return skillIds; }
+    public void setSkillIds(Set<Integer> skillIds) { this.skillIds = skillIds; }
+
     public Boolean getActive() { return active; }
     public void setActive(Boolean active) { this.active = active; }
 
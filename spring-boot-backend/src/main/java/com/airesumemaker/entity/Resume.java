@@ -26,6 +26,9 @@ public class Resume {
 
     private Long fileSize;
 
+    @Column(length = 64)
+    private String fileHash;
+
     @Column(columnDefinition = "TEXT")
     private String parsedContent;
 
@@ -37,6 +40,15 @@ public class Resume {
 
     private String phoneNumber;
 
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private ResumeStatus status = ResumeStatus.COMPLETED;
+
+    @Column(columnDefinition = "TEXT")
+    private String processingError;
+
+    private LocalDateTime processedAt;
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id", nullable = false)
     private User user;
@@ -81,6 +93,9 @@ public class Resume {
     public Long getFileSize() { return fileSize; }
     public void setFileSize(Long fileSize) { this.fileSize = fileSize; }
 
+    public String getFileHash() { return fileHash; }
+    public void setFileHash(String fileHash) { this.fileHash = fileHash; }
+
     public String getParsedContent() { return parsedContent; }
     public void setParsedContent(String parsedContent) { this.parsedContent = parsedContent; }
 
@@ -93,6 +108,15 @@ public class Resume {
     public String getPhoneNumber() { return phoneNumber; }
     public void setPhoneNumber(String phoneNumber) { this.phoneNumber = phoneNumber; }
 
+    public ResumeStatus getStatus() { return status; }
+    public void setStatus(ResumeStatus status) { this.status = status; }
+
+    public String getProcessingError() { return processingError; }
+    public void setProcessingError(String processingError) { this.processingError = processingError; }
+
+    public LocalDateTime getProcessedAt() { return processedAt; }
+    public void setProcessedAt(LocalDateTime processedAt) { this.processedAt = processedAt; }
+
     public User getUser() { return user; }
     public void setUser(User user) { this.user = user; }
 
@@ -0,0 +1,70 @@
+package com.airesumemaker.entity;
+
+import jakarta.persistence.*;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+@Entity
+@Table(name = "resume_analysis_cache")
+@IdClass(ResumeAnalysisCacheEntry.Key.class)
+public class ResumeAnalysisCacheEntry {
+    @Id
+    @Column(name = "content_hash", length = 64)
+    private String contentHash;
+
+    @Id
+    @Column(name = "analysis_version")
+    private String analysisVersion;
+
+    // Serialized ResumeAnalysisResponse
+    @JdbcTypeCode(SqlTypes.JSON)
+    @Column(nullable = false)
+    private String analysis;
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+
+    public static class Key implements Serializable {
+        private String contentHash;
+        private String analysisVersion;
+
+        public Key() {}
+
+        public Key(String contentHash, String analysisVersion) {
+            this.contentHash = contentHash;
+            this.analysisVersion = analysisVersion;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof Key key)) return false;
+            return Objects.equals(contentHash, key.contentHash) && Objects.equals(analysisVersion, key.analysisVersion);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(contentHash, analysisVersion);
+        }
+    }
+
+    // Constructors
+    public ResumeAnalysisCacheEntry() {}
+
+    // Getters and Setters
+    public String getContentHash() { return contentHash; }
+    public void setContentHash(String contentHash) { this.contentHash = contentHash; }
+
+    public String getAnalysisVersion() { return analysisVersion; }
+    public void setAnalysisVersion(String analysisVersion) { this.analysisVersion = analysisVersion; }
+
+    public String getAnalysis() { return analysis; }
+    public void setAnalysis(String analysis) { this.analysis = analysis; }
+
+    public LocalDateTime getCreatedAt() { return createdAt; }
+    public void setCreatedAt(LocalDateTime createdAt) { this.createdAt = createdAt; }
+}
@@ -0,0 +1,11 @@
+package com.airesumemaker.entity;
+
+public enum ResumeStatus {
+    // Saved and queued for analysis
+    PENDING,
+    // Claimed by a worker; returns to the queue if the worker dies before finishing
+    PROCESSING,
+    COMPLETED,
+    // Analysis failed on every attempt; processingError holds the last failure
+    FAILED
+}
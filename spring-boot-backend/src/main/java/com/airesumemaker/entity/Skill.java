@@ -0,0 +1,38 @@
+package com.airesumemaker.entity;
+
+import jakarta.persistence.*;
+
+@Entity
+@Table(name = "skills")
+public class Skill {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Integer id;
+
+    // Display name, e.g. "PostgreSQL"
+    @Column(nullable = false)
+    private String name;
+
+    // Lower-cased, whitespace-collapsed key, e.g. "postgresql"
+    @Column(nullable = false, unique = true)
+    private String normalizedName;
+
+    // Constructors
+    public Skill() {}
+
+    public Skill(Integer id, String name, String normalizedName) {
+        this.id = id;
+        this.name = name;
+        this.normalizedName = normalizedName;
+    }
+
+    // Getters and Setters
+    public Integer getId() { return id; }
+    public void setId(Integer id) { this.id = id; }
+
+    public String getName() { return name; }
+    public void setName(String name) { this.name = name; }
+
+    public String getNormalizedName() { return normalizedName; }
+    public void setNormalizedName(String normalizedName) { this.normalizedName = normalizedName; }
+}
@@ -0,0 +1,29 @@
+package com.airesumemaker.entity;
+
+import jakarta.persistence.*;
+
+@Entity
+@Table(name = "skill_aliases")
+public class SkillAlias {
+    // Normalized synonym, e.g. "k8s"
+    @Id
+    private String alias;
+
+    @Column(nullable = false)
+    private Integer skillId;
+
+    // Constructors
+    public SkillAlias() {}
+
+    public SkillAlias(String alias, Integer skillId) {
+        this.alias = alias;
+        this.skillId = skillId;
+    }
+
+    // Getters and Setters
+    public String getAlias() { return alias; }
+    public void setAlias(String alias) { this.alias = alias; }
+
+    public Integer getSkillId() { return skillId; }
+    public void setSkillId(Integer skillId) { this.skillId = skillId; }
+}
@@ -0,0 +1,58 @@
+package com.airesumemaker.extraction;
+
+import java.io.Writer;
+
+/**
+ * Collects extracted text up to a fixed number of chars and silently drops the rest, so a huge or hostile
+ * document costs at most maxChars of heap. Extractors check isFull() between pages or paragraphs to stop early.
+ */
+class BoundedTextWriter extends Writer {
+
+    private final StringBuilder text;
+    private final int maxChars;
+
+    BoundedTextWriter(int maxChars) {
+        this.maxChars = maxChars;
+        this.text = new StringBuilder(Math.min(maxChars, 16 * 1024));
+    }
+
+    @Override
+    public void write(char[] chars, int offset, int length) {
+        int room = maxChars - text.length();
+        if (room > 0) {
+            text.append(chars, offset, Math.min(length, room));
+        }
+    }
+
+    @Override
+    public void write(String str, int offset, int length) {
+        int room = maxChars - text.length();
+        if (room > 0) {
+            text.append(str, offset, offset + Math.min(length, room));
+        }
+    }
+
+    @Override
+    public void write(int c) {
+        if (text.length() < maxChars) {
+            text.append((char) c);
+        }
+    }
+
+    boolean isFull() {
+        return text.length() >= maxChars;
+    }
+
+    @Override
+    public void flush() {
+    }
+
+    @Override
+    public void close() {
+    }
+
+    @Override
+    public String toString() {
+        return text.toString();
+    }
+}
@@ -0,0 +1,80 @@
+package com.airesumemaker.extraction;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.nio.file.Path;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+
+/**
+ * A DOCX is a zip whose body text sits in word/document.xml. Pulling that one entry through StAX keeps
+ * memory flat however long the document is; headers, footers and embedded media are never read.
+ */
+final class DocxTextExtractor {
+
+    private static final String WORD_NS = "http://schemas.openxmlformats.org/wordprocessingml/2006/main";
+    private static final String DOCUMENT_ENTRY = "word/document.xml";
+
+    private DocxTextExtractor() {
+    }
+
+    static void extract(Path file, BoundedTextWriter out) throws IOException {
+        try (ZipFile zip = new ZipFile(file.toFile())) {
+            ZipEntry entry = zip.getEntry(DOCUMENT_ENTRY);
+            if (entry == null) {
+                throw new ExtractionException("DOCX has no " + DOCUMENT_ENTRY);
+            }
+            try (InputStream in = zip.getInputStream(entry)) {
+                // A factory per call: the JDK's factory reuses reader state and is not safe to share across threads
+                XMLInputFactory factory = XMLInputFactory.newDefaultFactory();
+                // document.xml is untrusted input
+                factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+                factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+                XMLStreamReader reader = factory.createXMLStreamReader(in);
+                try {
+                    copyText(reader, out);
+                } finally {
+                    reader.close();
+                }
+            }
+        } catch (XMLStreamException e) {
+            throw new ExtractionException("DOCX body is not valid XML", e);
+        }
+    }
+
+    private static void copyText(XMLStreamReader reader, BoundedTextWriter out)
+            throws XMLStreamException, InterruptedIOException {
+        boolean inText = false;
+        while (reader.hasNext() && !out.isFull()) {
+            int event = reader.next();
+            if (event == XMLStreamConstants.START_ELEMENT && WORD_NS.equals(reader.getNamespaceURI())) {
+                switch (reader.getLocalName()) {
+                    case "t" -> inText = true;
+                    case "tab" -> out.write('\t');
+                    case "br", "cr" -> out.write('\n');
+                    default -> {
+                    }
+                }
+            } else if (event == XMLStreamConstants.END_ELEMENT && WORD_NS.equals(reader.getNamespaceURI())) {
+                switch (reader.getLocalName()) {
+                    case "t" -> inText = false;
+                    case "p" -> {
+                        out.write('\n');
+                        if (Thread.currentThread().isInterrupted()) {
+                            throw new InterruptedIOException("DOCX extraction cancelled");
+                        }
+                    }
+                    default -> {
+                    }
+                }
+            } else if (inText && (event == XMLStreamConstants.CHARACTERS || event == XMLStreamConstants.CDATA)) {
+                out.write(reader.getTextCharacters(), reader.getTextStart(), reader.getTextLength());
+            }
+        }
+    }
+}
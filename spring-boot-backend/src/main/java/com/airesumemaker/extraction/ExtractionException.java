@@ -0,0 +1,15 @@
+package com.airesumemaker.extraction;
+
+/**
+ * The file cannot be turned into text: unsupported type, corrupt or encrypted. Retrying will not help.
+ */
+public class ExtractionException extends RuntimeException {
+
+    public ExtractionException(String message) {
+        super(message);
+    }
+
+    public ExtractionException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,43 @@
+package com.airesumemaker.extraction;
+
+import org.apache.pdfbox.Loader;
+import org.apache.pdfbox.io.IOUtils;
+import org.apache.pdfbox.io.RandomAccessReadBufferedFile;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.pdmodel.encryption.InvalidPasswordException;
+import org.apache.pdfbox.text.PDFTextStripper;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.nio.file.Path;
+
+/**
+ * Reads the file through a small read buffer and caches decoded streams in temp files, so memory depends
+ * on the largest page rather than the document size. Text is stripped one page at a time.
+ */
+final class PdfTextExtractor {
+
+    private PdfTextExtractor() {
+    }
+
+    static void extract(Path file, BoundedTextWriter out, int maxPages) throws IOException {
+        try (PDDocument document = Loader.loadPDF(new RandomAccessReadBufferedFile(file.toFile()), "", null, null,
+                IOUtils.createTempFileOnlyStreamCache())) {
+            PDFTextStripper stripper = new PDFTextStripper();
+            stripper.setLineSeparator("\n");
+            stripper.setSortByPosition(true);
+            int pages = Math.min(document.getNumberOfPages(), maxPages);
+            for (int page = 1; page <= pages && !out.isFull(); page++) {
+                if (Thread.currentThread().isInterrupted()) {
+                    throw new InterruptedIOException("PDF extraction cancelled");
+                }
+                stripper.setStartPage(page);
+                stripper.setEndPage(page);
+                stripper.writeText(document, out);
+                out.write('\n');
+            }
+        } catch (InvalidPasswordException e) {
+            throw new ExtractionException("PDF is password protected", e);
+        }
+    }
+}
@@ -0,0 +1,138 @@
+package com.airesumemaker.extraction;
+
+import com.airesumemaker.config.ExtractionProperties;
+import jakarta.annotation.PreDestroy;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.InterruptedIOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Turns stored resume files into plain text on a dedicated pool, so parsing large PDFs competes with
+ * neither request threads nor the workers waiting on the AI service.
+ */
+@Component
+public class ResumeTextExtractor {
+
+    private static final long NOT_STARTED = Long.MIN_VALUE;
+
+    private final ExtractionProperties properties;
+    private final ExecutorService executor;
+
+    public ResumeTextExtractor(ExtractionProperties properties) {
+        this.properties = properties;
+        AtomicInteger threadCount = new AtomicInteger();
+        this.executor = Executors.newFixedThreadPool(Math.max(1, properties.getThreads()), runnable -> {
+            Thread thread = new Thread(runnable, "resume-extract-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        // Callers of extract waiting on a task that never started would otherwise wait forever
+        executor.shutdownNow().forEach(queued -> {
+            if (queued instanceof Future<?> future) {
+                future.cancel(false);
+            }
+        });
+    }
+
+    /**
+     * Blocks the caller until the text is ready. The configured timeout runs from when an extraction thread
+     * picks the document up, so time spent queued behind other large files is not held against it; a
+     * document that takes longer is abandoned and its extraction thread interrupted.
+     */
+    public String extract(Path file, String fileType) {
+        TimedExtraction task = new TimedExtraction(() -> extractNow(file, fileType));
+        Future<String> result = executor.submit(task);
+        long timeoutNanos = properties.getTimeout().toNanos();
+        try {
+            while (true) {
+                long startedAt = task.startedAt;
+                long wait = startedAt == NOT_STARTED ? timeoutNanos : startedAt + timeoutNanos - System.nanoTime();
+                try {
+                    return result.get(Math.max(0, wait), TimeUnit.NANOSECONDS);
+                } catch (TimeoutException e) {
+                    if (startedAt != NOT_STARTED) {
+                        result.cancel(true);
+                        throw new ExtractionException("Text extraction took longer than " + properties.getTimeout());
+                    }
+                    // Still queued, or started during this wait; the deadline is recomputed from its start
+                }
+            }
+        } catch (InterruptedException e) {
+            result.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while extracting resume text", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    // Runs on the calling thread; exposed for callers that manage their own threads, such as benchmarks
+    public String extractNow(Path file, String fileType) {
+        BoundedTextWriter out = new BoundedTextWriter(properties.getMaxChars());
+        try {
+            switch (fileType) {
+                case "pdf" -> PdfTextExtractor.extract(file, out, properties.getMaxPages());
+                case "docx" -> DocxTextExtractor.extract(file, out);
+                case "txt", "text" -> copyPlainText(file, out);
+                default -> throw new ExtractionException("Text extraction is not supported for " + fileType + " files");
+            }
+        } catch (IOException e) {
+            if (e instanceof InterruptedIOException) {
+                throw new UncheckedIOException(e);
+            }
+            // The file is local and already fully written, so an I/O error here means the content is unreadable
+            throw new ExtractionException("Cannot read text from " + fileType + " file: " + e.getMessage(), e);
+        }
+        return out.toString();
+    }
+
+    private static void copyPlainText(Path file, BoundedTextWriter out) throws IOException {
+        char[] buffer = new char[8192];
+        // Unlike Files.newBufferedReader this replaces malformed bytes instead of failing on them
+        try (Reader reader = new InputStreamReader(Files.newInputStream(file), StandardCharsets.UTF_8)) {
+            int read;
+            while (!out.isFull() && (read = reader.read(buffer)) != -1) {
+                out.write(buffer, 0, read);
+            }
+        }
+    }
+
+    // Records when an extraction thread picks the task up
+    private static final class TimedExtraction implements Callable<String> {
+
+        private final Callable<String> extraction;
+        private volatile long startedAt = NOT_STARTED;
+
+        TimedExtraction(Callable<String> extraction) {
+            this.extraction = extraction;
+        }
+
+        @Override
+        public String call() throws Exception {
+            startedAt = System.nanoTime();
+            return extraction.call();
+        }
+    }
+}
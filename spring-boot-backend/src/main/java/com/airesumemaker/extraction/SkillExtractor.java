@@ -0,0 +1,172 @@
+package com.airesumemaker.extraction;
+
+import com.airesumemaker.config.ExtractionProperties;
+import com.airesumemaker.service.SkillDictionaryService;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Finds dictionary skills in resume text in one pass, in the JVM, so a resume has its skills as soon as its
+ * text is known and the AI service is needed only for the richer fields. The automaton is compiled from
+ * the curated dictionary file plus the skills table, and recompiled periodically to pick up skills that
+ * job postings have added since.
+ */
+@Component
+public class SkillExtractor {
+
+    private static final Logger log = LoggerFactory.getLogger(SkillExtractor.class);
+
+    // Shorter names from job postings ("go", "js", "ml") are too ambiguous in prose; the curated file decides those
+    private static final int MIN_POSTED_TERM_LENGTH = 3;
+    // The skills table takes any string a posting sends; these keep its share of the automaton bounded
+    static final int MAX_POSTED_TERM_LENGTH = 40;
+    static final int MAX_POSTED_TERMS = 10_000;
+
+    private final SkillDictionaryService skillDictionary;
+    private final ExtractionProperties properties;
+    private final Map<String, String> curated;
+    private volatile SkillMatcher matcher;
+
+    private final ScheduledExecutorService refresher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "skill-dictionary-refresh");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public SkillExtractor(SkillDictionaryService skillDictionary, ExtractionProperties properties,
+                          ResourceLoader resourceLoader) {
+        this.skillDictionary = skillDictionary;
+        this.properties = properties;
+        Resource resource = resourceLoader.getResource(properties.getSkillDictionary());
+        try (Reader reader = new InputStreamReader(resource.getInputStream(), StandardCharsets.UTF_8)) {
+            this.curated = readDictionary(reader);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot read skill dictionary " + properties.getSkillDictionary(), e);
+        }
+        // Usable before the database has been read
+        this.matcher = SkillMatcher.compile(curated);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        long millis = properties.getSkillRefreshInterval().toMillis();
+        refresher.scheduleWithFixedDelay(this::refresh, 0, millis, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        refresher.shutdownNow();
+    }
+
+    /**
+     * Canonical names of the skills the text mentions, in order of first mention.
+     */
+    public List<String> extract(String text) {
+        return text == null || text.isEmpty() ? List.of() : matcher.extract(text);
+    }
+
+    /**
+     * The extracted skills as Resume.skills stores them, or null when there are none.
+     */
+    public String extractJoined(String text) {
+        List<String> skills = extract(text);
+        return skills.isEmpty() ? null : String.join(", ", skills);
+    }
+
+    void refresh() {
+        try {
+            long started = System.nanoTime();
+            SkillMatcher compiled = SkillMatcher.compile(withPostedTerms(curated, skillDictionary.terms()));
+            matcher = compiled;
+            log.debug("Compiled {} skill terms in {} ms", compiled.termCount(), (System.nanoTime() - started) / 1_000_000);
+        } catch (RuntimeException e) {
+            log.warn("Refreshing the skill dictionary failed, keeping the previous one: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * The curated terms plus those from the skills table that look like skill names. Posted names win so
+     * extracted skills line up with how jobs spell them. Past {@link #MAX_POSTED_TERMS} only the shortest
+     * are kept.
+     */
+    static Map<String, String> withPostedTerms(Map<String, String> curated, Map<String, String> posted) {
+        Map<String, String> terms = new HashMap<>(curated);
+        List<String> accepted = posted.keySet().stream()
+                .filter(term -> curated.containsKey(term) || isPostedTerm(term))
+                .sorted(Comparator.comparingInt(String::length).thenComparing(Comparator.naturalOrder()))
+                .toList();
+        if (accepted.size() > MAX_POSTED_TERMS) {
+            log.warn("Skills table has {} usable terms, compiling the shortest {}", accepted.size(), MAX_POSTED_TERMS);
+            accepted = accepted.subList(0, MAX_POSTED_TERMS);
+        }
+        for (String term : accepted) {
+            terms.put(term, posted.get(term));
+        }
+        return terms;
+    }
+
+    // ASCII letters and digits, single spaces and + # . - / only: keeps the alphabet, and so the table, small
+    static boolean isPostedTerm(String term) {
+        if (term.length() < MIN_POSTED_TERM_LENGTH || term.length() > MAX_POSTED_TERM_LENGTH) {
+            return false;
+        }
+        for (int i = 0; i < term.length(); i++) {
+            char c = term.charAt(i);
+            boolean allowed = (c >= 'a' && c <= 'z') || (c >= '0' && c <= '9')
+                    || c == ' ' || c == '+' || c == '#' || c == '.' || c == '-' || c == '/';
+            if (!allowed) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Reads "Canonical Name | synonym | synonym" lines into normalized term -> canonical name; blank lines and
+     * lines starting with # are skipped. The canonical name is a term too unless it is written as [Name].
+     */
+    static Map<String, String> readDictionary(Reader source) throws IOException {
+        Map<String, String> terms = new HashMap<>();
+        BufferedReader reader = new BufferedReader(source);
+        String line;
+        while ((line = reader.readLine()) != null) {
+            line = line.strip();
+            if (line.isEmpty() || line.startsWith("#")) {
+                continue;
+            }
+            String[] parts = line.split("\\|");
+            String name = parts[0].strip();
+            boolean nameIsTerm = !(name.startsWith("[") && name.endsWith("]"));
+            if (!nameIsTerm) {
+                name = name.substring(1, name.length() - 1).strip();
+            }
+            for (int i = nameIsTerm ? 0 : 1; i < parts.length; i++) {
+                String term = SkillMatcher.normalize(parts[i]);
+                if (!term.isEmpty()) {
+                    terms.putIfAbsent(term, name);
+                }
+            }
+        }
+        return terms;
+    }
+}
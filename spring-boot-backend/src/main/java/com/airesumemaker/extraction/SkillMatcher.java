@@ -0,0 +1,242 @@
+package com.airesumemaker.extraction;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Immutable Aho-Corasick automaton over a skill dictionary. Terms are compiled into a full transition table
+ * (failure links already folded in), so extraction reads each character of the text once with no
+ * backtracking. Matching is case-insensitive and treats any run of whitespace as one space.
+ *
+ * A term only matches on word boundaries: a term starting or ending with a letter or digit must not be glued
+ * to another one, so "java" is not found in "javascript". '+' and '#' count as word characters, which keeps
+ * "c" out of "c++" and "c#". Where matches overlap the leftmost, then longest, wins: "spring boot" yields
+ * Spring Boot but not also Spring.
+ */
+public final class SkillMatcher {
+
+    private static final int ROOT = 0;
+
+    // Upper bound on transition table entries (64 MB of ints); compile refuses larger dictionaries
+    static final long MAX_TABLE_SIZE = 1L << 24;
+
+    // Character -> alphabet index; 0 for characters that appear in no term
+    private final char[] charClass;
+    private final int alphabetSize;
+    // next[state * alphabetSize + class] -> state
+    private final int[] next;
+    // Term ending exactly at a state, or -1
+    private final int[] termAt;
+    // Nearest state on the failure chain where a term ends, or -1
+    private final int[] outputLink;
+
+    private final int[] termLength;
+    private final boolean[] termStartsWord;
+    private final boolean[] termEndsWord;
+    private final String[] termSkill;
+
+    private SkillMatcher(char[] charClass, int alphabetSize, int[] next, int[] termAt, int[] outputLink,
+                         int[] termLength, boolean[] termStartsWord, boolean[] termEndsWord, String[] termSkill) {
+        this.charClass = charClass;
+        this.alphabetSize = alphabetSize;
+        this.next = next;
+        this.termAt = termAt;
+        this.outputLink = outputLink;
+        this.termLength = termLength;
+        this.termStartsWord = termStartsWord;
+        this.termEndsWord = termEndsWord;
+        this.termSkill = termSkill;
+    }
+
+    /**
+     * Compiles terms (synonyms included) mapped to the canonical skill each one stands for. Terms are
+     * normalized the same way as the text; blank ones are skipped.
+     *
+     * @throws IllegalArgumentException if the table would exceed {@link #MAX_TABLE_SIZE} entries
+     */
+    public static SkillMatcher compile(Map<String, String> termsToSkill) {
+        List<String> terms = new ArrayList<>();
+        List<String> skills = new ArrayList<>();
+        Set<String> seen = new LinkedHashSet<>();
+        termsToSkill.forEach((term, skill) -> {
+            String normalized = normalize(term);
+            if (!normalized.isEmpty() && seen.add(normalized)) {
+                terms.add(normalized);
+                skills.add(skill);
+            }
+        });
+
+        char[] charClass = new char[Character.MAX_VALUE + 1];
+        int alphabetSize = 1;
+        int maxStates = 1;
+        for (String term : terms) {
+            maxStates += term.length();
+            for (int i = 0; i < term.length(); i++) {
+                char c = term.charAt(i);
+                if (charClass[c] == 0) {
+                    charClass[c] = (char) alphabetSize++;
+                }
+            }
+        }
+
+        // States are counted before prefixes are shared, so this over-estimates; it also keeps the int index in range
+        long tableSize = (long) maxStates * alphabetSize;
+        if (tableSize > MAX_TABLE_SIZE) {
+            throw new IllegalArgumentException("Skill dictionary too large: " + terms.size() + " terms over "
+                    + alphabetSize + " characters need " + tableSize + " transitions, limit " + MAX_TABLE_SIZE);
+        }
+
+        // Trie first; 0 marks a missing edge since no edge can lead back to the root
+        int[] next = new int[(int) tableSize];
+        int[] termAt = new int[maxStates];
+        Arrays.fill(termAt, -1);
+        int states = 1;
+        int[] termLength = new int[terms.size()];
+        boolean[] termStartsWord = new boolean[terms.size()];
+        boolean[] termEndsWord = new boolean[terms.size()];
+        for (int t = 0; t < terms.size(); t++) {
+            String term = terms.get(t);
+            int state = ROOT;
+            for (int i = 0; i < term.length(); i++) {
+                int edge = state * alphabetSize + charClass[term.charAt(i)];
+                if (next[edge] == 0) {
+                    next[edge] = states++;
+                }
+                state = next[edge];
+            }
+            termAt[state] = t;
+            termLength[t] = term.length();
+            termStartsWord[t] = isWordChar(term.charAt(0));
+            termEndsWord[t] = isWordChar(term.charAt(term.length() - 1));
+        }
+
+        // Breadth-first, so a state's failure target is finished before the state itself; missing edges
+        // are filled in from the failure target, which turns the trie into a DFA
+        int[] fail = new int[states];
+        int[] outputLink = new int[states];
+        Arrays.fill(outputLink, -1);
+        ArrayDeque<Integer> queue = new ArrayDeque<>();
+        for (int c = 0; c < alphabetSize; c++) {
+            int child = next[c];
+            if (child != 0) {
+                queue.add(child);
+            }
+        }
+        while (!queue.isEmpty()) {
+            int state = queue.poll();
+            int failState = fail[state];
+            outputLink[state] = termAt[failState] >= 0 ? failState : outputLink[failState];
+            for (int c = 0; c < alphabetSize; c++) {
+                int edge = state * alphabetSize + c;
+                int target = next[failState * alphabetSize + c];
+                if (next[edge] == 0) {
+                    next[edge] = target;
+                } else {
+                    fail[next[edge]] = target;
+                    queue.add(next[edge]);
+                }
+            }
+        }
+
+        return new SkillMatcher(charClass, alphabetSize, Arrays.copyOf(next, states * alphabetSize),
+                Arrays.copyOf(termAt, states), outputLink, termLength, termStartsWord, termEndsWord,
+                skills.toArray(String[]::new));
+    }
+
+    public int termCount() {
+        return termSkill.length;
+    }
+
+    /**
+     * Distinct canonical skills mentioned in the text, in order of first mention.
+     */
+    public List<String> extract(CharSequence text) {
+        // The normalized text seen so far, for the boundary check in front of a match
+        char[] seen = new char[text.length()];
+        int length = 0;
+        int state = ROOT;
+        // Matches as (start, end, term) triples, ordered by end
+        int[] matches = new int[48];
+        int matchCount = 0;
+
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (Character.isWhitespace(c)) {
+                if (length == 0 || seen[length - 1] == ' ') {
+                    continue;
+                }
+                c = ' ';
+            } else {
+                c = Character.toLowerCase(c);
+            }
+            seen[length++] = c;
+            state = next[state * alphabetSize + charClass[c]];
+
+            for (int s = termAt[state] >= 0 ? state : outputLink[state]; s >= 0; s = outputLink[s]) {
+                int term = termAt[s];
+                int start = length - termLength[term];
+                if (termStartsWord[term] && start > 0 && isWordChar(seen[start - 1])) {
+                    continue;
+                }
+                // The next raw character is enough: case and whitespace folding do not change word-ness
+                if (termEndsWord[term] && i + 1 < text.length() && isWordChar(text.charAt(i + 1))) {
+                    continue;
+                }
+                if (matchCount * 3 == matches.length) {
+                    matches = Arrays.copyOf(matches, matches.length * 2);
+                }
+                matches[matchCount * 3] = start;
+                matches[matchCount * 3 + 1] = length;
+                matches[matchCount * 3 + 2] = term;
+                matchCount++;
+            }
+        }
+        return resolve(matches, matchCount);
+    }
+
+    // Keeps the leftmost, then longest, of overlapping matches
+    private List<String> resolve(int[] matches, int matchCount) {
+        Integer[] order = new Integer[matchCount];
+        for (int m = 0; m < matchCount; m++) {
+            order[m] = m;
+        }
+        Arrays.sort(order, (a, b) -> matches[a * 3] != matches[b * 3]
+                ? Integer.compare(matches[a * 3], matches[b * 3])
+                : Integer.compare(matches[b * 3 + 1], matches[a * 3 + 1]));
+        Set<String> skills = new LinkedHashSet<>();
+        int coveredUntil = 0;
+        for (int m : order) {
+            if (matches[m * 3] >= coveredUntil) {
+                skills.add(termSkill[matches[m * 3 + 2]]);
+                coveredUntil = matches[m * 3 + 1];
+            }
+        }
+        return new ArrayList<>(skills);
+    }
+
+    static boolean isWordChar(char c) {
+        return Character.isLetterOrDigit(c) || c == '+' || c == '#';
+    }
+
+    // Same folding the text gets during extraction: lower case, whitespace runs collapsed, trimmed
+    static String normalize(String term) {
+        StringBuilder normalized = new StringBuilder(term.length());
+        for (int i = 0; i < term.length(); i++) {
+            char c = term.charAt(i);
+            if (Character.isWhitespace(c)) {
+                if (!normalized.isEmpty() && normalized.charAt(normalized.length() - 1) != ' ') {
+                    normalized.append(' ');
+                }
+            } else {
+                normalized.append(Character.toLowerCase(c));
+            }
+        }
+        int end = normalized.length();
+        return end > 0 && normalized.charAt(end - 1) == ' ' ? normalized.substring(0, end - 1) : normalized.toString();
+    }
+}
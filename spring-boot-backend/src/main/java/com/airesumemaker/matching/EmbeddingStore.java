@@ -0,0 +1,448 @@
+package com.airesumemaker.matching;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteOrder;
+import java.nio.FloatBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.channels.OverlappingFileLockException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Memory-mapped file of fixed-width embedding records keyed by entity id. Each record carries a version
+ * stamp (the entity's {@code updatedAt} in epoch millis) so a restarted node can reuse every vector that is
+ * still current and re-embed only what changed.
+ *
+ * <pre>
+ * header : magic | format | dimension | recordSize | slotCount   (64 bytes)
+ * record : id:long | version:long | state:int | reserved:int | vector:float[dimension]
+ * </pre>
+ *
+ * Records live in fixed-size mapped chunks so the file is not limited to a single 2 GB mapping.
+ * Deleted slots are reused by later inserts and squeezed out by {@link #compact()}. The file is locked
+ * exclusively while open, so a second process pointed at the same directory fails instead of corrupting it.
+ */
+public class EmbeddingStore implements Closeable {
+
+    private static final Logger log = LoggerFactory.getLogger(EmbeddingStore.class);
+
+    private static final int MAGIC = 0x454D4253; // "EMBS"
+    private static final int FORMAT = 1;
+    private static final int HEADER_BYTES = 64;
+    private static final int SLOT_COUNT_OFFSET = 16;
+    private static final int RECORD_HEADER_BYTES = 24;
+    private static final long CHUNK_TARGET_BYTES = 64L * 1024 * 1024;
+
+    private static final int STATE_FREE = 0;
+    private static final int STATE_LIVE = 1;
+
+    private final Path file;
+    private final int dimension;
+    private final int recordBytes;
+    private final int recordsPerChunk;
+    private final long chunkBytes;
+    private final FileChannel channel;
+    private final MappedByteBuffer header;
+    private final List<MappedByteBuffer> chunks = new ArrayList<>();
+    private final List<FloatBuffer> chunkFloats = new ArrayList<>();
+    private final Map<Long, Integer> slotById = new HashMap<>();
+    private final TreeSet<Integer> freeSlots = new TreeSet<>();
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private int slotCount;
+    private ScheduledExecutorService compactor;
+
+    private EmbeddingStore(Path file, int dimension) throws IOException {
+        this.file = file;
+        this.dimension = dimension;
+        this.recordBytes = RECORD_HEADER_BYTES + dimension * Float.BYTES;
+        this.recordsPerChunk = (int) Math.max(1, CHUNK_TARGET_BYTES / recordBytes);
+        this.chunkBytes = (long) recordsPerChunk * recordBytes;
+        this.channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        lockExclusively(channel, file);
+        this.header = channel.map(FileChannel.MapMode.READ_WRITE, 0, HEADER_BYTES);
+        header.order(ByteOrder.nativeOrder());
+    }
+
+    public static EmbeddingStore open(Path file, int dimension) {
+        try {
+            Files.createDirectories(file.toAbsolutePath().getParent());
+            EmbeddingStore store = new EmbeddingStore(file, dimension);
+            store.load();
+            return store;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot open embedding store " + file, e);
+        }
+    }
+
+    public int dimension() {
+        return dimension;
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return slotById.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public List<Long> ids() {
+        lock.readLock().lock();
+        try {
+            return new ArrayList<>(slotById.keySet());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // Stored version stamp, or -1 when the id has no embedding
+    public long version(long id) {
+        lock.readLock().lock();
+        try {
+            Integer slot = slotById.get(id);
+            return slot == null ? -1 : chunk(slot).getLong(offsetInChunk(slot) + 8);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // True when the entity has been updated since its vector was stored (or was never stored)
+    public boolean isStale(long id, long currentVersion) {
+        return version(id) < currentVersion;
+    }
+
+    public boolean read(long id, float[] destination) {
+        checkDimension(destination);
+        lock.readLock().lock();
+        try {
+            Integer slot = slotById.get(id);
+            if (slot == null) {
+                return false;
+            }
+            chunkFloats.get(slot / recordsPerChunk).get(vectorFloatIndex(slot), destination, 0, dimension);
+            return true;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Cosine-ranks only the given ids against {@code query}, for callers that restrict a search to a known set
+     * of entities rather than everything indexed. Ids without a stored vector are skipped.
+     */
+    public List<ScoredJob> search(Collection<Long> ids, float[] query, int k) {
+        checkDimension(query);
+        float[] unit = VectorMath.normalize(query);
+        TopKCollector top = new TopKCollector(Math.min(k, ids.size()));
+        lock.readLock().lock();
+        try {
+            for (Long id : ids) {
+                Integer slot = slotById.get(id);
+                if (slot != null) {
+                    float score = cosine(slot, unit);
+                    if (!Float.isNaN(score)) {
+                        top.offer(id, score);
+                    }
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        return top.toSortedList();
+    }
+
+    // Visits every live record; the vector array is reused between calls
+    public void forEach(EntryConsumer consumer) {
+        float[] vector = new float[dimension];
+        lock.readLock().lock();
+        try {
+            for (Map.Entry<Long, Integer> entry : slotById.entrySet()) {
+                int slot = entry.getValue();
+                MappedByteBuffer chunk = chunk(slot);
+                chunkFloats.get(slot / recordsPerChunk).get(vectorFloatIndex(slot), vector, 0, dimension);
+                consumer.accept(entry.getKey(), chunk.getLong(offsetInChunk(slot) + 8), vector);
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public void put(long id, long version, float[] vector) {
+        checkDimension(vector);
+        lock.writeLock().lock();
+        try {
+            Integer slot = slotById.get(id);
+            if (slot == null) {
+                slot = freeSlots.isEmpty() ? appendSlot() : freeSlots.pollFirst();
+                slotById.put(id, slot);
+            }
+            writeRecord(slot, id, version, vector);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public boolean delete(long id) {
+        lock.writeLock().lock();
+        try {
+            Integer slot = slotById.remove(id);
+            if (slot == null) {
+                return false;
+            }
+            chunk(slot).putInt(offsetInChunk(slot) + 16, STATE_FREE);
+            freeSlots.add(slot);
+            return true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Moves live records from the tail into free slots and truncates whole trailing chunks.
+     * Returns the number of slots reclaimed.
+     */
+    public int compact() {
+        lock.writeLock().lock();
+        try {
+            int reclaimed = 0;
+            int last = slotCount - 1;
+            while (!freeSlots.isEmpty() && last >= 0) {
+                if (freeSlots.contains(last)) {
+                    freeSlots.remove(last);
+                } else {
+                    int hole = freeSlots.pollFirst();
+                    if (hole > last) {
+                        freeSlots.add(hole);
+                        break;
+                    }
+                    moveRecord(last, hole);
+                }
+                last--;
+                reclaimed++;
+            }
+            slotCount = last + 1;
+            header.putInt(SLOT_COUNT_OFFSET, slotCount);
+            releaseTrailingChunks();
+            return reclaimed;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot compact embedding store " + file, e);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void startBackgroundCompaction(Duration interval, double freeRatioThreshold) {
+        compactor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "embedding-store-compactor");
+            thread.setDaemon(true);
+            return thread;
+        });
+        compactor.scheduleWithFixedDelay(() -> {
+            try {
+                if (freeRatio() >= freeRatioThreshold) {
+                    int reclaimed = compact();
+                    log.info("Compacted {}: reclaimed {} slots", file.getFileName(), reclaimed);
+                }
+                flush();
+            } catch (RuntimeException e) {
+                log.warn("Embedding store maintenance failed for {}: {}", file.getFileName(), e.getMessage());
+            }
+        }, interval.toMillis(), interval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    public void flush() {
+        lock.readLock().lock();
+        try {
+            header.force();
+            for (MappedByteBuffer chunk : chunks) {
+                chunk.force();
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (compactor != null) {
+            compactor.shutdownNow();
+        }
+        flush();
+        // Closing the channel releases the lock
+        channel.close();
+    }
+
+    // Another process holding the file gets tryLock() == null; this JVM holding it throws instead
+    private static void lockExclusively(FileChannel channel, Path file) throws IOException {
+        FileLock acquired;
+        try {
+            acquired = channel.tryLock();
+        } catch (OverlappingFileLockException e) {
+            acquired = null;
+        }
+        if (acquired == null) {
+            channel.close();
+            throw new IOException("Embedding store " + file + " is in use by another instance;"
+                    + " give each one its own matching.store.directory");
+        }
+    }
+
+    // Scores the mapped record in place, with no heap copy of the stored vector. The loop reads the FloatBuffer
+    // view because the Vector API can only load mapped memory through MemorySegment, a preview API on Java 21.
+    // NaN for an all-zero vector
+    private float cosine(int slot, float[] unitQuery) {
+        FloatBuffer floats = chunkFloats.get(slot / recordsPerChunk);
+        int base = vectorFloatIndex(slot);
+        float dot = 0f;
+        float squares = 0f;
+        for (int i = 0; i < dimension; i++) {
+            float value = floats.get(base + i);
+            dot += value * unitQuery[i];
+            squares += value * value;
+        }
+        return squares == 0f ? Float.NaN : dot / (float) Math.sqrt(squares);
+    }
+
+    private double freeRatio() {
+        lock.readLock().lock();
+        try {
+            return slotCount == 0 ? 0 : (double) freeSlots.size() / slotCount;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void load() throws IOException {
+        boolean compatible = channel.size() >= HEADER_BYTES
+                && header.getInt(0) == MAGIC
+                && header.getInt(4) == FORMAT
+                && header.getInt(8) == dimension
+                && header.getInt(12) == recordBytes;
+        if (!compatible) {
+            if (channel.size() > 0) {
+                log.warn("Discarding incompatible embedding store {}", file);
+            }
+            channel.truncate(HEADER_BYTES);
+            header.putInt(0, MAGIC);
+            header.putInt(4, FORMAT);
+            header.putInt(8, dimension);
+            header.putInt(12, recordBytes);
+            header.putInt(SLOT_COUNT_OFFSET, 0);
+            slotCount = 0;
+            return;
+        }
+
+        slotCount = header.getInt(SLOT_COUNT_OFFSET);
+        mapChunksFor(slotCount);
+        for (int slot = 0; slot < slotCount; slot++) {
+            MappedByteBuffer chunk = chunk(slot);
+            int offset = offsetInChunk(slot);
+            if (chunk.getInt(offset + 16) == STATE_LIVE) {
+                slotById.put(chunk.getLong(offset), slot);
+            } else {
+                freeSlots.add(slot);
+            }
+        }
+        log.info("Opened embedding store {} with {} vectors", file.getFileName(), slotById.size());
+    }
+
+    private int appendSlot() {
+        int slot = slotCount;
+        try {
+            mapChunksFor(slot + 1);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot grow embedding store " + file, e);
+        }
+        slotCount = slot + 1;
+        header.putInt(SLOT_COUNT_OFFSET, slotCount);
+        return slot;
+    }
+
+    private void writeRecord(int slot, long id, long version, float[] vector) {
+        MappedByteBuffer chunk = chunk(slot);
+        int offset = offsetInChunk(slot);
+        // Vector first and state last, so a torn write leaves the slot unreadable rather than wrong
+        chunk.putInt(offset + 16, STATE_FREE);
+        chunkFloats.get(slot / recordsPerChunk).put(vectorFloatIndex(slot), vector, 0, dimension);
+        chunk.putLong(offset, id);
+        chunk.putLong(offset + 8, version);
+        chunk.putInt(offset + 16, STATE_LIVE);
+    }
+
+    private void moveRecord(int from, int to) {
+        MappedByteBuffer source = chunk(from);
+        int offset = offsetInChunk(from);
+        long id = source.getLong(offset);
+        long version = source.getLong(offset + 8);
+        float[] vector = new float[dimension];
+        chunkFloats.get(from / recordsPerChunk).get(vectorFloatIndex(from), vector, 0, dimension);
+        writeRecord(to, id, version, vector);
+        source.putInt(offset + 16, STATE_FREE);
+        slotById.put(id, to);
+    }
+
+    private void mapChunksFor(int slots) throws IOException {
+        int needed = (slots + recordsPerChunk - 1) / recordsPerChunk;
+        while (chunks.size() < needed) {
+            long position = HEADER_BYTES + chunks.size() * chunkBytes;
+            MappedByteBuffer chunk = channel.map(FileChannel.MapMode.READ_WRITE, position, chunkBytes);
+            chunk.order(ByteOrder.nativeOrder());
+            chunks.add(chunk);
+            chunkFloats.add(chunk.asFloatBuffer());
+        }
+    }
+
+    private void releaseTrailingChunks() throws IOException {
+        int needed = (slotCount + recordsPerChunk - 1) / recordsPerChunk;
+        while (chunks.size() > needed) {
+            chunks.remove(chunks.size() - 1).force();
+            chunkFloats.remove(chunkFloats.size() - 1);
+        }
+        channel.truncate(HEADER_BYTES + needed * chunkBytes);
+    }
+
+    private MappedByteBuffer chunk(int slot) {
+        return chunks.get(slot / recordsPerChunk);
+    }
+
+    private int offsetInChunk(int slot) {
+        return (slot % recordsPerChunk) * recordBytes;
+    }
+
+    private int vectorFloatIndex(int slot) {
+        return (offsetInChunk(slot) + RECORD_HEADER_BYTES) / Float.BYTES;
+    }
+
+    private void checkDimension(float[] vector) {
+        if (vector.length != dimension) {
+            throw new IllegalArgumentException(
+                    "Expected embedding of dimension " + dimension + " but got " + vector.length);
+        }
+    }
+
+    @FunctionalInterface
+    public interface EntryConsumer {
+        void accept(long id, long version, float[] vector);
+    }
+}
@@ -0,0 +1,126 @@
+package com.airesumemaker.matching;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Brute-force cosine index. All embeddings live in one contiguous row-major float matrix so a search
+ * is a single sequential SIMD scan feeding a bounded top-K heap.
+ */
+public class ExactJobIndex implements JobVectorIndex {
+
+    private final int dimension;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<Long, Integer> rowByJobId = new HashMap<>();
+
+    private float[] matrix;
+    private long[] jobIds;
+    private int size;
+
+    public ExactJobIndex(int dimension, int initialCapacity) {
+        this.dimension = dimension;
+        int capacity = Math.max(initialCapacity, 16);
+        this.matrix = new float[capacity * dimension];
+        this.jobIds = new long[capacity];
+    }
+
+    @Override
+    public int dimension() {
+        return dimension;
+    }
+
+    @Override
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return size;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public boolean contains(long jobId) {
+        lock.readLock().lock();
+        try {
+            return rowByJobId.containsKey(jobId);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public void upsert(long jobId, float[] vector) {
+        checkDimension(vector);
+        float[] unit = VectorMath.normalize(vector);
+        lock.writeLock().lock();
+        try {
+            Integer row = rowByJobId.get(jobId);
+            if (row == null) {
+                ensureCapacity(size + 1);
+                row = size++;
+                jobIds[row] = jobId;
+                rowByJobId.put(jobId, row);
+            }
+            System.arraycopy(unit, 0, matrix, row * dimension, dimension);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public boolean remove(long jobId) {
+        lock.writeLock().lock();
+        try {
+            Integer row = rowByJobId.remove(jobId);
+            if (row == null) {
+                return false;
+            }
+            // Move the last row into the hole to keep the matrix dense
+            int last = --size;
+            if (row != last) {
+                System.arraycopy(matrix, last * dimension, matrix, row * dimension, dimension);
+                jobIds[row] = jobIds[last];
+                rowByJobId.put(jobIds[row], row);
+            }
+            return true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public List<ScoredJob> search(float[] query, int k) {
+        checkDimension(query);
+        float[] unit = VectorMath.normalize(query);
+        lock.readLock().lock();
+        try {
+            TopKCollector top = new TopKCollector(Math.min(k, size));
+            for (int row = 0, offset = 0; row < size; row++, offset += dimension) {
+                top.offer(jobIds[row], VectorMath.dot(matrix, offset, unit, dimension));
+            }
+            return top.toSortedList();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void ensureCapacity(int rows) {
+        if (rows <= jobIds.length) {
+            return;
+        }
+        int capacity = Math.max(rows, jobIds.length + (jobIds.length >> 1));
+        matrix = Arrays.copyOf(matrix, capacity * dimension);
+        jobIds = Arrays.copyOf(jobIds, capacity);
+    }
+
+    private void checkDimension(float[] vector) {
+        if (vector.length != dimension) {
+            throw new IllegalArgumentException(
+                    "Expected embedding of dimension " + dimension + " but got " + vector.length);
+        }
+    }
+}
@@ -0,0 +1,540 @@
+package com.airesumemaker.matching;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Random;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.DoubleAdder;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Hierarchical navigable small world graph (Malkov &amp; Yashunin) over normalised job embeddings.
+ * Deletes are tombstones that stay navigable; the graph is rebuilt from live nodes once tombstones
+ * outnumber them. Searches widen ef by the share of tombstoned nodes so filtering them out still leaves k
+ * results. A fraction of searches can be re-run against an exact scan to track recall.
+ */
+public class HnswJobIndex implements JobVectorIndex {
+
+    private static final Logger log = LoggerFactory.getLogger(HnswJobIndex.class);
+
+    private static final int MIN_TOMBSTONES_FOR_REBUILD = 1024;
+    private static final long RECALL_LOG_INTERVAL = 1000;
+
+    private static final Comparator<Candidate> BEST_FIRST = (a, b) -> Float.compare(b.score, a.score);
+    private static final Comparator<Candidate> WORST_FIRST = (a, b) -> Float.compare(a.score, b.score);
+
+    private final int dimension;
+    private final int m;
+    private final int efConstruction;
+    private final int efSearch;
+    private final double recallSampleRate;
+
+    // Readers share the graph; mutations take the write lock. Writers are serialised separately so a
+    // rebuild can run against the old graph while searches continue.
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final ReentrantLock writerLock = new ReentrantLock();
+    // Pooled rather than thread-local: in virtual-thread mode every request runs on a new thread, so a
+    // ThreadLocal would allocate a fresh int[count] per search. Searches are CPU-bound, so about one set
+    // per core is ever in use at once
+    private final ConcurrentLinkedQueue<VisitedSet> visitedPool = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger pooledVisitedSets = new AtomicInteger();
+    private final int maxPooledVisitedSets = Math.max(4, 2 * Runtime.getRuntime().availableProcessors());
+
+    private final LongAdder recallSamples = new LongAdder();
+    private final DoubleAdder recallSum = new DoubleAdder();
+
+    private Graph graph;
+
+    public HnswJobIndex(int dimension, int m, int efConstruction, int efSearch, double recallSampleRate,
+                        int initialCapacity) {
+        if (m < 2) {
+            throw new IllegalArgumentException("HNSW M must be at least 2");
+        }
+        this.dimension = dimension;
+        this.m = m;
+        this.efConstruction = Math.max(efConstruction, m);
+        this.efSearch = efSearch;
+        this.recallSampleRate = recallSampleRate;
+        this.graph = new Graph(Math.max(initialCapacity, 16));
+    }
+
+    @Override
+    public int dimension() {
+        return dimension;
+    }
+
+    @Override
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return graph.live;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public boolean contains(long jobId) {
+        lock.readLock().lock();
+        try {
+            return graph.nodeByJobId.containsKey(jobId);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public void upsert(long jobId, float[] vector) {
+        checkDimension(vector);
+        float[] unit = VectorMath.normalize(vector);
+        writerLock.lock();
+        try {
+            lock.writeLock().lock();
+            try {
+                // Edges built for the old vector would be stale, so replace the node rather than edit it
+                graph.tombstone(jobId);
+                VisitedSet visited = acquireVisited();
+                try {
+                    graph.insert(jobId, unit, visited);
+                } finally {
+                    releaseVisited(visited);
+                }
+            } finally {
+                lock.writeLock().unlock();
+            }
+            rebuildIfFragmented();
+        } finally {
+            writerLock.unlock();
+        }
+    }
+
+    @Override
+    public boolean remove(long jobId) {
+        writerLock.lock();
+        try {
+            boolean removed;
+            lock.writeLock().lock();
+            try {
+                removed = graph.tombstone(jobId);
+            } finally {
+                lock.writeLock().unlock();
+            }
+            rebuildIfFragmented();
+            return removed;
+        } finally {
+            writerLock.unlock();
+        }
+    }
+
+    @Override
+    public List<ScoredJob> search(float[] query, int k) {
+        checkDimension(query);
+        float[] unit = VectorMath.normalize(query);
+        VisitedSet visited = acquireVisited();
+        lock.readLock().lock();
+        try {
+            List<ScoredJob> approximate = graph.search(unit, k, Math.max(efSearch, k), visited);
+            if (recallSampleRate > 0 && ThreadLocalRandom.current().nextDouble() < recallSampleRate) {
+                recordRecall(approximate, graph.exactSearch(unit, k));
+            }
+            return approximate;
+        } finally {
+            lock.readLock().unlock();
+            releaseVisited(visited);
+        }
+    }
+
+    /**
+     * Runs {@code queries} searches seeded from stored job vectors and returns mean recall@k against an
+     * exact scan, for tuning M/ef on a live catalog. Holds the read lock throughout, so writers wait.
+     */
+    @Override
+    public double measureRecall(int queries, int k) {
+        VisitedSet visited = acquireVisited();
+        lock.readLock().lock();
+        try {
+            if (graph.live == 0) {
+                return 1.0;
+            }
+            SplittableRandom random = new SplittableRandom(42);
+            float[] query = new float[dimension];
+            double total = 0;
+            int measured = 0;
+            while (measured < queries) {
+                int node = random.nextInt(graph.count);
+                if (graph.deleted.get(node)) {
+                    continue;
+                }
+                System.arraycopy(graph.vectors, node * dimension, query, 0, dimension);
+                // Perturb so the query is not trivially its own nearest neighbour
+                for (int i = 0; i < dimension; i++) {
+                    query[i] += (float) (random.nextDouble() - 0.5) * 0.1f;
+                }
+                float[] unit = VectorMath.normalize(query);
+                total += recall(graph.search(unit, k, Math.max(efSearch, k), visited), graph.exactSearch(unit, k));
+                measured++;
+            }
+            return total / measured;
+        } finally {
+            lock.readLock().unlock();
+            releaseVisited(visited);
+        }
+    }
+
+    public double sampledRecall() {
+        long samples = recallSamples.sum();
+        return samples == 0 ? Double.NaN : recallSum.sum() / samples;
+    }
+
+    private void recordRecall(List<ScoredJob> approximate, List<ScoredJob> exact) {
+        recallSum.add(recall(approximate, exact));
+        recallSamples.increment();
+        long samples = recallSamples.sum();
+        if (samples % RECALL_LOG_INTERVAL == 0) {
+            log.info("HNSW sampled recall over {} searches: {}", samples, String.format("%.4f", sampledRecall()));
+        }
+    }
+
+    private static double recall(List<ScoredJob> approximate, List<ScoredJob> exact) {
+        if (exact.isEmpty()) {
+            return 1.0;
+        }
+        Set<Long> expected = new HashSet<>();
+        for (ScoredJob job : exact) {
+            expected.add(job.jobId());
+        }
+        int hits = 0;
+        for (ScoredJob job : approximate) {
+            if (expected.contains(job.jobId())) {
+                hits++;
+            }
+        }
+        return (double) hits / exact.size();
+    }
+
+    private VisitedSet acquireVisited() {
+        VisitedSet visited = visitedPool.poll();
+        if (visited == null) {
+            return new VisitedSet();
+        }
+        pooledVisitedSets.decrementAndGet();
+        return visited;
+    }
+
+    // Sets beyond the bound, e.g. after a burst of concurrent searches, are left to the GC
+    private void releaseVisited(VisitedSet visited) {
+        if (pooledVisitedSets.incrementAndGet() <= maxPooledVisitedSets) {
+            visitedPool.offer(visited);
+        } else {
+            pooledVisitedSets.decrementAndGet();
+        }
+    }
+
+    // Caller holds writerLock, so the current graph cannot change underneath the rebuild
+    private void rebuildIfFragmented() {
+        Graph current = graph;
+        int tombstones = current.count - current.live;
+        if (tombstones < MIN_TOMBSTONES_FOR_REBUILD || tombstones <= current.live) {
+            return;
+        }
+        long started = System.nanoTime();
+        Graph rebuilt = new Graph(Math.max(current.live * 2, 16));
+        VisitedSet visited = new VisitedSet();
+        float[] vector = new float[dimension];
+        for (int node = 0; node < current.count; node++) {
+            if (!current.deleted.get(node)) {
+                System.arraycopy(current.vectors, node * dimension, vector, 0, dimension);
+                rebuilt.insert(current.jobIds[node], vector, visited);
+            }
+        }
+        lock.writeLock().lock();
+        try {
+            graph = rebuilt;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("Rebuilt HNSW graph: dropped {} tombstones, {} live jobs in {} ms",
+                tombstones, rebuilt.live, (System.nanoTime() - started) / 1_000_000);
+    }
+
+    private void checkDimension(float[] vector) {
+        if (vector.length != dimension) {
+            throw new IllegalArgumentException(
+                    "Expected embedding of dimension " + dimension + " but got " + vector.length);
+        }
+    }
+
+    private record Candidate(int node, float score) {
+    }
+
+    // Epoch-stamped visited marks so each search avoids clearing or allocating a set
+    private static final class VisitedSet {
+        private int[] marks = new int[0];
+        private int epoch;
+
+        void reset(int capacity) {
+            if (marks.length < capacity) {
+                marks = new int[capacity];
+                epoch = 0;
+            }
+            if (++epoch == Integer.MAX_VALUE) {
+                Arrays.fill(marks, 0);
+                epoch = 1;
+            }
+        }
+
+        boolean visit(int node) {
+            if (marks[node] == epoch) {
+                return false;
+            }
+            marks[node] = epoch;
+            return true;
+        }
+    }
+
+    private final class Graph {
+        private final Map<Long, Integer> nodeByJobId = new HashMap<>();
+        private final BitSet deleted = new BitSet();
+        private final Random random = new Random(42);
+        private final double levelMultiplier = 1.0 / Math.log(m);
+
+        private float[] vectors;
+        private long[] jobIds;
+        // links[node][level][0] holds the neighbour count, the neighbour ids follow
+        private int[][][] links;
+        private int count;
+        private int live;
+        private int entryPoint = -1;
+        private int maxLevel = -1;
+
+        Graph(int capacity) {
+            vectors = new float[capacity * dimension];
+            jobIds = new long[capacity];
+            links = new int[capacity][][];
+        }
+
+        boolean tombstone(long jobId) {
+            Integer node = nodeByJobId.remove(jobId);
+            if (node == null) {
+                return false;
+            }
+            deleted.set(node);
+            live--;
+            return true;
+        }
+
+        void insert(long jobId, float[] unit, VisitedSet visited) {
+            ensureCapacity(count + 1);
+            int node = count++;
+            int level = (int) (-Math.log(1.0 - random.nextDouble()) * levelMultiplier);
+            System.arraycopy(unit, 0, vectors, node * dimension, dimension);
+            jobIds[node] = jobId;
+            links[node] = new int[level + 1][];
+            for (int l = 0; l <= level; l++) {
+                links[node][l] = new int[1 + maxLinks(l)];
+            }
+            nodeByJobId.put(jobId, node);
+            live++;
+
+            if (entryPoint < 0) {
+                entryPoint = node;
+                maxLevel = level;
+                return;
+            }
+
+            int offset = node * dimension;
+            Candidate entry = new Candidate(entryPoint, score(offset, entryPoint));
+            for (int l = maxLevel; l > level; l--) {
+                entry = greedyClosest(vectors, offset, entry, l);
+            }
+            for (int l = Math.min(level, maxLevel); l >= 0; l--) {
+                List<Candidate> nearest = searchLayer(vectors, offset, entry, efConstruction, l, visited);
+                List<Candidate> selected = selectNeighbours(nearest, m);
+                int[] own = links[node][l];
+                for (Candidate neighbour : selected) {
+                    own[++own[0]] = neighbour.node;
+                    connect(neighbour.node, node, l);
+                }
+                entry = nearest.get(0);
+            }
+            if (level > maxLevel) {
+                maxLevel = level;
+                entryPoint = node;
+            }
+        }
+
+        List<ScoredJob> search(float[] query, int k, int ef, VisitedSet visited) {
+            if (entryPoint < 0 || k <= 0 || live == 0) {
+                return List.of();
+            }
+            Candidate entry = new Candidate(entryPoint, VectorMath.dot(vectors, entryPoint * dimension, query, dimension));
+            for (int l = maxLevel; l > 0; l--) {
+                entry = greedyClosest(query, 0, entry, l);
+            }
+            // Tombstones take up slots in the layer-0 result set, so start wider by the deleted share and
+            // double until enough live nodes come back or the whole graph has been considered
+            int wanted = Math.min(k, live);
+            int width = (int) Math.min(count, (long) ef * count / live);
+            while (true) {
+                TopKCollector top = new TopKCollector(k);
+                int found = 0;
+                for (Candidate candidate : searchLayer(query, 0, entry, width, 0, visited)) {
+                    if (!deleted.get(candidate.node)) {
+                        top.offer(jobIds[candidate.node], candidate.score);
+                        found++;
+                    }
+                }
+                if (found >= wanted || width >= count) {
+                    return top.toSortedList();
+                }
+                width = (int) Math.min(count, 2L * width);
+            }
+        }
+
+        List<ScoredJob> exactSearch(float[] query, int k) {
+            TopKCollector top = new TopKCollector(Math.min(k, live));
+            for (int node = 0; node < count; node++) {
+                if (!deleted.get(node)) {
+                    top.offer(jobIds[node], VectorMath.dot(vectors, node * dimension, query, dimension));
+                }
+            }
+            return top.toSortedList();
+        }
+
+        private Candidate greedyClosest(float[] query, int queryOffset, Candidate entry, int level) {
+            Candidate best = entry;
+            boolean improved = true;
+            while (improved) {
+                improved = false;
+                int[] neighbours = links[best.node][level];
+                for (int i = 1; i <= neighbours[0]; i++) {
+                    int next = neighbours[i];
+                    float s = VectorMath.dot(vectors, next * dimension, query, queryOffset, dimension);
+                    if (s > best.score) {
+                        best = new Candidate(next, s);
+                        improved = true;
+                    }
+                }
+            }
+            return best;
+        }
+
+        // Returns up to ef nodes closest to the query, best first
+        private List<Candidate> searchLayer(float[] query, int queryOffset, Candidate entry, int ef, int level,
+                                            VisitedSet visited) {
+            visited.reset(count);
+            visited.visit(entry.node);
+            PriorityQueue<Candidate> frontier = new PriorityQueue<>(BEST_FIRST);
+            PriorityQueue<Candidate> results = new PriorityQueue<>(WORST_FIRST);
+            frontier.add(entry);
+            results.add(entry);
+
+            while (!frontier.isEmpty()) {
+                Candidate current = frontier.poll();
+                if (current.score < results.peek().score && results.size() >= ef) {
+                    break;
+                }
+                int[] neighbours = links[current.node][level];
+                for (int i = 1; i <= neighbours[0]; i++) {
+                    int next = neighbours[i];
+                    if (!visited.visit(next)) {
+                        continue;
+                    }
+                    float s = VectorMath.dot(vectors, next * dimension, query, queryOffset, dimension);
+                    if (results.size() < ef || s > results.peek().score) {
+                        Candidate candidate = new Candidate(next, s);
+                        frontier.add(candidate);
+                        results.add(candidate);
+                        if (results.size() > ef) {
+                            results.poll();
+                        }
+                    }
+                }
+            }
+
+            List<Candidate> ordered = new ArrayList<>(results);
+            ordered.sort(BEST_FIRST);
+            return ordered;
+        }
+
+        // Diversity heuristic: keep a candidate only if it is closer to the base than to any kept neighbour,
+        // then top up with the closest pruned candidates so tombstones cannot isolate a node
+        private List<Candidate> selectNeighbours(List<Candidate> bestFirst, int max) {
+            List<Candidate> selected = new ArrayList<>(max);
+            List<Candidate> pruned = new ArrayList<>();
+            for (Candidate candidate : bestFirst) {
+                if (selected.size() >= max) {
+                    break;
+                }
+                boolean diverse = true;
+                for (Candidate kept : selected) {
+                    if (VectorMath.dot(vectors, candidate.node * dimension, vectors, kept.node * dimension, dimension)
+                            > candidate.score) {
+                        diverse = false;
+                        break;
+                    }
+                }
+                (diverse ? selected : pruned).add(candidate);
+            }
+            for (int i = 0; i < pruned.size() && selected.size() < max; i++) {
+                selected.add(pruned.get(i));
+            }
+            return selected;
+        }
+
+        private void connect(int from, int to, int level) {
+            int[] neighbours = links[from][level];
+            int max = maxLinks(level);
+            if (neighbours[0] < max) {
+                neighbours[++neighbours[0]] = to;
+                return;
+            }
+            int offset = from * dimension;
+            List<Candidate> candidates = new ArrayList<>(max + 1);
+            for (int i = 1; i <= neighbours[0]; i++) {
+                candidates.add(new Candidate(neighbours[i], score(offset, neighbours[i])));
+            }
+            candidates.add(new Candidate(to, score(offset, to)));
+            candidates.sort(BEST_FIRST);
+            List<Candidate> kept = selectNeighbours(candidates, max);
+            neighbours[0] = kept.size();
+            for (int i = 0; i < kept.size(); i++) {
+                neighbours[i + 1] = kept.get(i).node;
+            }
+        }
+
+        private float score(int offset, int node) {
+            return VectorMath.dot(vectors, offset, vectors, node * dimension, dimension);
+        }
+
+        private int maxLinks(int level) {
+            return level == 0 ? 2 * m : m;
+        }
+
+        private void ensureCapacity(int nodes) {
+            if (nodes <= jobIds.length) {
+                return;
+            }
+            int capacity = Math.max(nodes, jobIds.length + (jobIds.length >> 1));
+            vectors = Arrays.copyOf(vectors, capacity * dimension);
+            jobIds = Arrays.copyOf(jobIds, capacity);
+            links = Arrays.copyOf(links, capacity);
+        }
+    }
+}
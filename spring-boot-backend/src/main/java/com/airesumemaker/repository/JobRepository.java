@@ -1,32 +1,74 @@
 package com.airesumemaker.repository;
 
+import com.airesumemaker.dto.JobSummary;
 import com.airesumemaker.entity.Job;
 import com.airesumemaker.entity.Job.ExperienceLevel;
 import com.airesumemaker.entity.Job.JobType;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface JobRepository extends JpaRepository<Job, Long> {
+public interface JobRepository extends JpaRepository<Job, Long>, JobRepositoryCustom {
     
-    @Query("SELECT j FROM Job j WHERE " +
-           "(:location IS NULL OR j.location ILIKE %:location%) AND " +
-           "(:company IS NULL OR j.company ILIKE %:company%) AND " +
-           "(:skills IS NULL OR EXISTS (SELECT 1 FROM j.skills s WHERE s IN :skills))")
-    Page<Job> findJobsWithFilters(
+    // Both sides go through search_normalize so the LIKE can use the trigram indexes from V7. The casts type a
+    // null filter, which Postgres would otherwise take as bytea and find no search_normalize for. The skill
+    // filter is a semi-join on job_skill_ids correlated with j, without joining jobs a second time
+    String JOB_FILTERS =
+           "(:location IS NULL OR j.locationSearch LIKE CONCAT('%', FUNCTION('search_normalize', CAST(:location AS String)), '%')) AND " +
+           "(:company IS NULL OR j.companySearch LIKE CONCAT('%', FUNCTION('search_normalize', CAST(:company AS String)), '%')) AND " +
+           "(:skillIds IS NULL OR EXISTS (SELECT 1 FROM j.skillIds sid WHERE sid IN :skillIds))";
+    
+    String JOB_SUMMARY = "SELECT new com.airesumemaker.dto.JobSummary(j.id, j.title, j.company, j.location, " +
+           "j.salaryMin, j.salaryMax, j.jobType, j.experienceLevel, j.recruiterEmail, j.createdAt) FROM Job j ";
+    
+    @Query(value = JOB_SUMMARY + "WHERE " + JOB_FILTERS,
+           countQuery = "SELECT COUNT(j) FROM Job j WHERE " + JOB_FILTERS)
+    Page<JobSummary> findJobSummariesWithFilters(
         @Param("location") String location,
         @Param("company") String company,
-        @Param("skills") List<String> skills,
+        @Param("skillIds") List<Integer> skillIds,
         Pageable pageable
     );
     
-    List<Job> findByRecruiterEmail(String recruiterEmail);
+    // Keyset listing on (created_at, id), newest first; served by idx_jobs_created_at_id
+    @Query(JOB_SUMMARY + "WHERE " + JOB_FILTERS + " ORDER BY j.createdAt DESC, j.id DESC")
+    List<JobSummary> findFirstJobSummariesWithFilters(
+        @Param("location") String location,
+        @Param("company") String company,
+        @Param("skillIds") List<Integer> skillIds,
+        Limit limit
+    );
+    
+    // A row comparison, unlike the equivalent OR, is a range start on idx_jobs_created_at_id, so a deep page
+    // seeks straight to its first row
+    @Query(JOB_SUMMARY + "WHERE " + JOB_FILTERS + " AND (j.createdAt, j.id) < (:createdAt, :id) " +
+           "ORDER BY j.createdAt DESC, j.id DESC")
+    List<JobSummary> findJobSummariesWithFiltersAfter(
+        @Param("location") String location,
+        @Param("company") String company,
+        @Param("skillIds") List<Integer> skillIds,
+        @Param("createdAt") LocalDateTime createdAt,
+        @Param("id") Long id,
+        Limit limit
+    );
+    
+    @Query(JOB_SUMMARY + "WHERE j.recruiterEmail = :recruiterEmail ORDER BY j.createdAt DESC, j.id DESC")
+    List<JobSummary> findSummariesByRecruiterEmail(@Param("recruiterEmail") String recruiterEmail);
+    
+    // job_skills has no order column, so skills come back alphabetically rather than in heap order
+    @Query("SELECT new com.airesumemaker.repository.JobSkillRow(j.id, s) FROM Job j JOIN j.skills s WHERE j.id IN :jobIds ORDER BY j.id, s")
+    List<JobSkillRow> findSkillsByJobIds(@Param("jobIds") Collection<Long> jobIds);
+    
+    List<Job> findByActiveTrueAndIdGreaterThanOrderByIdAsc(Long id, Limit limit);
     
     Optional<Job> findByIdAndRecruiterEmail(Long id, String recruiterEmail);
     
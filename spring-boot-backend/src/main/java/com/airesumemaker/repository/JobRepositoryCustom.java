@@ -0,0 +1,12 @@
+package com.airesumemaker.repository;
+
+import java.util.List;
+
+public interface JobRepositoryCustom {
+
+    /**
+     * Row count the planner expects for the job filters, read from table statistics instead of a COUNT(*).
+     * Accuracy depends on how recently jobs was analyzed.
+     */
+    long estimateJobsWithFilters(String location, String company, List<Integer> skillIds);
+}
@@ -0,0 +1,59 @@
+package com.airesumemaker.repository;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+public class JobRepositoryCustomImpl implements JobRepositoryCustom {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+
+    public JobRepositoryCustomImpl(JdbcTemplate jdbcTemplate, ObjectMapper objectMapper) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public long estimateJobsWithFilters(String location, String company, List<Integer> skillIds) {
+        if (location == null && company == null && (skillIds == null || skillIds.isEmpty())) {
+            Long reltuples = jdbcTemplate.queryForObject(
+                    "SELECT reltuples::bigint FROM pg_class WHERE oid = 'jobs'::regclass", Long.class);
+            // -1 until the table is first vacuumed or analyzed
+            if (reltuples != null && reltuples >= 0) {
+                return reltuples;
+            }
+        }
+
+        // Only the filters actually present go into the statement so the estimate matches the real plan
+        StringBuilder sql = new StringBuilder("EXPLAIN (FORMAT JSON) SELECT 1 FROM jobs j WHERE TRUE");
+        List<Object> args = new ArrayList<>();
+        if (location != null) {
+            sql.append(" AND j.location_search LIKE '%' || search_normalize(?) || '%'");
+            args.add(location);
+        }
+        if (company != null) {
+            sql.append(" AND j.company_search LIKE '%' || search_normalize(?) || '%'");
+            args.add(company);
+        }
+        if (skillIds != null && !skillIds.isEmpty()) {
+            sql.append(" AND j.id IN (SELECT s.job_id FROM job_skill_ids s WHERE s.skill_id IN (")
+                    .append(String.join(", ", Collections.nCopies(skillIds.size(), "?")))
+                    .append("))");
+            args.addAll(skillIds);
+        }
+
+        String plan = jdbcTemplate.queryForObject(sql.toString(), String.class, args.toArray());
+        try {
+            JsonNode root = objectMapper.readTree(plan);
+            return root.path(0).path("Plan").path("Plan Rows").asLong();
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Unreadable query plan for job estimate", e);
+        }
+    }
+}
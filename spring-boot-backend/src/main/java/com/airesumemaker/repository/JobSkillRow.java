@@ -0,0 +1,5 @@
+package com.airesumemaker.repository;
+
+// One job_skills row, used to attach skills to a page of JobSummary projections in a single query
+public record JobSkillRow(Long jobId, String skill) {
+}
@@ -0,0 +1,29 @@
+package com.airesumemaker.repository;
+
+import com.airesumemaker.entity.ResumeAnalysisCacheEntry;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Optional;
+
+@Repository
+public interface ResumeAnalysisCacheRepository extends JpaRepository<ResumeAnalysisCacheEntry, ResumeAnalysisCacheEntry.Key> {
+
+    Optional<ResumeAnalysisCacheEntry> findByContentHashAndAnalysisVersion(String contentHash, String analysisVersion);
+
+    // Any version's analysis, newest first; served by the primary key's content_hash prefix
+    Optional<ResumeAnalysisCacheEntry> findFirstByContentHashOrderByCreatedAtDesc(String contentHash);
+
+    // Two nodes analysing the same resume at once both try to store it; the first write wins
+    @Transactional
+    @Modifying
+    @Query(value = "INSERT INTO resume_analysis_cache (content_hash, analysis_version, analysis, created_at) " +
+                   "VALUES (:contentHash, :analysisVersion, CAST(:analysis AS jsonb), CURRENT_TIMESTAMP) " +
+                   "ON CONFLICT (content_hash, analysis_version) DO NOTHING", nativeQuery = true)
+    int insertIfAbsent(@Param("contentHash") String contentHash, @Param("analysisVersion") String analysisVersion,
+                       @Param("analysis") String analysis);
+}
@@ -0,0 +1,73 @@
+package com.airesumemaker.repository;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Postgres-backed work queue for resume analysis. All timestamps come from the database clock so that
+ * workers on different nodes agree on when a task becomes available.
+ */
+@Repository
+public class ResumeProcessingQueue {
+
+    public record ClaimedTask(Long id, Long resumeId, int attempts) {
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public ResumeProcessingQueue(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public void enqueue(Long resumeId) {
+        jdbcTemplate.update("INSERT INTO resume_processing_tasks (resume_id) VALUES (?) " +
+                "ON CONFLICT (resume_id) DO NOTHING", resumeId);
+    }
+
+    /**
+     * Claims up to limit available tasks and hides them from other workers for the lease. Rows locked by a
+     * concurrent claim are skipped rather than waited on. The claimed resumes are marked PROCESSING.
+     */
+    @Transactional
+    public List<ClaimedTask> claim(int limit, Duration lease) {
+        List<ClaimedTask> claimed = jdbcTemplate.query(
+                "UPDATE resume_processing_tasks t " +
+                "SET attempts = t.attempts + 1, available_at = CURRENT_TIMESTAMP + make_interval(secs => ?) " +
+                "FROM (SELECT id FROM resume_processing_tasks WHERE available_at <= CURRENT_TIMESTAMP " +
+                "      ORDER BY available_at LIMIT ? FOR UPDATE SKIP LOCKED) c " +
+                "WHERE t.id = c.id " +
+                "RETURNING t.id, t.resume_id, t.attempts",
+                (rs, rowNum) -> new ClaimedTask(rs.getLong("id"), rs.getLong("resume_id"), rs.getInt("attempts")),
+                lease.toMillis() / 1000.0, limit);
+        if (!claimed.isEmpty()) {
+            List<Long> resumeIds = claimed.stream().map(ClaimedTask::resumeId).toList();
+            jdbcTemplate.update("UPDATE resumes SET status = 'PROCESSING' WHERE id IN (" +
+                    String.join(", ", Collections.nCopies(resumeIds.size(), "?")) + ")", resumeIds.toArray());
+        }
+        return claimed;
+    }
+
+    // Leaves the task queued and makes it claimable again after the delay
+    public void retryLater(Long taskId, Duration delay, String error) {
+        jdbcTemplate.update("UPDATE resume_processing_tasks " +
+                "SET available_at = CURRENT_TIMESTAMP + make_interval(secs => ?), last_error = ? WHERE id = ?",
+                delay.toMillis() / 1000.0, error, taskId);
+    }
+
+    // Like retryLater, but gives back the attempt the claim counted; for calls refused before reaching the AI service
+    public void postpone(Long taskId, Duration delay, String reason) {
+        jdbcTemplate.update("UPDATE resume_processing_tasks " +
+                "SET attempts = GREATEST(attempts - 1, 0), available_at = CURRENT_TIMESTAMP + make_interval(secs => ?), " +
+                "last_error = ? WHERE id = ?",
+                delay.toMillis() / 1000.0, reason, taskId);
+    }
+
+    public void remove(Long taskId) {
+        jdbcTemplate.update("DELETE FROM resume_processing_tasks WHERE id = ?", taskId);
+    }
+}
@@ -12,4 +12,6 @@ public interface ResumeRepository extends JpaRepository<Resume, Long> {
     List<Resume> findByUserId(Long userId);
     Optional<Resume> findByIdAndUserId(Long id, Long userId);
     List<Resume> findByUser(User user);
+    Optional<Resume> findByIdAndUserEmail(Long id, String email);
+    Optional<Resume> findFirstByUserEmailAndFileHash(String email, String fileHash);
 }
\ No newline at end of file
@@ -0,0 +1,9 @@
+package com.airesumemaker.repository;
+
+import com.airesumemaker.entity.SkillAlias;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface SkillAliasRepository extends JpaRepository<SkillAlias, String> {
+}
@@ -0,0 +1,21 @@
+package com.airesumemaker.repository;
+
+import com.airesumemaker.entity.Skill;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import java.util.Optional;
+
+@Repository
+public interface SkillRepository extends JpaRepository<Skill, Integer> {
+
+    Optional<Skill> findByNormalizedName(String normalizedName);
+
+    // Concurrent job writes may introduce the same new skill; the unique key decides the winner
+    @Modifying
+    @Query(value = "INSERT INTO skills (name, normalized_name) VALUES (:name, :normalizedName) " +
+                   "ON CONFLICT (normalized_name) DO NOTHING", nativeQuery = true)
+    int insertIfAbsent(@Param("name") String name, @Param("normalizedName") String normalizedName);
+}
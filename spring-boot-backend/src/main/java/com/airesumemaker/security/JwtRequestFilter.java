@@ -1,11 +1,18 @@
 package com.airesumemaker.security;
 
 import com.airesumemaker.service.UserDetailsServiceImpl;
+import com.airesumemaker.tracing.RequestTrace;
+import com.airesumemaker.tracing.SpanKind;
 import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -18,63 +25,113 @@ import java.io.IOException;
 @Component
 public class JwtRequestFilter extends OncePerRequestFilter {
 
+    private static final Logger log = LoggerFactory.getLogger(JwtRequestFilter.class);
+
     private final UserDetailsServiceImpl userDetailsService;
     private final JwtUtil jwtUtil;
+    private final UserStatusCache userStatusCache;
+    private final MeterRegistry meterRegistry;
 
-    public JwtRequestFilter(UserDetailsServiceImpl userDetailsService, JwtUtil jwtUtil) {
+    public JwtRequestFilter(UserDetailsServiceImpl userDetailsService, JwtUtil jwtUtil, UserStatusCache userStatusCache,
+                            MeterRegistry meterRegistry) {
         this.userDetailsService = userDetailsService;
         this.jwtUtil = jwtUtil;
+        this.userStatusCache = userStatusCache;
+        this.meterRegistry = meterRegistry;
     }
 
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, 
                                   FilterChain chain) throws ServletException, IOException {
 
-        // Skip JWT processing for authentication endpoints
+        // Skip JWT processing for authentication endpoints; /auth/me answers from the token
         String path = request.getRequestURI();
-        if (path.contains("/auth/")) {
+        if (path.contains("/auth/") && !path.endsWith("/auth/me")) {
             chain.doFilter(request, response);
             return;
         }
 
+        // Only the filter's own work is timed, not the rest of the chain
+        Timer.Sample sample = Timer.start(meterRegistry);
+        long start = System.nanoTime();
+        String outcome = "error";
+        try {
+            outcome = authenticate(request);
+        } finally {
+            RequestTrace.record(SpanKind.AUTH, outcome, start);
+            sample.stop(Timer.builder("auth.filter")
+                    .description("Time spent authenticating a request from its bearer token")
+                    .tag("outcome", outcome)
+                    .register(meterRegistry));
+        }
+        chain.doFilter(request, response);
+    }
+
+    /**
+     * Sets the authentication for a valid token and returns how the request came out: authenticated from
+     * claims, authenticated_lookup (legacy token, loaded from the database), or why it stayed anonymous.
+     */
+    private String authenticate(HttpServletRequest request) {
         final String requestTokenHeader = request.getHeader("Authorization");
 
-        String username = null;
-        String jwtToken = null;
+        VerifiedToken verifiedToken = null;
         
         // JWT Token is in the form "Bearer token". Remove Bearer word and get only the Token
         if (requestTokenHeader != null && requestTokenHeader.startsWith("Bearer ")) {
-            jwtToken = requestTokenHeader.substring(7);
+            String jwtToken = requestTokenHeader.substring(7);
             try {
-                username = jwtUtil.getUsernameFromToken(jwtToken);
+                // Signature and expiry are checked here exactly once (or served from the verified-token cache)
+                verifiedToken = jwtUtil.verify(jwtToken);
             } catch (IllegalArgumentException e) {
-                System.err.println("Unable to get JWT Token");
+                log.debug("Unable to get JWT Token");
+                return "invalid";
             } catch (ExpiredJwtException e) {
-                System.err.println("JWT Token has expired");
+                log.debug("JWT Token has expired");
+                return "expired";
+            } catch (JwtException e) {
+                log.debug("JWT Token is invalid: {}", e.getMessage());
+                return "invalid";
             }
         } else {
-            System.err.println("JWT Token does not begin with Bearer String");
+            log.debug("JWT Token does not begin with Bearer String");
+            return "no_token";
         }
 
         // Once we get the token validate it.
-        if (username != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-
-            UserDetails userDetails = this.userDetailsService.loadUserByUsername(username);
+        if (verifiedToken.username() == null) {
+            return "invalid";
+        }
+        if (SecurityContextHolder.getContext().getAuthentication() != null) {
+            return "already_authenticated";
+        }
 
-            // if token is valid configure Spring Security to manually set authentication
-            if (Boolean.TRUE.equals(jwtUtil.validateToken(jwtToken, userDetails))) {
+        UserDetails userDetails = JwtUserPrincipal.fromToken(verifiedToken);
+        boolean active;
+        String outcome;
+        if (userDetails != null) {
+            // Role, id and enabled state come from the signed claims; no database round trip
+            active = userStatusCache.isActive((JwtUserPrincipal) userDetails);
+            outcome = "authenticated";
+        } else {
+            // Tokens issued before user claims were embedded still need the lookup until they expire
+            userDetails = this.userDetailsService.loadUserByUsername(verifiedToken.username());
+            active = userDetails.isEnabled() && verifiedToken.username().equals(userDetails.getUsername());
+            outcome = "authenticated_lookup";
+        }
 
-                UsernamePasswordAuthenticationToken usernamePasswordAuthenticationToken = 
-                    new UsernamePasswordAuthenticationToken(
-                        userDetails, null, userDetails.getAuthorities());
-                usernamePasswordAuthenticationToken
-                    .setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
-                // After setting the Authentication in the context, we specify
-                // that the current user is authenticated. So it passes the
-                // Spring Security Configurations successfully.
-                SecurityContextHolder.getContext().setAuthentication(usernamePasswordAuthenticationToken);
-            }
+        // if token is valid configure Spring Security to manually set authentication
+        if (!active) {
+            return "inactive";
         }
-        chain.doFilter(request, response);
+        UsernamePasswordAuthenticationToken usernamePasswordAuthenticationToken = 
+            new UsernamePasswordAuthenticationToken(
+                userDetails, null, userDetails.getAuthorities());
+        usernamePasswordAuthenticationToken
+            .setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+        // After setting the Authentication in the context, we specify
+        // that the current user is authenticated. So it passes the
+        // Spring Security Configurations successfully.
+        SecurityContextHolder.getContext().setAuthentication(usernamePasswordAuthenticationToken);
+        return outcome;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,74 @@
+package com.airesumemaker.security;
+
+import io.jsonwebtoken.Claims;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.util.Collection;
+import java.util.Collections;
+
+/**
+ * Authenticated user rebuilt from verified JWT claims, so requests never need the users table.
+ * getUsername() stays the email to match what UserDetailsServiceImpl exposes.
+ */
+public class JwtUserPrincipal implements UserDetails {
+
+    private final Long id;
+    private final String email;
+    private final String username;
+    private final String firstName;
+    private final String lastName;
+    private final String role;
+    private final boolean enabled;
+    private final Collection<? extends GrantedAuthority> authorities;
+
+    public JwtUserPrincipal(Long id, String email, String username, String firstName, String lastName, String role,
+                            boolean enabled) {
+        this.id = id;
+        this.email = email;
+        this.username = username;
+        this.firstName = firstName;
+        this.lastName = lastName;
+        this.role = role;
+        this.enabled = enabled;
+        this.authorities = Collections.singletonList(new SimpleGrantedAuthority("ROLE_" + role));
+    }
+
+    /**
+     * Returns null for tokens issued before user claims were embedded; callers fall back to a lookup.
+     */
+    public static JwtUserPrincipal fromToken(VerifiedToken token) {
+        Claims claims = token.claims();
+        Number id = claims.get(JwtUtil.CLAIM_USER_ID, Number.class);
+        String role = claims.get(JwtUtil.CLAIM_ROLE, String.class);
+        if (id == null || role == null) {
+            return null;
+        }
+        Boolean enabled = claims.get(JwtUtil.CLAIM_ENABLED, Boolean.class);
+        return new JwtUserPrincipal(id.longValue(), token.username(),
+                claims.get(JwtUtil.CLAIM_USERNAME, String.class),
+                claims.get(JwtUtil.CLAIM_FIRST_NAME, String.class),
+                claims.get(JwtUtil.CLAIM_LAST_NAME, String.class),
+                role, Boolean.TRUE.equals(enabled));
+    }
+
+    public Long getId() { return id; }
+    public String getEmail() { return email; }
+    public String getDisplayUsername() { return username; }
+    public String getFirstName() { return firstName; }
+    public String getLastName() { return lastName; }
+    public String getRole() { return role; }
+
+    @Override
+    public Collection<? extends GrantedAuthority> getAuthorities() { return authorities; }
+
+    @Override
+    public String getPassword() { return null; }
+
+    @Override
+    public String getUsername() { return email; }
+
+    @Override
+    public boolean isEnabled() { return enabled; }
+}
@@ -1,6 +1,8 @@
 package com.airesumemaker.security;
 
+import com.airesumemaker.entity.User;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
 import org.springframework.beans.factory.annotation.Value;
@@ -8,6 +10,8 @@ import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
@@ -16,18 +20,75 @@ import java.util.function.Function;
 @Component
 public class JwtUtil {
 
-    @Value("${jwt.secret:myDefaultSecret}")
-    private String secret;
+    // Enough about the user to authenticate a request without loading it
+    static final String CLAIM_USER_ID = "uid";
+    static final String CLAIM_ROLE = "role";
+    static final String CLAIM_ENABLED = "enabled";
+    static final String CLAIM_USERNAME = "username";
+    static final String CLAIM_FIRST_NAME = "firstName";
+    static final String CLAIM_LAST_NAME = "lastName";
 
-    @Value("${jwt.expiration:86400000}")
-    private Long expiration;
+    private final String secret;
+    private final Long expiration;
+    private final VerifiedTokenCache verifiedTokens;
+
+    // Built on first use so a misconfigured secret fails token calls, not application startup
+    private volatile SecretKey signingKey;
+    private volatile JwtParser parser;
+
+    public JwtUtil(@Value("${jwt.secret:myDefaultSecret}") String secret,
+                   @Value("${jwt.expiration:86400000}") Long expiration,
+                   @Value("${jwt.verified-cache-size:10000}") int verifiedCacheSize) {
+        this.secret = secret;
+        this.expiration = expiration;
+        this.verifiedTokens = new VerifiedTokenCache(verifiedCacheSize, Clock.systemUTC());
+    }
 
     private SecretKey getSigningKey() {
-        return Keys.hmacShaKeyFor(secret.getBytes());
+        SecretKey key = signingKey;
+        if (key == null) {
+            synchronized (this) {
+                key = signingKey;
+                if (key == null) {
+                    key = Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
+                    // JwtParser is immutable and thread-safe, so one instance serves every request
+                    parser = Jwts.parser().verifyWith(key).build();
+                    signingKey = key;
+                }
+            }
+        }
+        return key;
+    }
+
+    private JwtParser getParser() {
+        getSigningKey();
+        return parser;
+    }
+
+    /**
+     * Checks the signature and expiry of a token once; repeat calls with the same token are served from
+     * the verified-token cache until it expires.
+     *
+     * @throws io.jsonwebtoken.JwtException if the token is malformed, tampered with or expired
+     * @throws IllegalArgumentException if the token is empty
+     */
+    public VerifiedToken verify(String token) {
+        VerifiedToken cached = verifiedTokens.get(token);
+        if (cached != null) {
+            return cached;
+        }
+        Claims claims = getParser().parseSignedClaims(token).getPayload();
+        Date expiresAt = claims.getExpiration();
+        VerifiedToken verified = new VerifiedToken(claims.getSubject(), claims,
+                expiresAt == null ? null : expiresAt.toInstant());
+        if (expiresAt != null) {
+            verifiedTokens.put(token, verified);
+        }
+        return verified;
     }
 
     public String extractUsername(String token) {
-        return extractClaim(token, Claims::getSubject);
+        return verify(token).username();
     }
 
     public String getUsernameFromToken(String token) {
@@ -39,25 +100,18 @@ public class JwtUtil {
     }
 
     public <T> T extractClaim(String token, Function<Claims, T> claimsResolver) {
-        final Claims claims = extractAllClaims(token);
-        return claimsResolver.apply(claims);
-    }
-
-    private Claims extractAllClaims(String token) {
-        return Jwts.parser()
-                .verifyWith(getSigningKey())
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
-    }
-
-    private Boolean isTokenExpired(String token) {
-        return extractExpiration(token).before(new Date());
+        return claimsResolver.apply(verify(token).claims());
     }
 
-    public String generateToken(UserDetails userDetails) {
+    public String generateToken(User user) {
         Map<String, Object> claims = new HashMap<>();
-        return createToken(claims, userDetails.getUsername());
+        claims.put(CLAIM_USER_ID, user.getId());
+        claims.put(CLAIM_ROLE, user.getRole().name());
+        claims.put(CLAIM_ENABLED, user.getEnabled());
+        claims.put(CLAIM_USERNAME, user.getUsername());
+        claims.put(CLAIM_FIRST_NAME, user.getFirstName());
+        claims.put(CLAIM_LAST_NAME, user.getLastName());
+        return createToken(claims, user.getEmail());
     }
 
     private String createToken(Map<String, Object> claims, String subject) {
@@ -71,7 +125,7 @@ public class JwtUtil {
     }
 
     public Boolean validateToken(String token, UserDetails userDetails) {
-        final String username = extractUsername(token);
-        return (username.equals(userDetails.getUsername()) && !isTokenExpired(token));
+        // verify() rejects expired tokens, so a single parse covers both checks
+        return verify(token).username().equals(userDetails.getUsername());
     }
 }
@@ -0,0 +1,66 @@
+package com.airesumemaker.security;
+
+import com.airesumemaker.repository.UserRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Answers "is this token's user still allowed in" from memory. Disabled accounts are picked up from
+ * Postgres on a fixed refresh interval rather than per request.
+ */
+@Component
+public class UserStatusCache {
+
+    private static final Logger log = LoggerFactory.getLogger(UserStatusCache.class);
+
+    private final UserRepository userRepository;
+    private final Duration refreshInterval;
+
+    private volatile Set<Long> disabledUserIds = Set.of();
+
+    private final ScheduledExecutorService refresher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "user-status-refresh");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public UserStatusCache(UserRepository userRepository,
+                           @Value("${jwt.user-status-refresh:30s}") Duration refreshInterval) {
+        this.userRepository = userRepository;
+        this.refreshInterval = refreshInterval;
+    }
+
+    @PostConstruct
+    public void start() {
+        long millis = refreshInterval.toMillis();
+        refresher.scheduleWithFixedDelay(this::refresh, 0, millis, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        refresher.shutdownNow();
+    }
+
+    public boolean isActive(JwtUserPrincipal principal) {
+        return principal.isEnabled() && !disabledUserIds.contains(principal.getId());
+    }
+
+    void refresh() {
+        try {
+            disabledUserIds = Set.copyOf(userRepository.findDisabledUserIds());
+        } catch (RuntimeException e) {
+            // Keep the previous snapshot; the next refresh will try again
+            log.warn("Failed to refresh disabled users: {}", e.getMessage());
+        }
+    }
+}
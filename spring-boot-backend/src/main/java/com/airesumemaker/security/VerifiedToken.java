@@ -0,0 +1,15 @@
+package com.airesumemaker.security;
+
+import io.jsonwebtoken.Claims;
+
+import java.time.Instant;
+
+/**
+ * A bearer token whose signature and expiry have already been checked.
+ */
+public record VerifiedToken(String username, Claims claims, Instant expiresAt) {
+
+    public boolean isExpired(Instant now) {
+        return expiresAt != null && !expiresAt.isAfter(now);
+    }
+}
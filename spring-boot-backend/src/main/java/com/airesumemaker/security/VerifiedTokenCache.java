@@ -0,0 +1,76 @@
+package com.airesumemaker.security;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Bounded map from raw bearer token to its verification result. Entries die with the token's own expiry,
+ * so a hit never outlives what a fresh parse would have accepted.
+ */
+class VerifiedTokenCache {
+
+    private static final Comparator<Map.Entry<String, VerifiedToken>> SOONEST_EXPIRY = Comparator.comparing(
+            entry -> entry.getValue().expiresAt(), Comparator.nullsLast(Comparator.naturalOrder()));
+
+    private final Map<String, VerifiedToken> tokens = new ConcurrentHashMap<>();
+    // Every cached entry ordered by expiry, so put() only ever looks at the expired ones or, when full, the soonest
+    private final PriorityQueue<Map.Entry<String, VerifiedToken>> expiryOrder = new PriorityQueue<>(SOONEST_EXPIRY);
+    // A lock rather than synchronized: a virtual thread blocked entering a monitor pins its carrier
+    private final ReentrantLock expiryLock = new ReentrantLock();
+    private final int maxSize;
+    private final Clock clock;
+
+    VerifiedTokenCache(int maxSize, Clock clock) {
+        this.maxSize = maxSize;
+        this.clock = clock;
+    }
+
+    VerifiedToken get(String token) {
+        VerifiedToken verified = tokens.get(token);
+        if (verified == null) {
+            return null;
+        }
+        if (verified.isExpired(clock.instant())) {
+            tokens.remove(token, verified);
+            return null;
+        }
+        return verified;
+    }
+
+    void put(String token, VerifiedToken verified) {
+        if (maxSize <= 0) {
+            return;
+        }
+        expiryLock.lock();
+        try {
+            evictExpired();
+            // Still full of live tokens: make room by dropping the ones closest to expiry, which have the
+            // least cache life left, so new logins keep getting cached
+            Map.Entry<String, VerifiedToken> soonest;
+            while (tokens.size() >= maxSize && (soonest = expiryOrder.poll()) != null) {
+                tokens.remove(soonest.getKey(), soonest.getValue());
+            }
+            if (tokens.putIfAbsent(token, verified) == null) {
+                expiryOrder.add(Map.entry(token, verified));
+            }
+        } finally {
+            expiryLock.unlock();
+        }
+    }
+
+    // Caller holds expiryLock
+    private void evictExpired() {
+        Instant now = clock.instant();
+        Map.Entry<String, VerifiedToken> soonest;
+        while ((soonest = expiryOrder.peek()) != null && soonest.getValue().isExpired(now)) {
+            expiryOrder.poll();
+            // get() may already have dropped it
+            tokens.remove(soonest.getKey(), soonest.getValue());
+        }
+    }
+}
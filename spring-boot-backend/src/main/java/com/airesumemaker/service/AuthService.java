@@ -9,7 +9,6 @@ import com.airesumemaker.repository.UserRepository;
 import com.airesumemaker.security.JwtUtil;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.web.server.ResponseStatusException;
@@ -22,14 +21,12 @@ public class AuthService {
     private final PasswordEncoder passwordEncoder;
     private final JwtUtil jwtUtil;
     private final AuthenticationManager authenticationManager;
-    private final UserDetailsServiceImpl userDetailsService;
 
-    public AuthService(UserRepository userRepository, PasswordEncoder passwordEncoder, JwtUtil jwtUtil, AuthenticationManager authenticationManager, UserDetailsServiceImpl userDetailsService) {
+    public AuthService(UserRepository userRepository, PasswordEncoder passwordEncoder, JwtUtil jwtUtil, AuthenticationManager authenticationManager) {
         this.userRepository = userRepository;
         this.passwordEncoder = passwordEncoder;
         this.jwtUtil = jwtUtil;
         this.authenticationManager = authenticationManager;
-        this.userDetailsService = userDetailsService;
     }
 
     public AuthResponse register(RegisterRequest request) {
@@ -49,10 +46,9 @@ public class AuthService {
         user.setLastName(request.getLastName());
         user.setRole(User.Role.valueOf(request.getRole()));
 
-        userRepository.save(user);
+        user = userRepository.save(user);
 
-        UserDetails userDetails = userDetailsService.loadUserByUsername(user.getEmail());
-        String token = jwtUtil.generateToken(userDetails);
+        String token = jwtUtil.generateToken(user);
 
         return new AuthResponse(token, user.getEmail(), user.getFirstName(), user.getLastName(), user.getRole().toString());
     }
@@ -62,12 +58,11 @@ public class AuthService {
             new UsernamePasswordAuthenticationToken(request.getEmail(), request.getPassword())
         );
 
-        UserDetails userDetails = userDetailsService.loadUserByUsername(request.getEmail());
-        String token = jwtUtil.generateToken(userDetails);
-
         User user = userRepository.findByEmail(request.getEmail())
             .orElseThrow(() -> new RuntimeException("User not found"));
 
+        String token = jwtUtil.generateToken(user);
+
         return new AuthResponse(token, user.getEmail(), user.getFirstName(), user.getLastName(), user.getRole().toString());
     }
 
@@ -91,8 +86,7 @@ public class AuthService {
             return userRepository.save(u);
         });
 
-        UserDetails userDetails = userDetailsService.loadUserByUsername(user.getEmail());
-        String token = jwtUtil.generateToken(userDetails);
+        String token = jwtUtil.generateToken(user);
         return new AuthResponse(token, user.getEmail(), user.getFirstName(), user.getLastName(), user.getRole().toString());
     }
 }
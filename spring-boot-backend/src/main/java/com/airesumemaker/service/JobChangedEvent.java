@@ -0,0 +1,19 @@
+package com.airesumemaker.service;
+
+import com.airesumemaker.dto.JobResponse;
+
+// Published by JobService; job is null when the posting was deleted
+public record JobChangedEvent(Long jobId, JobResponse job) {
+
+    public static JobChangedEvent saved(JobResponse job) {
+        return new JobChangedEvent(job.getId(), job);
+    }
+
+    public static JobChangedEvent deleted(Long jobId) {
+        return new JobChangedEvent(jobId, null);
+    }
+
+    public boolean isDeleted() {
+        return job == null;
+    }
+}
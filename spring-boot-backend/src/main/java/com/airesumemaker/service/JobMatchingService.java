@@ -0,0 +1,367 @@
+package com.airesumemaker.service;
+
+import com.airesumemaker.client.AIServiceClient;
+import com.airesumemaker.client.ReactiveAIServiceClient;
+import com.airesumemaker.config.MatchingProperties;
+import com.airesumemaker.dto.EmbeddingRequest;
+import com.airesumemaker.dto.EmbeddingResponse;
+import com.airesumemaker.dto.JobMatchRequest;
+import com.airesumemaker.dto.JobMatchResponse;
+import com.airesumemaker.dto.JobResponse;
+import com.airesumemaker.entity.Job;
+import com.airesumemaker.entity.Resume;
+import com.airesumemaker.matching.EmbeddingStore;
+import com.airesumemaker.matching.JobVectorIndex;
+import com.airesumemaker.matching.ScoredJob;
+import com.airesumemaker.matching.VectorMath;
+import com.airesumemaker.repository.JobRepository;
+import com.airesumemaker.repository.JobSkillRow;
+import com.airesumemaker.repository.ResumeRepository;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.server.ResponseStatusException;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
+
+@Service
+public class JobMatchingService {
+
+    private static final Logger log = LoggerFactory.getLogger(JobMatchingService.class);
+
+    // The default JobMatchRequest.maxMatches
+    static final int RECALL_CHECK_K = 10;
+
+    private final JobRepository jobRepository;
+    private final ResumeRepository resumeRepository;
+    private final AIServiceClient aiServiceClient;
+    private final ReactiveAIServiceClient reactiveAIServiceClient;
+    private final JobVectorIndex jobVectorIndex;
+    private final EmbeddingStore jobEmbeddings;
+    private final EmbeddingStore resumeEmbeddings;
+    private final MatchingProperties properties;
+    private final TransactionTemplate readOnlyTransaction;
+    private final Scheduler blockingCallScheduler;
+
+    // All index writes go through one thread so embedding calls never run on request threads
+    private final ExecutorService indexer = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "job-indexer");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public JobMatchingService(JobRepository jobRepository, ResumeRepository resumeRepository, AIServiceClient aiServiceClient,
+                              ReactiveAIServiceClient reactiveAIServiceClient, JobVectorIndex jobVectorIndex,
+                              @Qualifier("jobEmbeddingStore") EmbeddingStore jobEmbeddings,
+                              @Qualifier("resumeEmbeddingStore") EmbeddingStore resumeEmbeddings,
+                              MatchingProperties properties, PlatformTransactionManager transactionManager,
+                              Scheduler blockingCallScheduler) {
+        this.jobRepository = jobRepository;
+        this.resumeRepository = resumeRepository;
+        this.aiServiceClient = aiServiceClient;
+        this.reactiveAIServiceClient = reactiveAIServiceClient;
+        this.jobVectorIndex = jobVectorIndex;
+        this.jobEmbeddings = jobEmbeddings;
+        this.resumeEmbeddings = resumeEmbeddings;
+        this.properties = properties;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.blockingCallScheduler = blockingCallScheduler;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadCatalog() {
+        if (properties.isLocalEnabled()) {
+            // Without the incubator module every index scan falls back to the scalar loop
+            if (VectorMath.isSimdAvailable()) {
+                log.info("Local job matching uses Vector API dot products");
+            } else {
+                log.warn("Local job matching uses scalar dot products; start the JVM with --add-modules jdk.incubator.vector");
+            }
+            indexer.execute(() -> {
+                warmStart();
+                indexCatalog();
+                checkRecall();
+            });
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onJobChanged(JobChangedEvent event) {
+        if (!properties.isLocalEnabled()) {
+            return;
+        }
+        indexer.execute(() -> {
+            if (event.isDeleted()) {
+                jobVectorIndex.remove(event.jobId());
+                jobEmbeddings.delete(event.jobId());
+                return;
+            }
+            JobResponse job = event.job();
+            try {
+                embedInto(List.of(job.getId()), List.of(versionOf(job.getUpdatedAt())), List.of(embeddingText(
+                        job.getTitle(), job.getDescription(), job.getSkills(), job.getRequirements())));
+            } catch (RuntimeException e) {
+                log.warn("Failed to index job {}: {}", job.getId(), e.getMessage());
+            }
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        indexer.shutdownNow();
+    }
+
+    // Not transactional: the embedding call can take seconds, so it runs before a connection is held for the job lookup
+    public JobMatchResponse matchJobs(JobMatchRequest request, String userEmail) {
+        if (!properties.isLocalEnabled() || jobVectorIndex.size() == 0) {
+            return aiServiceClient.matchJobs(request);
+        }
+
+        float[] resumeVector = resumeVector(request, userEmail);
+        // Validation rejects it at the controller, but a zero or negative k would size the collector below zero
+        int k = Math.max(1, Math.min(request.getMaxMatches(), properties.getMaxMatches()));
+        // Same candidate set as the AI service matcher when the caller supplies one, otherwise the whole catalog
+        Set<Long> candidateIds = candidateIds(request);
+        List<ScoredJob> top = candidateIds.isEmpty()
+                ? jobVectorIndex.search(resumeVector, k)
+                : jobEmbeddings.search(candidateIds, resumeVector, k);
+        if (top.isEmpty()) {
+            return new JobMatchResponse(List.of());
+        }
+        return readOnlyTransaction.execute(status -> toResponse(top, request));
+    }
+
+    private JobMatchResponse toResponse(List<ScoredJob> top, JobMatchRequest request) {
+        List<Long> jobIds = top.stream().map(ScoredJob::jobId).toList();
+        Map<Long, Job> jobsById = new HashMap<>();
+        for (Job job : jobRepository.findAllById(jobIds)) {
+            jobsById.put(job.getId(), job);
+        }
+        // One query for every match's skills instead of initialising each job's collection
+        Map<Long, List<String>> skillsByJobId = new HashMap<>();
+        for (JobSkillRow row : jobRepository.findSkillsByJobIds(jobIds)) {
+            skillsByJobId.computeIfAbsent(row.jobId(), id -> new ArrayList<>()).add(row.skill());
+        }
+
+        Set<String> resumeSkills = request.getResumeSkills() == null ? Set.of()
+                : request.getResumeSkills().stream()
+                        .map(skill -> skill.toLowerCase(Locale.ROOT))
+                        .collect(Collectors.toSet());
+
+        List<JobMatchResponse.JobMatch> matches = new ArrayList<>(top.size());
+        for (ScoredJob scored : top) {
+            Job job = jobsById.get(scored.jobId());
+            if (job == null) {
+                // Deleted after the index was searched
+                continue;
+            }
+            matches.add(toJobMatch(job, skillsByJobId.getOrDefault(job.getId(), List.of()), scored.score(), resumeSkills));
+        }
+        return new JobMatchResponse(matches);
+    }
+
+    /**
+     * Non-blocking variant for controllers: the remote Gemini matcher runs on the reactive client, and the
+     * local index path (JPA plus at most one embedding call) runs on the blocking-call scheduler (boundedElastic,
+     * or a virtual thread per call in virtual-thread mode) instead of the servlet thread.
+     */
+    public Mono<JobMatchResponse> matchJobsAsync(JobMatchRequest request, String userEmail) {
+        if (!properties.isLocalEnabled() || jobVectorIndex.size() == 0) {
+            return reactiveAIServiceClient.matchJobs(request);
+        }
+        return Mono.fromCallable(() -> matchJobs(request, userEmail))
+                .subscribeOn(blockingCallScheduler);
+    }
+
+    // Serve matches straight from the persisted vectors before the catalog is reconciled with Postgres
+    void warmStart() {
+        long started = System.nanoTime();
+        jobEmbeddings.forEach((jobId, version, vector) -> jobVectorIndex.upsert(jobId, vector));
+        log.info("Loaded {} stored job embeddings in {} ms", jobEmbeddings.size(), (System.nanoTime() - started) / 1_000_000);
+    }
+
+    // Re-embeds only jobs that are new or whose updatedAt moved past the stored version, then drops vectors
+    // for jobs that are gone or inactive
+    void indexCatalog() {
+        long started = System.nanoTime();
+        long afterId = 0;
+        int embedded = 0;
+        Set<Long> activeIds = new HashSet<>();
+        try {
+            while (true) {
+                long cursor = afterId;
+                List<Long> ids = new ArrayList<>();
+                List<Long> versions = new ArrayList<>();
+                List<String> texts = new ArrayList<>();
+                long[] lastId = {cursor};
+                readOnlyTransaction.executeWithoutResult(status -> {
+                    for (Job job : jobRepository.findByActiveTrueAndIdGreaterThanOrderByIdAsc(
+                            cursor, Limit.of(properties.getEmbeddingBatchSize()))) {
+                        activeIds.add(job.getId());
+                        lastId[0] = job.getId();
+                        long version = versionOf(job.getUpdatedAt());
+                        if (jobEmbeddings.isStale(job.getId(), version)) {
+                            ids.add(job.getId());
+                            versions.add(version);
+                            texts.add(embeddingText(job.getTitle(), job.getDescription(), job.getSkills(), job.getRequirements()));
+                        }
+                    }
+                });
+                if (lastId[0] == cursor) {
+                    break;
+                }
+                if (!ids.isEmpty()) {
+                    embedInto(ids, versions, texts);
+                    embedded += ids.size();
+                }
+                afterId = lastId[0];
+            }
+
+            int dropped = 0;
+            for (Long storedId : jobEmbeddings.ids()) {
+                if (!activeIds.contains(storedId)) {
+                    jobEmbeddings.delete(storedId);
+                    jobVectorIndex.remove(storedId);
+                    dropped++;
+                }
+            }
+            log.info("Reconciled {} active jobs for local matching in {} ms ({} re-embedded, {} dropped)",
+                    activeIds.size(), (System.nanoTime() - started) / 1_000_000, embedded, dropped);
+        } catch (RuntimeException e) {
+            log.warn("Job catalog indexing stopped after re-embedding {} jobs: {}", embedded, e.getMessage());
+        }
+    }
+
+    // An approximate index that misses too many true neighbours should be retuned before anyone relies on it
+    void checkRecall() {
+        MatchingProperties.Hnsw hnsw = properties.getHnsw();
+        if (hnsw.getRecallCheckQueries() <= 0 || jobVectorIndex.size() == 0) {
+            return;
+        }
+        double recall = jobVectorIndex.measureRecall(hnsw.getRecallCheckQueries(), RECALL_CHECK_K);
+        if (recall < hnsw.getRecallTarget()) {
+            log.warn("Job index recall@{} is {} over {} queries, below the target {}; raise matching.hnsw.ef-search or m",
+                    RECALL_CHECK_K, String.format("%.3f", recall), hnsw.getRecallCheckQueries(), hnsw.getRecallTarget());
+        } else {
+            log.info("Job index recall@{} is {} over {} queries", RECALL_CHECK_K, String.format("%.3f", recall),
+                    hnsw.getRecallCheckQueries());
+        }
+    }
+
+    private void embedInto(List<Long> jobIds, List<Long> versions, List<String> texts) {
+        List<float[]> vectors = embed(texts);
+        for (int i = 0; i < jobIds.size(); i++) {
+            jobEmbeddings.put(jobIds.get(i), versions.get(i), vectors.get(i));
+            jobVectorIndex.upsert(jobIds.get(i), vectors.get(i));
+        }
+    }
+
+    private static Set<Long> candidateIds(JobMatchRequest request) {
+        if (request.getAvailableJobs() == null) {
+            return Set.of();
+        }
+        Set<Long> ids = new HashSet<>();
+        for (JobResponse job : request.getAvailableJobs()) {
+            if (job != null && job.getId() != null) {
+                ids.add(job.getId());
+            }
+        }
+        return ids;
+    }
+
+    // A stored resume vector is only ever embedded from that resume's own parsed text, and only for its owner,
+    // so a caller cannot plant a vector that later matches for someone else's resume
+    private float[] resumeVector(JobMatchRequest request, String userEmail) {
+        if (request.getResumeId() == null) {
+            return embed(List.of(request.getResumeText())).get(0);
+        }
+        Resume resume = resumeRepository.findByIdAndUserEmail(request.getResumeId(), userEmail)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Resume not found"));
+        long version = versionOf(resume.getUpdatedAt());
+        float[] vector = new float[resumeEmbeddings.dimension()];
+        if (resumeEmbeddings.version(resume.getId()) >= version && resumeEmbeddings.read(resume.getId(), vector)) {
+            return vector;
+        }
+        if (resume.getParsedContent() == null || resume.getParsedContent().isBlank()) {
+            throw new ResponseStatusException(HttpStatus.CONFLICT, "Resume has not been processed yet");
+        }
+        vector = embed(List.of(resume.getParsedContent())).get(0);
+        resumeEmbeddings.put(resume.getId(), version, vector);
+        return vector;
+    }
+
+    private List<float[]> embed(List<String> texts) {
+        EmbeddingResponse response = aiServiceClient.embed(new EmbeddingRequest(texts));
+        if (response == null || response.getEmbeddings() == null || response.getEmbeddings().size() != texts.size()) {
+            throw new IllegalStateException("AI service returned no embeddings");
+        }
+        return response.getEmbeddings();
+    }
+
+    private JobMatchResponse.JobMatch toJobMatch(Job job, List<String> skills, float score, Set<String> resumeSkills) {
+        List<String> matching = new ArrayList<>();
+        List<String> missing = new ArrayList<>();
+        for (String skill : skills) {
+            if (resumeSkills.contains(skill.toLowerCase(Locale.ROOT))) {
+                matching.add(skill);
+            } else {
+                missing.add(skill);
+            }
+        }
+
+        JobMatchResponse.JobMatch match = new JobMatchResponse.JobMatch();
+        match.setJobId(job.getId());
+        match.setJobTitle(job.getTitle());
+        match.setCompany(job.getCompany());
+        // Same 0-100 scale as the Gemini matcher
+        match.setMatchScore(Math.round(Math.max(score, 0f) * 1000) / 10.0);
+        match.setMatchingSkills(matching);
+        match.setMissingSkills(missing);
+        match.setExplanation(String.format(Locale.ROOT, "Semantic similarity %.2f; %d of %d listed skills matched",
+                score, matching.size(), matching.size() + missing.size()));
+        return match;
+    }
+
+    static long versionOf(LocalDateTime updatedAt) {
+        return updatedAt == null ? 0 : updatedAt.toInstant(ZoneOffset.UTC).toEpochMilli();
+    }
+
+    static String embeddingText(String title, String description, List<String> skills, String requirements) {
+        StringBuilder text = new StringBuilder(title);
+        if (skills != null && !skills.isEmpty()) {
+            text.append("\nSkills: ").append(String.join(", ", skills));
+        }
+        if (requirements != null) {
+            text.append('\n').append(requirements);
+        }
+        if (description != null) {
+            text.append('\n').append(description);
+        }
+        return text.toString();
+    }
+}
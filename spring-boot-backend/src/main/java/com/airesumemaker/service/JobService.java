@@ -2,17 +2,27 @@ package com.airesumemaker.service;
 
 import com.airesumemaker.dto.JobCreateRequest;
 import com.airesumemaker.dto.JobResponse;
+import com.airesumemaker.dto.JobSliceResponse;
+import com.airesumemaker.dto.JobSummary;
 import com.airesumemaker.dto.JobUpdateRequest;
 import com.airesumemaker.entity.Job;
+import com.airesumemaker.entity.User;
 import com.airesumemaker.repository.JobRepository;
+import com.airesumemaker.repository.JobSkillRow;
 import com.airesumemaker.repository.UserRepository;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 
 @Service
 @Transactional(readOnly = true)
@@ -20,15 +30,66 @@ public class JobService {
     
     private final JobRepository jobRepository;
     private final UserRepository userRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final SkillDictionaryService skillDictionaryService;
     
-    public JobService(JobRepository jobRepository, UserRepository userRepository) {
+    private static final int MAX_SCROLL_SIZE = 100;
+    
+    public JobService(JobRepository jobRepository, UserRepository userRepository, ApplicationEventPublisher eventPublisher,
+                      SkillDictionaryService skillDictionaryService) {
         this.jobRepository = jobRepository;
         this.userRepository = userRepository;
+        this.eventPublisher = eventPublisher;
+        this.skillDictionaryService = skillDictionaryService;
+    }
+    
+    public Page<JobSummary> getAllJobs(Pageable pageable, String location, List<String> skills, String company) {
+        List<Integer> skillIds = null;
+        if (skills != null && !skills.isEmpty()) {
+            skillIds = skillDictionaryService.resolveIds(skills);
+            if (skillIds.isEmpty()) {
+                // None of the requested skills exist, so no job can match
+                return Page.empty(pageable);
+            }
+        }
+        Page<JobSummary> jobs = jobRepository.findJobSummariesWithFilters(location, company, skillIds, pageable);
+        attachSkills(jobs.getContent());
+        return jobs;
     }
     
-    public Page<JobResponse> getAllJobs(Pageable pageable, String location, List<String> skills, String company) {
-        Page<Job> jobs = jobRepository.findJobsWithFilters(location, company, skills, pageable);
-        return jobs.map(this::mapToJobResponse);
+    /**
+     * Cursor-based listing that seeks past the previous page instead of offsetting, so every page costs
+     * the same. The approximate total comes from planner statistics rather than a COUNT(*).
+     */
+    public JobSliceResponse scrollJobs(String cursor, int size, String location, List<String> skills, String company,
+                                       boolean includeTotal) {
+        int pageSize = Math.max(1, Math.min(size, MAX_SCROLL_SIZE));
+        JobCursor after = cursor == null || cursor.isBlank() ? null : JobCursor.decode(cursor);
+        
+        List<Integer> skillIds = null;
+        if (skills != null && !skills.isEmpty()) {
+            skillIds = skillDictionaryService.resolveIds(skills);
+            if (skillIds.isEmpty()) {
+                return new JobSliceResponse(List.of(), pageSize, false, null, includeTotal ? 0L : null);
+            }
+        }
+        
+        // One extra row tells us whether another page exists without counting
+        Limit limit = Limit.of(pageSize + 1);
+        List<JobSummary> jobs = after == null
+                ? jobRepository.findFirstJobSummariesWithFilters(location, company, skillIds, limit)
+                : jobRepository.findJobSummariesWithFiltersAfter(location, company, skillIds, after.createdAt(), after.id(), limit);
+        boolean hasNext = jobs.size() > pageSize;
+        List<JobSummary> content = hasNext ? jobs.subList(0, pageSize) : jobs;
+        attachSkills(content);
+        
+        String nextCursor = null;
+        if (hasNext) {
+            JobSummary last = content.get(content.size() - 1);
+            nextCursor = new JobCursor(last.getCreatedAt(), last.getId()).encode();
+        }
+        Long approximateTotal = includeTotal ? jobRepository.estimateJobsWithFilters(location, company, skillIds) : null;
+        return new JobSliceResponse(content, pageSize, hasNext, nextCursor, approximateTotal);
     }
     
     public JobResponse getJob(Long id) {
@@ -39,7 +100,7 @@ public class JobService {
     
     @Transactional
     public JobResponse createJob(JobCreateRequest request, String recruiterEmail) {
-        userRepository.findByEmail(recruiterEmail)
+        User recruiter = userRepository.findByEmail(recruiterEmail)
                 .orElseThrow(() -> new RuntimeException("Recruiter not found with email: " + recruiterEmail));
         
         Job job = new Job();
@@ -51,15 +112,18 @@ public class JobService {
         job.setSalaryMax(request.getSalaryMax());
         job.setJobType(request.getJobType());
         job.setExperienceLevel(request.getExperienceLevel());
-        job.setSkills(request.getSkills());
+        applySkills(job, request.getSkills());
         job.setRequirements(request.getRequirements());
         job.setBenefits(request.getBenefits());
         job.setRecruiterEmail(recruiterEmail);
+        job.setRecruiter(recruiter);
         job.setCreatedAt(LocalDateTime.now());
         job.setUpdatedAt(LocalDateTime.now());
         
         Job savedJob = jobRepository.save(job);
-        return mapToJobResponse(savedJob);
+        JobResponse response = mapToJobResponse(savedJob);
+        eventPublisher.publishEvent(JobChangedEvent.saved(response));
+        return response;
     }
     
     @Transactional
@@ -92,7 +156,7 @@ public class JobService {
             job.setExperienceLevel(request.getExperienceLevel());
         }
         if (request.getSkills() != null) {
-            job.setSkills(request.getSkills());
+            applySkills(job, request.getSkills());
         }
         if (request.getRequirements() != null) {
             job.setRequirements(request.getRequirements());
@@ -104,7 +168,9 @@ public class JobService {
         job.setUpdatedAt(LocalDateTime.now());
         
         Job savedJob = jobRepository.save(job);
-        return mapToJobResponse(savedJob);
+        JobResponse response = mapToJobResponse(savedJob);
+        eventPublisher.publishEvent(JobChangedEvent.saved(response));
+        return response;
     }
     
     @Transactional
@@ -112,13 +178,33 @@ public class JobService {
         Job job = jobRepository.findByIdAndRecruiterEmail(id, recruiterEmail)
                 .orElseThrow(() -> new RuntimeException("Job not found or unauthorized"));
         jobRepository.delete(job);
+        eventPublisher.publishEvent(JobChangedEvent.deleted(id));
+    }
+    
+    public List<JobSummary> getJobsByRecruiter(String recruiterEmail) {
+        List<JobSummary> jobs = jobRepository.findSummariesByRecruiterEmail(recruiterEmail);
+        attachSkills(jobs);
+        return jobs;
+    }
+    
+    // One query for the skills of the whole page instead of a lazy collection load per job
+    private void attachSkills(List<JobSummary> jobs) {
+        if (jobs.isEmpty()) {
+            return;
+        }
+        Map<Long, JobSummary> byId = new HashMap<>();
+        for (JobSummary job : jobs) {
+            byId.put(job.getId(), job);
+        }
+        for (JobSkillRow row : jobRepository.findSkillsByJobIds(byId.keySet())) {
+            byId.get(row.jobId()).getSkills().add(row.skill());
+        }
     }
     
-    public List<JobResponse> getJobsByRecruiter(String recruiterEmail) {
-        List<Job> jobs = jobRepository.findByRecruiterEmail(recruiterEmail);
-        return jobs.stream()
-                .map(this::mapToJobResponse)
-                .toList();
+    private void applySkills(Job job, List<String> rawSkills) {
+        List<SkillDictionaryService.CanonicalSkill> canonical = skillDictionaryService.canonicalize(rawSkills);
+        job.setSkills(new ArrayList<>(canonical.stream().map(SkillDictionaryService.CanonicalSkill::name).toList()));
+        job.setSkillIds(new HashSet<>(canonical.stream().map(SkillDictionaryService.CanonicalSkill::id).toList()));
     }
     
     private JobResponse mapToJobResponse(Job job) {
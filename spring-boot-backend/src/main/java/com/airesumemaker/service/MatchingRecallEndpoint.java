@@ -0,0 +1,49 @@
+package com.airesumemaker.service;
+
+import com.airesumemaker.config.MatchingProperties;
+import com.airesumemaker.matching.JobVectorIndex;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * GET /actuator/matchingrecall[?queries=200&amp;k=10] measures recall@k of the local job index against an
+ * exact scan, for tuning matching.hnsw.m and ef-search on the live catalog. An exact index reports 1.
+ * Needs the actuator user; a large run holds off index writes while it lasts.
+ */
+@Component
+@Endpoint(id = "matchingrecall")
+public class MatchingRecallEndpoint {
+
+    private static final int MAX_QUERIES = 10_000;
+
+    private final JobVectorIndex jobVectorIndex;
+    private final MatchingProperties properties;
+
+    public MatchingRecallEndpoint(JobVectorIndex jobVectorIndex, MatchingProperties properties) {
+        this.jobVectorIndex = jobVectorIndex;
+        this.properties = properties;
+    }
+
+    @ReadOperation
+    public Map<String, Object> recall(@Nullable Integer queries, @Nullable Integer k) {
+        MatchingProperties.Hnsw hnsw = properties.getHnsw();
+        int sampled = Math.clamp(queries != null ? queries : Math.max(1, hnsw.getRecallCheckQueries()), 1, MAX_QUERIES);
+        int depth = Math.clamp(k != null ? k : JobMatchingService.RECALL_CHECK_K, 1, properties.getMaxMatches());
+        double recall = jobVectorIndex.measureRecall(sampled, depth);
+
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("indexType", properties.getIndexType());
+        result.put("indexSize", jobVectorIndex.size());
+        result.put("queries", sampled);
+        result.put("k", depth);
+        result.put("recall", recall);
+        result.put("target", hnsw.getRecallTarget());
+        result.put("meetsTarget", recall >= hnsw.getRecallTarget());
+        return result;
+    }
+}
@@ -0,0 +1,184 @@
+package com.airesumemaker.service;
+
+import com.airesumemaker.config.AIServiceProperties;
+import com.airesumemaker.dto.ResumeAnalysisRequest;
+import com.airesumemaker.dto.ResumeAnalysisResponse;
+import com.airesumemaker.entity.ResumeAnalysisCacheEntry;
+import com.airesumemaker.repository.ResumeAnalysisCacheRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.text.Normalizer;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.regex.Pattern;
+
+/**
+ * Two-tier cache of AI resume analyses keyed by SHA-256 of the normalized resume text: a bounded LRU in
+ * memory in front of the resume_analysis_cache table. Cache failures never fail the analysis itself.
+ */
+@Service
+public class ResumeAnalysisCache {
+
+    private static final Logger log = LoggerFactory.getLogger(ResumeAnalysisCache.class);
+
+    private static final Pattern HORIZONTAL_WHITESPACE = Pattern.compile("[\\h\\x0B\\f]+");
+    private static final Pattern BLANK_LINES = Pattern.compile("\\n\\s*\\n+");
+
+    private final ResumeAnalysisCacheRepository repository;
+    private final ObjectMapper objectMapper;
+    private final String analysisVersion;
+    // A lock rather than synchronized: a virtual thread blocked entering a monitor pins its carrier
+    private final ReentrantLock memoryLock = new ReentrantLock();
+    private final Map<String, ResumeAnalysisResponse> memory;
+
+    public ResumeAnalysisCache(ResumeAnalysisCacheRepository repository, ObjectMapper objectMapper,
+                               AIServiceProperties properties) {
+        this.repository = repository;
+        this.objectMapper = objectMapper;
+        this.analysisVersion = properties.getAnalysisVersion();
+        int maxEntries = properties.getAnalysisCacheSize();
+        // Access-ordered, so the eldest entry is the least recently used
+        this.memory = new LinkedHashMap<>(Math.min(maxEntries, 1024), 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, ResumeAnalysisResponse> eldest) {
+                return size() > maxEntries;
+            }
+        };
+    }
+
+    /**
+     * Returns the cached analysis for the request's resume text, or runs the analyzer and caches a non-null result.
+     * Cached responses are shared; callers must not modify them.
+     */
+    public ResumeAnalysisResponse getOrAnalyze(ResumeAnalysisRequest request,
+                                               Function<ResumeAnalysisRequest, ResumeAnalysisResponse> analyzer) {
+        if (request.getResumeText() == null) {
+            return analyzer.apply(request);
+        }
+        String hash = contentHash(request.getResumeText());
+        Optional<ResumeAnalysisResponse> cached = lookup(hash);
+        if (cached.isPresent()) {
+            return cached.get();
+        }
+        ResumeAnalysisResponse analysis = analyzer.apply(request);
+        if (analysis != null) {
+            store(hash, analysis);
+        }
+        return analysis;
+    }
+
+    // The current-version analysis of this resume text, for callers that run the analyzer themselves
+    public Optional<ResumeAnalysisResponse> findCurrentVersion(String resumeText) {
+        return resumeText == null ? Optional.empty() : lookup(contentHash(resumeText));
+    }
+
+    // Caches an analysis the caller obtained for this resume text; never throws
+    public void save(String resumeText, ResumeAnalysisResponse analysis) {
+        if (resumeText != null && analysis != null) {
+            store(contentHash(resumeText), analysis);
+        }
+    }
+
+    /**
+     * The newest analysis of this resume text from any analysis version, for when the AI service cannot be
+     * reached. An older version may lack fields the current prompt extracts.
+     */
+    public Optional<ResumeAnalysisResponse> findAnyVersion(String resumeText) {
+        if (resumeText == null) {
+            return Optional.empty();
+        }
+        String hash = contentHash(resumeText);
+        ResumeAnalysisResponse hit = fromMemory(hash);
+        if (hit != null) {
+            return Optional.of(hit);
+        }
+        try {
+            return repository.findFirstByContentHashOrderByCreatedAtDesc(hash).map(this::deserialize);
+        } catch (RuntimeException e) {
+            log.warn("Stale resume analysis lookup failed: {}", e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    Optional<ResumeAnalysisResponse> lookup(String hash) {
+        ResumeAnalysisResponse hit = fromMemory(hash);
+        if (hit != null) {
+            return Optional.of(hit);
+        }
+        try {
+            Optional<ResumeAnalysisResponse> stored = repository
+                    .findByContentHashAndAnalysisVersion(hash, analysisVersion)
+                    .map(this::deserialize);
+            stored.ifPresent(analysis -> remember(hash, analysis));
+            return stored;
+        } catch (RuntimeException e) {
+            log.warn("Resume analysis cache lookup failed: {}", e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    void store(String hash, ResumeAnalysisResponse analysis) {
+        remember(hash, analysis);
+        try {
+            repository.insertIfAbsent(hash, analysisVersion, objectMapper.writeValueAsString(analysis));
+        } catch (JsonProcessingException | RuntimeException e) {
+            log.warn("Failed to persist resume analysis: {}", e.getMessage());
+        }
+    }
+
+    private ResumeAnalysisResponse fromMemory(String hash) {
+        memoryLock.lock();
+        try {
+            return memory.get(hash);
+        } finally {
+            memoryLock.unlock();
+        }
+    }
+
+    private void remember(String hash, ResumeAnalysisResponse analysis) {
+        memoryLock.lock();
+        try {
+            memory.put(hash, analysis);
+        } finally {
+            memoryLock.unlock();
+        }
+    }
+
+    private ResumeAnalysisResponse deserialize(ResumeAnalysisCacheEntry entry) {
+        try {
+            return objectMapper.readValue(entry.getAnalysis(), ResumeAnalysisResponse.class);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Unreadable cached analysis " + entry.getContentHash(), e);
+        }
+    }
+
+    // Formatting-only differences (line endings, runs of spaces, Unicode composition) map to the same key
+    static String normalize(String text) {
+        String normalized = Normalizer.normalize(text, Normalizer.Form.NFC)
+                .replace("\r\n", "\n")
+                .replace('\r', '\n');
+        normalized = HORIZONTAL_WHITESPACE.matcher(normalized).replaceAll(" ");
+        normalized = BLANK_LINES.matcher(normalized).replaceAll("\n\n");
+        return normalized.strip();
+    }
+
+    static String contentHash(String text) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(normalize(text).getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
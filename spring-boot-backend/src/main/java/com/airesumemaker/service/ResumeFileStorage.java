@@ -0,0 +1,143 @@
+package com.airesumemaker.service;
+
+import com.airesumemaker.config.ResumeStorageProperties;
+import jakarta.annotation.PostConstruct;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+/**
+ * Content-addressed file store for uploaded resumes. A file lives at ab/cd/&lt;sha-256&gt; under the root,
+ * so identical uploads share one copy on disk.
+ */
+@Component
+public class ResumeFileStorage {
+
+    public record StoredFile(String hash, String path, long size) {
+    }
+
+    private final Path root;
+    private final Path incoming;
+    private final long maxBytes;
+    private final int bufferSize;
+
+    public ResumeFileStorage(ResumeStorageProperties properties) {
+        this.root = Paths.get(properties.getDirectory()).toAbsolutePath().normalize();
+        // Same file system as the store, so finished uploads can be renamed into place atomically
+        this.incoming = root.resolve("incoming");
+        this.maxBytes = properties.getMaxFileSize().toBytes();
+        this.bufferSize = (int) properties.getBufferSize().toBytes();
+    }
+
+    @PostConstruct
+    public void init() {
+        try {
+            Files.createDirectories(incoming);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot create resume storage under " + root, e);
+        }
+    }
+
+    /**
+     * Streams body to disk, hashing it on the way, then moves it to its content address. Only one buffer
+     * of the file is ever in memory. declaredLength is the request's Content-Length, or -1 if unknown.
+     */
+    public StoredFile store(InputStream body, long declaredLength) {
+        if (declaredLength > maxBytes) {
+            throw tooLarge();
+        }
+        Path temp = null;
+        try {
+            temp = Files.createTempFile(incoming, "upload-", ".part");
+            MessageDigest digest = sha256();
+            ByteBuffer buffer = ByteBuffer.allocate(bufferSize);
+            long size = 0;
+            try (ReadableByteChannel in = Channels.newChannel(body);
+                 FileChannel out = FileChannel.open(temp, StandardOpenOption.WRITE)) {
+                while (in.read(buffer) != -1) {
+                    buffer.flip();
+                    size += buffer.remaining();
+                    // Checked while streaming since chunked requests carry no Content-Length
+                    if (size > maxBytes) {
+                        throw tooLarge();
+                    }
+                    digest.update(buffer.array(), 0, buffer.limit());
+                    while (buffer.hasRemaining()) {
+                        out.write(buffer);
+                    }
+                    buffer.clear();
+                }
+                out.force(true);
+            }
+            if (size == 0) {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Uploaded file is empty");
+            }
+
+            String hash = HexFormat.of().formatHex(digest.digest());
+            String path = hash.substring(0, 2) + "/" + hash.substring(2, 4) + "/" + hash;
+            Path target = root.resolve(path);
+            if (!Files.exists(target)) {
+                Files.createDirectories(target.getParent());
+                try {
+                    Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE);
+                } catch (FileAlreadyExistsException e) {
+                    // A concurrent upload of the same file got there first; its copy is identical
+                }
+            }
+            return new StoredFile(hash, path, size);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to store uploaded resume", e);
+        } finally {
+            deleteQuietly(temp);
+        }
+    }
+
+    public Path resolve(String path) {
+        Path resolved = root.resolve(path).normalize();
+        if (!resolved.startsWith(root)) {
+            throw new IllegalArgumentException("Path escapes resume storage: " + path);
+        }
+        return resolved;
+    }
+
+    private ResponseStatusException tooLarge() {
+        return new ResponseStatusException(HttpStatus.PAYLOAD_TOO_LARGE,
+                "File size too large. Maximum size is " + (maxBytes / (1024 * 1024)) + "MB.");
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    private static void deleteQuietly(Path temp) {
+        if (temp == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(temp);
+        } catch (IOException e) {
+            // Leftover .part files in incoming/ are harmless and can be swept later
+        }
+    }
+}
@@ -0,0 +1,246 @@
+package com.airesumemaker.service;
+
+import com.airesumemaker.client.AIServiceClient;
+import com.airesumemaker.client.AIServiceUnavailableException;
+import com.airesumemaker.config.ResumeProcessingProperties;
+import com.airesumemaker.dto.ResumeAnalysisRequest;
+import com.airesumemaker.dto.ResumeAnalysisResponse;
+import com.airesumemaker.entity.Resume;
+import com.airesumemaker.entity.ResumeStatus;
+import com.airesumemaker.extraction.ExtractionException;
+import com.airesumemaker.extraction.ResumeTextExtractor;
+import com.airesumemaker.extraction.SkillExtractor;
+import com.airesumemaker.repository.ResumeProcessingQueue;
+import com.airesumemaker.repository.ResumeProcessingQueue.ClaimedTask;
+import com.airesumemaker.repository.ResumeRepository;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Drains the resume processing queue. A single poller claims only as many tasks as there are idle workers,
+ * so claimed work never waits in memory where a crash would hold it until its lease expires.
+ */
+@Service
+public class ResumeProcessingWorker {
+
+    private static final Logger log = LoggerFactory.getLogger(ResumeProcessingWorker.class);
+
+    private final ResumeProcessingQueue queue;
+    private final ResumeRepository resumeRepository;
+    private final ResumeAnalysisCache analysisCache;
+    private final AIServiceClient aiServiceClient;
+    private final ResumeFileStorage fileStorage;
+    private final ResumeTextExtractor textExtractor;
+    private final SkillExtractor skillExtractor;
+    private final ResumeProcessingProperties properties;
+    private final TransactionTemplate transaction;
+
+    private final Semaphore idleWorkers;
+    private final ExecutorService workers;
+    private final ScheduledExecutorService poller = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "resume-queue-poller");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public ResumeProcessingWorker(ResumeProcessingQueue queue, ResumeRepository resumeRepository,
+                                  ResumeAnalysisCache analysisCache, AIServiceClient aiServiceClient,
+                                  ResumeFileStorage fileStorage, ResumeTextExtractor textExtractor,
+                                  SkillExtractor skillExtractor, ResumeProcessingProperties properties, PlatformTransactionManager transactionManager,
+                                  @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads) {
+        this.queue = queue;
+        this.resumeRepository = resumeRepository;
+        this.analysisCache = analysisCache;
+        this.aiServiceClient = aiServiceClient;
+        this.fileStorage = fileStorage;
+        this.textExtractor = textExtractor;
+        this.skillExtractor = skillExtractor;
+        this.properties = properties;
+        this.transaction = new TransactionTemplate(transactionManager);
+        int size = Math.max(1, properties.getWorkers());
+        this.idleWorkers = new Semaphore(size);
+        // The semaphore bounds concurrency either way; virtual workers just cost no platform thread while waiting on AI
+        if (virtualThreads) {
+            this.workers = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("resume-worker-", 1).factory());
+        } else {
+            AtomicInteger threadCount = new AtomicInteger();
+            this.workers = Executors.newFixedThreadPool(size, runnable -> {
+                Thread thread = new Thread(runnable, "resume-worker-" + threadCount.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (properties.isWorkersEnabled()) {
+            long millis = properties.getPollInterval().toMillis();
+            poller.scheduleWithFixedDelay(this::poll, 0, millis, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    // Picks up a local submission right away instead of on the next poll
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onResumeSubmitted(ResumeSubmittedEvent event) {
+        if (properties.isWorkersEnabled()) {
+            try {
+                poller.execute(this::poll);
+            } catch (RejectedExecutionException e) {
+                // Shutting down; the task stays queued for the next start
+            }
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        poller.shutdownNow();
+        // In-flight tasks keep their lease and are retried elsewhere once it expires
+        workers.shutdownNow();
+    }
+
+    // Only ever runs on the poller thread
+    void poll() {
+        try {
+            while (true) {
+                int idle = idleWorkers.availablePermits();
+                if (idle == 0) {
+                    return;
+                }
+                List<ClaimedTask> claimed = queue.claim(idle, properties.getLease());
+                for (ClaimedTask task : claimed) {
+                    idleWorkers.acquireUninterruptibly();
+                    workers.execute(() -> {
+                        try {
+                            process(task);
+                        } finally {
+                            idleWorkers.release();
+                        }
+                    });
+                }
+                if (claimed.size() < idle) {
+                    return;
+                }
+            }
+        } catch (RuntimeException e) {
+            log.warn("Polling the resume processing queue failed: {}", e.getMessage());
+        }
+    }
+
+    private void process(ClaimedTask task) {
+        Resume resume = resumeRepository.findById(task.resumeId()).orElse(null);
+        if (resume == null) {
+            queue.remove(task.id());
+            return;
+        }
+        ResumeAnalysisResponse analysis;
+        String text = null;
+        try {
+            text = resume.getParsedContent() != null ? resume.getParsedContent() : extractText(resume);
+            ResumeAnalysisRequest request = new ResumeAnalysisRequest(text, resume.getFileName(), "text");
+            // Runs outside any transaction so no database connection is held while the AI service works
+            analysis = analysisCache.getOrAnalyze(request, aiServiceClient::analyzeResume);
+        } catch (AIServiceUnavailableException e) {
+            // Circuit open or bulkhead full: fall back to an earlier version's analysis, or wait without using an attempt
+            analysis = analysisCache.findAnyVersion(text).orElse(null);
+            if (analysis == null) {
+                queue.postpone(task.id(), e.getRetryAfter(), e.getReason());
+                return;
+            }
+            log.info("AI service unavailable, completing resume {} with an earlier cached analysis", task.resumeId());
+        } catch (RuntimeException e) {
+            failed(task, e);
+            return;
+        }
+        ResumeAnalysisResponse result = analysis;
+        String skills = mergeSkills(skillExtractor.extract(text), result.getSkills());
+        transaction.executeWithoutResult(status -> {
+            resumeRepository.findById(task.resumeId()).ifPresent(current -> {
+                current.setSkills(skills);
+                current.setExperience(result.getExperience());
+                current.setPhoneNumber(result.getPhone());
+                current.setStatus(ResumeStatus.COMPLETED);
+                current.setProcessingError(null);
+                current.setProcessedAt(LocalDateTime.now());
+            });
+            queue.remove(task.id());
+        });
+    }
+
+    // Uploaded files carry no text until it is extracted; it is saved at once so a retry skips this step, and
+    // with it the dictionary skills so the resume shows them even while the AI service is down
+    private String extractText(Resume resume) {
+        if (resume.getFilePath() == null) {
+            throw new IllegalStateException("Resume has neither text nor a stored file");
+        }
+        String text = textExtractor.extract(fileStorage.resolve(resume.getFilePath()), resume.getFileType());
+        String skills = skillExtractor.extractJoined(text);
+        transaction.executeWithoutResult(status ->
+                resumeRepository.findById(resume.getId()).ifPresent(current -> {
+                    current.setParsedContent(text);
+                    current.setSkills(skills);
+                }));
+        return text;
+    }
+
+    // Dictionary skills first, in resume order, then whatever else the AI service found, ignoring case
+    private static String mergeSkills(List<String> local, List<String> analyzed) {
+        Map<String, String> merged = new LinkedHashMap<>();
+        local.forEach(skill -> merged.putIfAbsent(skill.toLowerCase(Locale.ROOT), skill));
+        if (analyzed != null) {
+            analyzed.stream()
+                    .filter(skill -> skill != null && !skill.isBlank())
+                    .forEach(skill -> merged.putIfAbsent(skill.strip().toLowerCase(Locale.ROOT), skill.strip()));
+        }
+        return merged.isEmpty() ? null : String.join(", ", merged.values());
+    }
+
+    private void failed(ClaimedTask task, RuntimeException e) {
+        String error = e.getMessage() != null ? e.getMessage() : e.getClass().getSimpleName();
+        // A file that cannot be parsed will not parse on the next attempt either
+        if (task.attempts() < properties.getMaxAttempts() && !(e instanceof ExtractionException)) {
+            Duration delay = backoff(task.attempts());
+            log.info("Analysis of resume {} failed on attempt {}, retrying in {}: {}",
+                    task.resumeId(), task.attempts(), delay, error);
+            queue.retryLater(task.id(), delay, error);
+            return;
+        }
+        log.warn("Analysis of resume {} failed after {} attempts: {}", task.resumeId(), task.attempts(), error);
+        transaction.executeWithoutResult(status -> {
+            resumeRepository.findById(task.resumeId()).ifPresent(current -> {
+                current.setStatus(ResumeStatus.FAILED);
+                current.setProcessingError(error);
+                current.setProcessedAt(LocalDateTime.now());
+            });
+            queue.remove(task.id());
+        });
+    }
+
+    private Duration backoff(int attempts) {
+        Duration delay = properties.getRetryBackoff().multipliedBy(1L << Math.min(attempts - 1, 20));
+        return delay.compareTo(properties.getMaxRetryBackoff()) > 0 ? properties.getMaxRetryBackoff() : delay;
+    }
+}
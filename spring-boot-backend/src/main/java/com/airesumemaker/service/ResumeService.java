@@ -1,26 +1,59 @@
 package com.airesumemaker.service;
 
+import com.airesumemaker.dto.ResumeStatusResponse;
 import com.airesumemaker.entity.Resume;
+import com.airesumemaker.entity.ResumeStatus;
 import com.airesumemaker.entity.User;
+import com.airesumemaker.extraction.SkillExtractor;
+import com.airesumemaker.repository.ResumeProcessingQueue;
 import com.airesumemaker.repository.ResumeRepository;
-import com.airesumemaker.client.AIServiceClient;
-import com.airesumemaker.dto.ResumeAnalysisRequest;
-import com.airesumemaker.dto.ResumeAnalysisResponse;
+import com.airesumemaker.repository.UserRepository;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import com.airesumemaker.service.ResumeFileStorage.StoredFile;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.server.ResponseStatusException;
 
+import java.io.InputStream;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 @Service
 public class ResumeService {
 
+    // Accepted upload content types -> Resume.fileType; only types ResumeTextExtractor can read, so legacy
+    // binary .doc is refused here rather than failing later in the worker
+    private static final Map<String, String> UPLOAD_TYPES = Map.of(
+            "application/pdf", "pdf",
+            "application/vnd.openxmlformats-officedocument.wordprocessingml.document", "docx",
+            "text/plain", "txt");
+
     private ResumeRepository resumeRepository;
-    private AIServiceClient aiServiceClient;
+    private UserRepository userRepository;
+    private ResumeProcessingQueue processingQueue;
+    private ApplicationEventPublisher eventPublisher;
+    private ResumeFileStorage fileStorage;
+    private SkillExtractor skillExtractor;
+    private TransactionTemplate transaction;
 
-    public ResumeService(ResumeRepository resumeRepository, AIServiceClient aiServiceClient) {
+    public ResumeService(ResumeRepository resumeRepository, UserRepository userRepository,
+                         ResumeProcessingQueue processingQueue, ApplicationEventPublisher eventPublisher,
+                         ResumeFileStorage fileStorage, SkillExtractor skillExtractor,
+                         PlatformTransactionManager transactionManager) {
         this.resumeRepository = resumeRepository;
-        this.aiServiceClient = aiServiceClient;
+        this.userRepository = userRepository;
+        this.processingQueue = processingQueue;
+        this.eventPublisher = eventPublisher;
+        this.fileStorage = fileStorage;
+        this.skillExtractor = skillExtractor;
+        this.transaction = new TransactionTemplate(transactionManager);
     }
 
     public Resume saveResume(Resume resume) {
@@ -43,34 +76,88 @@ public class ResumeService {
         resumeRepository.deleteById(id);
     }
 
-    public Resume processResumeWithAI(String resumeText, String fileName, User user) {
+    /**
+     * Saves the resume as PENDING and queues it for analysis in the same transaction, so a queued task always
+     * has its resume and a saved resume is never left without a task. Skills found in the dictionary are set
+     * right away; workers fill in the rest of the analysis later.
+     */
+    @Transactional
+    public ResumeStatusResponse submitResume(String resumeText, String fileName, String userEmail) {
+        Resume resume = new Resume();
+        resume.setFileName(fileName);
+        resume.setFileType("text");
+        resume.setParsedContent(resumeText);
+        resume.setSkills(skillExtractor.extractJoined(resumeText));
+        return toStatusResponse(saveAndQueue(resume, userEmail));
+    }
+
+    /**
+     * Streams an uploaded file into storage, then records and queues it like submitResume. The copy runs
+     * before the transaction opens so no database connection is held while the client sends the file.
+     * Uploading a file the user already uploaded returns the existing resume, including when both uploads
+     * race and the unique (user, file hash) index turns the second insert away.
+     */
+    public ResumeStatusResponse uploadResume(InputStream body, long contentLength, String fileName, MediaType contentType,
+                                             String userEmail) {
+        String fileType = UPLOAD_TYPES.get(contentType.getType() + "/" + contentType.getSubtype());
+        if (fileType == null) {
+            throw new ResponseStatusException(HttpStatus.UNSUPPORTED_MEDIA_TYPE,
+                    "File type " + contentType + " not supported. Please upload PDF, DOCX, or TXT files.");
+        }
+        StoredFile file = fileStorage.store(body, contentLength);
         try {
-            // Create request for AI service
-            ResumeAnalysisRequest request = new ResumeAnalysisRequest(resumeText, fileName, "text");
-            
-            // Call AI service for analysis
-            ResumeAnalysisResponse analysis = aiServiceClient.analyzeResume(request);
-            
-            // Create Resume entity with AI analysis results
-            Resume resume = new Resume();
-            resume.setFileName(fileName);
-            resume.setParsedContent(resumeText);
-            resume.setSkills(String.join(", ", analysis.getSkills()));
-            resume.setExperience(analysis.getExperience());
-            resume.setUser(user);
-            resume.setCreatedAt(LocalDateTime.now());
-            
-            // Save and return the resume
-            return resumeRepository.save(resume);
-            
-        } catch (Exception e) {
-            // Fallback: save resume without AI analysis
-            Resume resume = new Resume();
-            resume.setFileName(fileName);
-            resume.setParsedContent(resumeText);
-            resume.setUser(user);
-            resume.setCreatedAt(LocalDateTime.now());
-            return resumeRepository.save(resume);
+            return transaction.execute(status -> {
+                Optional<Resume> existing = resumeRepository.findFirstByUserEmailAndFileHash(userEmail, file.hash());
+                if (existing.isPresent()) {
+                    return toStatusResponse(existing.get());
+                }
+                Resume resume = new Resume();
+                resume.setFileName(fileName);
+                resume.setFilePath(file.path());
+                resume.setFileType(fileType);
+                resume.setFileSize(file.size());
+                resume.setFileHash(file.hash());
+                return toStatusResponse(saveAndQueue(resume, userEmail));
+            });
+        } catch (DataIntegrityViolationException e) {
+            // The failed insert aborted that transaction, so the winner is read in a new one
+            return transaction.execute(status -> resumeRepository.findFirstByUserEmailAndFileHash(userEmail, file.hash())
+                    .map(this::toStatusResponse)
+                    .orElseThrow(() -> e));
         }
     }
-}
\ No newline at end of file
+
+    // Saves the resume as PENDING and queues it in the caller's transaction
+    private Resume saveAndQueue(Resume resume, String userEmail) {
+        User user = userRepository.findByEmail(userEmail)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.UNAUTHORIZED, "User not found"));
+        resume.setStatus(ResumeStatus.PENDING);
+        resume.setUser(user);
+        resume.setCreatedAt(LocalDateTime.now());
+        Resume saved = resumeRepository.save(resume);
+
+        processingQueue.enqueue(saved.getId());
+        eventPublisher.publishEvent(new ResumeSubmittedEvent(saved.getId()));
+        return saved;
+    }
+
+    @Transactional(readOnly = true)
+    public ResumeStatusResponse getResumeStatus(Long id, String userEmail) {
+        Resume resume = resumeRepository.findByIdAndUserEmail(id, userEmail)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Resume not found"));
+        return toStatusResponse(resume);
+    }
+
+    private ResumeStatusResponse toStatusResponse(Resume resume) {
+        ResumeStatusResponse response = new ResumeStatusResponse();
+        response.setId(resume.getId());
+        response.setFileName(resume.getFileName());
+        response.setStatus(resume.getStatus());
+        response.setSkills(resume.getSkills());
+        response.setExperience(resume.getExperience());
+        response.setProcessingError(resume.getProcessingError());
+        response.setCreatedAt(resume.getCreatedAt());
+        response.setProcessedAt(resume.getProcessedAt());
+        return response;
+    }
+}
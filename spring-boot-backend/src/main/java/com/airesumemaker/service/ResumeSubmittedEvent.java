@@ -0,0 +1,4 @@
+package com.airesumemaker.service;
+
+public record ResumeSubmittedEvent(Long resumeId) {
+}
@@ -0,0 +1,175 @@
+package com.airesumemaker.service;
+
+import com.airesumemaker.entity.Skill;
+import com.airesumemaker.entity.SkillAlias;
+import com.airesumemaker.repository.SkillAliasRepository;
+import com.airesumemaker.repository.SkillRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+
+@Service
+@Transactional(readOnly = true)
+public class SkillDictionaryService {
+
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private final SkillRepository skillRepository;
+    private final SkillAliasRepository skillAliasRepository;
+
+    // normalized name -> canonical skill, committed rows only; skills are never renamed so entries stay valid
+    private final Map<String, CanonicalSkill> skillsByName = new ConcurrentHashMap<>();
+    // Loaded on first use, then replaced each time terms() reads the alias table
+    private volatile Map<String, Integer> aliasToSkillId;
+
+    public SkillDictionaryService(SkillRepository skillRepository, SkillAliasRepository skillAliasRepository) {
+        this.skillRepository = skillRepository;
+        this.skillAliasRepository = skillAliasRepository;
+    }
+
+    public record CanonicalSkill(Integer id, String name) {
+    }
+
+    /**
+     * Maps free-text skills onto dictionary entries, creating entries for skills not seen before.
+     * Duplicates and synonyms collapse to one canonical skill; input order is preserved.
+     */
+    @Transactional
+    public List<CanonicalSkill> canonicalize(List<String> rawSkills) {
+        Map<Integer, CanonicalSkill> canonical = new LinkedHashMap<>();
+        if (rawSkills == null) {
+            return List.of();
+        }
+        for (String raw : rawSkills) {
+            String normalized = normalize(raw);
+            if (normalized.isEmpty()) {
+                continue;
+            }
+            CanonicalSkill skill = lookup(normalized);
+            if (skill == null) {
+                skillRepository.insertIfAbsent(raw.trim(), normalized);
+                Skill created = skillRepository.findByNormalizedName(normalized).orElseThrow();
+                skill = new CanonicalSkill(created.getId(), created.getName());
+                cache(normalized, skill);
+            }
+            canonical.putIfAbsent(skill.id(), skill);
+        }
+        return new ArrayList<>(canonical.values());
+    }
+
+    // Read-only resolution for filters; unknown skills are dropped since no job can carry them
+    public List<Integer> resolveIds(List<String> rawSkills) {
+        Set<Integer> ids = new LinkedHashSet<>();
+        for (String raw : rawSkills) {
+            String normalized = normalize(raw);
+            if (!normalized.isEmpty()) {
+                CanonicalSkill skill = lookup(normalized);
+                if (skill != null) {
+                    ids.add(skill.id());
+                }
+            }
+        }
+        return new ArrayList<>(ids);
+    }
+
+    /**
+     * Every skill name and alias, normalized, mapped to the canonical display name it stands for.
+     * Also refreshes the aliases {@link #canonicalize} and {@link #resolveIds} resolve through.
+     */
+    public Map<String, String> terms() {
+        Map<Integer, String> names = new HashMap<>();
+        Map<String, String> terms = new HashMap<>();
+        for (Skill skill : skillRepository.findAll()) {
+            names.put(skill.getId(), skill.getName());
+            terms.put(skill.getNormalizedName(), skill.getName());
+        }
+        Map<String, Integer> aliases = new ConcurrentHashMap<>();
+        for (SkillAlias alias : skillAliasRepository.findAll()) {
+            aliases.put(alias.getAlias(), alias.getSkillId());
+            String name = names.get(alias.getSkillId());
+            if (name != null) {
+                terms.put(alias.getAlias(), name);
+            }
+        }
+        replaceAliases(aliases);
+        return terms;
+    }
+
+    static String normalize(String raw) {
+        if (raw == null) {
+            return "";
+        }
+        return WHITESPACE.matcher(raw.trim().toLowerCase(Locale.ROOT)).replaceAll(" ");
+    }
+
+    private CanonicalSkill lookup(String normalized) {
+        CanonicalSkill cached = skillsByName.get(normalized);
+        if (cached != null) {
+            return cached;
+        }
+        Integer aliasedId = aliases().get(normalized);
+        Skill skill = aliasedId != null
+                ? skillRepository.findById(aliasedId).orElse(null)
+                : skillRepository.findByNormalizedName(normalized).orElse(null);
+        if (skill == null) {
+            return null;
+        }
+        CanonicalSkill resolved = new CanonicalSkill(skill.getId(), skill.getName());
+        cache(normalized, resolved);
+        return resolved;
+    }
+
+    // A writing transaction can read back a skill it inserted itself; that id only exists once the insert commits
+    private void cache(String normalized, CanonicalSkill skill) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()
+                && !TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    skillsByName.put(normalized, skill);
+                }
+            });
+        } else {
+            skillsByName.put(normalized, skill);
+        }
+    }
+
+    private Map<String, Integer> aliases() {
+        Map<String, Integer> loaded = aliasToSkillId;
+        if (loaded == null) {
+            loaded = new ConcurrentHashMap<>();
+            for (SkillAlias alias : skillAliasRepository.findAll()) {
+                loaded.put(alias.getAlias(), alias.getSkillId());
+            }
+            aliasToSkillId = loaded;
+        }
+        return loaded;
+    }
+
+    // Names whose alias was added, dropped or repointed are resolved again on their next lookup
+    private void replaceAliases(Map<String, Integer> aliases) {
+        Map<String, Integer> previous = aliasToSkillId;
+        aliasToSkillId = aliases;
+        if (previous == null || previous.equals(aliases)) {
+            return;
+        }
+        Set<String> changed = new HashSet<>(previous.keySet());
+        changed.addAll(aliases.keySet());
+        changed.removeIf(alias -> Objects.equals(previous.get(alias), aliases.get(alias)));
+        skillsByName.keySet().removeAll(changed);
+    }
+}
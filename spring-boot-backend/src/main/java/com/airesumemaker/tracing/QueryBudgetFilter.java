@@ -0,0 +1,93 @@
+package com.airesumemaker.tracing;
+
+import com.airesumemaker.config.QueryBudgetProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * Counts the statements each request prepares and reports requests over their budget
+ * (query-budget.max-statements, or the endpoint's own entry). An async request is checked when its last
+ * dispatch ends; both dispatches count into the same scope.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 1)
+public class QueryBudgetFilter extends OncePerRequestFilter {
+
+    private static final Logger log = LoggerFactory.getLogger(QueryBudgetFilter.class);
+
+    private static final String SCOPE_ATTRIBUTE = QueryBudgetFilter.class.getName() + ".scope";
+
+    private final QueryBudgetProperties properties;
+    private final MeterRegistry meterRegistry;
+
+    public QueryBudgetFilter(QueryBudgetProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    protected boolean shouldNotFilterAsyncDispatch() {
+        return false;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return request.getRequestURI().startsWith(request.getContextPath() + "/actuator");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        QueryCounter.Scope scope = (QueryCounter.Scope) request.getAttribute(SCOPE_ATTRIBUTE);
+        if (scope == null) {
+            if (!properties.isEnabled() || isAsyncDispatch(request)) {
+                chain.doFilter(request, response);
+                return;
+            }
+            scope = QueryCounter.open();
+            request.setAttribute(SCOPE_ATTRIBUTE, scope);
+        } else {
+            scope.bind();
+        }
+
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            scope.close();
+        }
+        if (!request.isAsyncStarted()) {
+            check(request, scope);
+        }
+    }
+
+    private void check(HttpServletRequest request, QueryCounter.Scope scope) {
+        String route = RequestTracingFilter.route(request);
+        String endpoint = request.getMethod() + " " + (route != null ? route : "[unmapped]");
+        int budget = properties.budgetFor(endpoint);
+        if (scope.count() <= budget) {
+            return;
+        }
+        Counter.builder("query.budget.exceeded")
+                .description("Requests that prepared more SQL statements than their budget")
+                .tag("endpoint", endpoint)
+                .register(meterRegistry)
+                .increment();
+        String message = endpoint + " went over its budget of " + budget + " SQL statements: " + scope.describe();
+        if (properties.isFailOnExceed()) {
+            throw new IllegalStateException(message);
+        }
+        log.warn(message);
+    }
+}
@@ -0,0 +1,117 @@
+package com.airesumemaker.tracing;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Counts the SQL statements Hibernate prepares on the current thread while a scope is open. Every HTTP request
+ * runs in one (see QueryBudgetFilter); tests open their own to pin down how many statements an operation takes:
+ *
+ * <pre>
+ * try (QueryCounter.Scope queries = QueryCounter.open()) {
+ *     mockMvc.perform(get("/api/jobs/1"));
+ *     queries.assertCount(2);
+ * }
+ * </pre>
+ *
+ * Scopes nest, and a statement counts toward every open scope. Statements run on other threads (Reactor
+ * schedulers, the resume workers) or through plain JDBC are not seen.
+ */
+public final class QueryCounter {
+
+    // Distinct SQL strings remembered per scope for the report; the count itself is always exact
+    private static final int MAX_DISTINCT_STATEMENTS = 50;
+
+    private static final ThreadLocal<Scope> CURRENT = new ThreadLocal<>();
+
+    private QueryCounter() {
+    }
+
+    public static Scope open() {
+        Scope scope = new Scope();
+        scope.bind();
+        return scope;
+    }
+
+    // Called by QueryCountingInspector for every statement Hibernate prepares
+    static void record(String sql) {
+        for (Scope scope = CURRENT.get(); scope != null; scope = scope.parent) {
+            scope.add(sql);
+        }
+    }
+
+    public static final class Scope implements AutoCloseable {
+
+        private final Map<String, Integer> statements = new LinkedHashMap<>();
+        private int count;
+        private Scope parent;
+
+        private Scope() {
+        }
+
+        public int count() {
+            return count;
+        }
+
+        // Statement text to the number of times it was prepared, in first-seen order
+        public Map<String, Integer> statements() {
+            return Collections.unmodifiableMap(statements);
+        }
+
+        public Scope assertCount(int expected) {
+            if (count != expected) {
+                throw new AssertionError("Expected " + expected + " SQL statements but " + describe());
+            }
+            return this;
+        }
+
+        public Scope assertAtMost(int max) {
+            if (count > max) {
+                throw new AssertionError("Expected at most " + max + " SQL statements but " + describe());
+            }
+            return this;
+        }
+
+        public void reset() {
+            count = 0;
+            statements.clear();
+        }
+
+        /**
+         * The count and the statements grouped by SQL, repeated ones first since that is where an N+1 shows.
+         */
+        public String describe() {
+            return count + " were prepared:" + statements.entrySet().stream()
+                    .sorted(Map.Entry.<String, Integer>comparingByValue().reversed())
+                    .map(entry -> "\n  " + entry.getValue() + " x " + entry.getKey())
+                    .collect(Collectors.joining());
+        }
+
+        @Override
+        public void close() {
+            if (CURRENT.get() == this) {
+                if (parent == null) {
+                    CURRENT.remove();
+                } else {
+                    CURRENT.set(parent);
+                }
+            }
+            parent = null;
+        }
+
+        // Makes this the innermost scope on the current thread, e.g. again on an async dispatch
+        void bind() {
+            parent = CURRENT.get();
+            CURRENT.set(this);
+        }
+
+        private void add(String sql) {
+            count++;
+            if (statements.containsKey(sql) || statements.size() < MAX_DISTINCT_STATEMENTS) {
+                statements.merge(sql, 1, Integer::sum);
+            }
+        }
+    }
+}
@@ -0,0 +1,139 @@
+package com.airesumemaker.tracing;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Span breakdown of one HTTP request. The trace is bound to the request thread (and carried onto Reactor
+ * scheduler threads), so instrumentation records into it with RequestTrace.record without passing it around.
+ * Spans may arrive from several threads at once, hence the atomic arrays.
+ */
+public final class RequestTrace {
+
+    public record Span(SpanKind kind, String detail, long startOffsetNanos, long durationNanos) {
+    }
+
+    private static final ThreadLocal<RequestTrace> CURRENT = new ThreadLocal<>();
+
+    private final String method;
+    private final long startNanos;
+    private final long startEpochMillis;
+    private final AtomicReferenceArray<Span> spans;
+    private final AtomicInteger spanCount = new AtomicInteger();
+    private final AtomicLongArray nanosByKind = new AtomicLongArray(SpanKind.values().length);
+
+    private volatile String endpoint;
+    private volatile int status;
+    private volatile long durationNanos = -1;
+
+    RequestTrace(String method, int maxSpans) {
+        this.method = method;
+        this.startNanos = System.nanoTime();
+        this.startEpochMillis = System.currentTimeMillis();
+        this.spans = new AtomicReferenceArray<>(maxSpans);
+    }
+
+    public static RequestTrace current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * Records a span that started at startNanos and ends now on the current thread's trace, if there is one.
+     */
+    public static void record(SpanKind kind, String detail, long startNanos) {
+        RequestTrace trace = CURRENT.get();
+        if (trace != null) {
+            trace.add(kind, detail, startNanos, System.nanoTime());
+        }
+    }
+
+    // Returns the trace that was bound before, to restore afterwards
+    static RequestTrace bind(RequestTrace trace) {
+        RequestTrace previous = CURRENT.get();
+        if (trace == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(trace);
+        }
+        return previous;
+    }
+
+    // Runs task with this thread's trace bound, for work handed to another thread
+    static Runnable propagate(Runnable task) {
+        RequestTrace trace = CURRENT.get();
+        if (trace == null) {
+            return task;
+        }
+        return () -> {
+            RequestTrace previous = bind(trace);
+            try {
+                task.run();
+            } finally {
+                bind(previous);
+            }
+        };
+    }
+
+    public void add(SpanKind kind, String detail, long startNanos, long endNanos) {
+        long duration = endNanos - startNanos;
+        nanosByKind.addAndGet(kind.ordinal(), duration);
+        int index = spanCount.getAndIncrement();
+        if (index < spans.length()) {
+            spans.set(index, new Span(kind, detail, startNanos - this.startNanos, duration));
+        }
+    }
+
+    void finish(String endpoint, int status) {
+        this.endpoint = endpoint;
+        this.status = status;
+        this.durationNanos = System.nanoTime() - startNanos;
+    }
+
+    String method() {
+        return method;
+    }
+
+    String endpoint() {
+        return endpoint;
+    }
+
+    int status() {
+        return status;
+    }
+
+    long startEpochMillis() {
+        return startEpochMillis;
+    }
+
+    long endEpochMillis() {
+        return startEpochMillis + durationNanos / 1_000_000;
+    }
+
+    long durationNanos() {
+        return durationNanos;
+    }
+
+    long nanos(SpanKind kind) {
+        return nanosByKind.get(kind.ordinal());
+    }
+
+    int spanCount() {
+        return spanCount.get();
+    }
+
+    List<Span> spans() {
+        int count = Math.min(spanCount.get(), spans.length());
+        List<Span> recorded = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            Span span = spans.get(i);
+            // Reserved by a writer that has not stored it yet
+            if (span != null) {
+                recorded.add(span);
+            }
+        }
+        return recorded;
+    }
+}
@@ -0,0 +1,95 @@
+package com.airesumemaker.tracing;
+
+import com.airesumemaker.config.RequestTracingProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Starts a trace per request and keeps the slowest ones per endpoint for the slowrequests actuator endpoint.
+ */
+@Component
+public class RequestTraceRecorder {
+
+    public record SpanView(String kind, String detail, double startMs, double durationMs) {
+    }
+
+    public record TraceView(String endpoint, int status, Instant start, double durationMs,
+                            Map<String, Double> breakdownMs, List<SpanView> spans, int droppedSpans) {
+    }
+
+    static final String OTHER_ENDPOINTS = "[other]";
+
+    private final RequestTracingProperties properties;
+    private final ConcurrentMap<String, SlowestTraces> byEndpoint = new ConcurrentHashMap<>();
+
+    public RequestTraceRecorder(RequestTracingProperties properties) {
+        this.properties = properties;
+    }
+
+    // Null when tracing is disabled
+    RequestTrace start(String method) {
+        return properties.isEnabled() ? new RequestTrace(method, properties.getMaxSpans()) : null;
+    }
+
+    void finish(RequestTrace trace, String route, int status) {
+        String endpoint = trace.method() + " " + (route != null ? route : "[unmapped]");
+        trace.finish(endpoint, status);
+        SlowestTraces slowest = byEndpoint.get(endpoint);
+        if (slowest == null) {
+            String key = byEndpoint.size() < properties.getMaxEndpoints() ? endpoint : OTHER_ENDPOINTS;
+            slowest = byEndpoint.computeIfAbsent(key, k ->
+                    new SlowestTraces(properties.getSlowestPerEndpoint(), properties.getMaxAge().toMillis()));
+        }
+        slowest.offer(trace);
+    }
+
+    /**
+     * Slowest recent traces per endpoint, slowest first; endpoint narrows to keys containing it.
+     */
+    public Map<String, List<TraceView>> slowest(String endpoint) {
+        Map<String, List<TraceView>> result = new TreeMap<>();
+        byEndpoint.forEach((key, slowest) -> {
+            if (endpoint != null && !key.contains(endpoint)) {
+                return;
+            }
+            List<TraceView> views = slowest.snapshot().stream().map(RequestTraceRecorder::view).toList();
+            if (!views.isEmpty()) {
+                result.put(key, views);
+            }
+        });
+        return result;
+    }
+
+    private static TraceView view(RequestTrace trace) {
+        Map<String, Double> breakdown = new LinkedHashMap<>();
+        long attributed = 0;
+        for (SpanKind kind : SpanKind.values()) {
+            long nanos = trace.nanos(kind);
+            attributed += nanos;
+            breakdown.put(kind.name().toLowerCase(), millis(nanos));
+        }
+        // Concurrent spans (e.g. parallel AI calls) can add up to more than the wall time
+        breakdown.put("unattributed", millis(Math.max(0, trace.durationNanos() - attributed)));
+
+        List<RequestTrace.Span> spans = trace.spans();
+        List<SpanView> spanViews = new ArrayList<>(spans.size());
+        for (RequestTrace.Span span : spans) {
+            spanViews.add(new SpanView(span.kind().name().toLowerCase(), span.detail(),
+                    millis(span.startOffsetNanos()), millis(span.durationNanos())));
+        }
+        return new TraceView(trace.endpoint(), trace.status(), Instant.ofEpochMilli(trace.startEpochMillis()),
+                millis(trace.durationNanos()), breakdown, spanViews, trace.spanCount() - spans.size());
+    }
+
+    private static double millis(long nanos) {
+        return Math.round(nanos / 1_000.0) / 1_000.0;
+    }
+}
@@ -0,0 +1,94 @@
+package com.airesumemaker.tracing;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import reactor.core.scheduler.Schedulers;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.lang.reflect.Type;
+
+/**
+ * Wires the request tracer into JDBC, JSON (de)serialization and Reactor scheduler hand-offs, and the
+ * per-request statement counter into Hibernate.
+ */
+@Configuration
+public class RequestTracingConfig {
+
+    private static final String SCHEDULE_HOOK = "request-trace";
+
+    // Static so it is registered before the DataSource bean is created
+    @Bean
+    static BeanPostProcessor tracingDataSourcePostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                return bean instanceof DataSource dataSource && !(bean instanceof TracingDataSource)
+                        ? new TracingDataSource(dataSource)
+                        : bean;
+            }
+        };
+    }
+
+    @Bean
+    HibernatePropertiesCustomizer queryCountingInspector() {
+        return properties -> properties.put(AvailableSettings.STATEMENT_INSPECTOR, new QueryCountingInspector());
+    }
+
+    // Takes the place of Boot's default JSON converter, with the same ObjectMapper, to time body reads and writes
+    @Bean
+    public MappingJackson2HttpMessageConverter mappingJackson2HttpMessageConverter(ObjectMapper objectMapper) {
+        return new MappingJackson2HttpMessageConverter(objectMapper) {
+            @Override
+            public Object read(Type type, Class<?> contextClass, HttpInputMessage inputMessage) throws IOException {
+                long start = System.nanoTime();
+                try {
+                    return super.read(type, contextClass, inputMessage);
+                } finally {
+                    RequestTrace trace = RequestTrace.current();
+                    if (trace != null) {
+                        trace.add(SpanKind.SERIALIZATION, "read " + simpleName(type), start, System.nanoTime());
+                    }
+                }
+            }
+
+            @Override
+            protected void writeInternal(Object object, Type type, HttpOutputMessage outputMessage) throws IOException {
+                long start = System.nanoTime();
+                try {
+                    super.writeInternal(object, type, outputMessage);
+                } finally {
+                    RequestTrace trace = RequestTrace.current();
+                    if (trace != null) {
+                        trace.add(SpanKind.SERIALIZATION, "write " + object.getClass().getSimpleName(), start,
+                                System.nanoTime());
+                    }
+                }
+            }
+        };
+    }
+
+    // Blocking work moved onto a Reactor scheduler (e.g. local matching) keeps recording into the request's trace
+    @PostConstruct
+    void installScheduleHook() {
+        Schedulers.onScheduleHook(SCHEDULE_HOOK, RequestTrace::propagate);
+    }
+
+    @PreDestroy
+    void removeScheduleHook() {
+        Schedulers.resetOnScheduleHook(SCHEDULE_HOOK);
+    }
+
+    private static String simpleName(Type type) {
+        return type instanceof Class<?> clazz ? clazz.getSimpleName() : type.getTypeName();
+    }
+}
@@ -0,0 +1,112 @@
+package com.airesumemaker.tracing;
+
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+
+/**
+ * Opens a trace around each request, ahead of the security filters so the JWT check is inside it. Requests
+ * that go async (Mono endpoints) finish when the async context completes; the async dispatch that writes
+ * the response rebinds the same trace.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class RequestTracingFilter extends OncePerRequestFilter {
+
+    private static final String TRACE_ATTRIBUTE = RequestTracingFilter.class.getName() + ".trace";
+
+    private final RequestTraceRecorder recorder;
+
+    public RequestTracingFilter(RequestTraceRecorder recorder) {
+        this.recorder = recorder;
+    }
+
+    @Override
+    protected boolean shouldNotFilterAsyncDispatch() {
+        return false;
+    }
+
+    // Scrapes and the trace endpoint itself are not worth tracing
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return request.getRequestURI().startsWith(request.getContextPath() + "/actuator");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        boolean asyncDispatch = isAsyncDispatch(request);
+        RequestTrace trace = (RequestTrace) request.getAttribute(TRACE_ATTRIBUTE);
+        if (trace == null && !asyncDispatch) {
+            trace = recorder.start(request.getMethod());
+            request.setAttribute(TRACE_ATTRIBUTE, trace);
+        }
+        if (trace == null) {
+            chain.doFilter(request, response);
+            return;
+        }
+
+        RequestTrace previous = RequestTrace.bind(trace);
+        boolean failed = true;
+        try {
+            chain.doFilter(request, response);
+            failed = false;
+        } finally {
+            RequestTrace.bind(previous);
+            if (request.isAsyncStarted()) {
+                if (!asyncDispatch) {
+                    request.getAsyncContext().addListener(new FinishOnComplete(trace, request));
+                }
+            } else if (!asyncDispatch) {
+                // An exception escaping here becomes a 500 on the error dispatch
+                recorder.finish(trace, route(request), failed ? 500 : response.getStatus());
+            }
+        }
+    }
+
+    // Route pattern the request was mapped to, null when no handler matched
+    static String route(HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return pattern != null ? pattern.toString() : null;
+    }
+
+    private final class FinishOnComplete implements AsyncListener {
+
+        private final RequestTrace trace;
+        private final HttpServletRequest request;
+
+        FinishOnComplete(RequestTrace trace, HttpServletRequest request) {
+            this.trace = trace;
+            this.request = request;
+        }
+
+        // Fires after timeouts and errors too, once the response is done
+        @Override
+        public void onComplete(AsyncEvent event) {
+            HttpServletResponse response = (HttpServletResponse) event.getSuppliedResponse();
+            recorder.finish(trace, route(request), response.getStatus());
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) {
+        }
+
+        @Override
+        public void onError(AsyncEvent event) {
+        }
+
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+        }
+    }
+}
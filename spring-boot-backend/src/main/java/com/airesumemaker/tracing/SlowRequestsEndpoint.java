@@ -0,0 +1,30 @@
+package com.airesumemaker.tracing;
+
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * GET /actuator/slowrequests[?endpoint=/jobs] lists the slowest recent requests per endpoint with their time
+ * split into auth, connection checkout, SQL, AI calls and serialization. Traces age out after
+ * request-tracing.max-age. Needs the actuator user, as the traces carry routes and SQL text.
+ */
+@Component
+@Endpoint(id = "slowrequests")
+public class SlowRequestsEndpoint {
+
+    private final RequestTraceRecorder recorder;
+
+    public SlowRequestsEndpoint(RequestTraceRecorder recorder) {
+        this.recorder = recorder;
+    }
+
+    @ReadOperation
+    public Map<String, List<RequestTraceRecorder.TraceView>> slowest(@Nullable String endpoint) {
+        return recorder.slowest(endpoint);
+    }
+}
@@ -0,0 +1,99 @@
+package com.airesumemaker.tracing;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * The slowest traces of one endpoint in a fixed ring of slots, updated with compare-and-set only. A volatile
+ * floor (the fastest kept duration, valid until the oldest kept trace ages out) lets the common case, a
+ * request that is not among the slowest, return after two field reads.
+ */
+final class SlowestTraces {
+
+    private record Floor(long nanos, long validUntilMillis) {
+    }
+
+    // While any slot is free every trace qualifies
+    private static final Floor OPEN = new Floor(-1, Long.MAX_VALUE);
+
+    private final AtomicReferenceArray<RequestTrace> slots;
+    private final long maxAgeMillis;
+    private volatile Floor floor = OPEN;
+
+    SlowestTraces(int capacity, long maxAgeMillis) {
+        this.slots = new AtomicReferenceArray<>(Math.max(1, capacity));
+        this.maxAgeMillis = maxAgeMillis;
+    }
+
+    void offer(RequestTrace trace) {
+        long now = trace.endEpochMillis();
+        Floor current = floor;
+        if (trace.durationNanos() <= current.nanos() && now < current.validUntilMillis()) {
+            return;
+        }
+        while (true) {
+            int victim = -1;
+            RequestTrace victimTrace = null;
+            long victimNanos = Long.MAX_VALUE;
+            for (int i = 0; i < slots.length(); i++) {
+                RequestTrace kept = slots.get(i);
+                if (kept == null || expired(kept, now)) {
+                    victim = i;
+                    victimTrace = kept;
+                    victimNanos = -1;
+                    break;
+                }
+                if (kept.durationNanos() < victimNanos) {
+                    victim = i;
+                    victimTrace = kept;
+                    victimNanos = kept.durationNanos();
+                }
+            }
+            if (victimNanos >= trace.durationNanos()) {
+                updateFloor(now);
+                return;
+            }
+            if (slots.compareAndSet(victim, victimTrace, trace)) {
+                updateFloor(now);
+                return;
+            }
+            // Another request took that slot first; rescan
+        }
+    }
+
+    List<RequestTrace> snapshot() {
+        List<RequestTrace> kept = new ArrayList<>(slots.length());
+        long now = System.currentTimeMillis();
+        for (int i = 0; i < slots.length(); i++) {
+            RequestTrace trace = slots.get(i);
+            if (trace != null && !expired(trace, now)) {
+                kept.add(trace);
+            }
+        }
+        kept.sort(Comparator.comparingLong(RequestTrace::durationNanos).reversed());
+        return kept;
+    }
+
+    private boolean expired(RequestTrace trace, long now) {
+        return now - trace.endEpochMillis() > maxAgeMillis;
+    }
+
+    // Racing writers may publish a floor from a slightly older view; that only costs an extra scan or, at worst,
+    // briefly rejects a trace that would have just made the cut, which is acceptable for a diagnostic view
+    private void updateFloor(long now) {
+        long fastest = Long.MAX_VALUE;
+        long oldestEnd = Long.MAX_VALUE;
+        for (int i = 0; i < slots.length(); i++) {
+            RequestTrace kept = slots.get(i);
+            if (kept == null || expired(kept, now)) {
+                floor = OPEN;
+                return;
+            }
+            fastest = Math.min(fastest, kept.durationNanos());
+            oldestEnd = Math.min(oldestEnd, kept.endEpochMillis());
+        }
+        floor = new Floor(fastest, oldestEnd + maxAgeMillis);
+    }
+}
@@ -0,0 +1,12 @@
+package com.airesumemaker.tracing;
+
+/**
+ * Where a slice of request time went.
+ */
+public enum SpanKind {
+    AUTH,
+    DB_CONNECTION,
+    SQL,
+    AI,
+    SERIALIZATION
+}
@@ -0,0 +1,95 @@
+package com.airesumemaker.tracing;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * Records pool checkout and statement execution into the current request trace. Outside a traced request the
+ * pooled connection is returned as is, so background work pays a single ThreadLocal read.
+ */
+final class TracingDataSource extends DelegatingDataSource {
+
+    private static final int MAX_SQL_LENGTH = 500;
+
+    TracingDataSource(DataSource target) {
+        super(target);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        RequestTrace trace = RequestTrace.current();
+        if (trace == null) {
+            return super.getConnection();
+        }
+        long start = System.nanoTime();
+        Connection connection = super.getConnection();
+        trace.add(SpanKind.DB_CONNECTION, "getConnection", start, System.nanoTime());
+        return traced(connection, trace);
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        RequestTrace trace = RequestTrace.current();
+        if (trace == null) {
+            return super.getConnection(username, password);
+        }
+        long start = System.nanoTime();
+        Connection connection = super.getConnection(username, password);
+        trace.add(SpanKind.DB_CONNECTION, "getConnection", start, System.nanoTime());
+        return traced(connection, trace);
+    }
+
+    private static Connection traced(Connection connection, RequestTrace trace) {
+        return (Connection) Proxy.newProxyInstance(TracingDataSource.class.getClassLoader(),
+                new Class<?>[]{Connection.class}, (proxy, method, args) -> {
+                    Object result = invoke(connection, proxy, method, args);
+                    if (result instanceof Statement statement && Statement.class.isAssignableFrom(method.getReturnType())) {
+                        // prepareStatement/prepareCall carry their SQL up front; createStatement gets it per execute
+                        String sql = method.getName().startsWith("prepare") ? (String) args[0] : null;
+                        return traced(statement, method.getReturnType(), sql, trace);
+                    }
+                    return result;
+                });
+    }
+
+    private static Object traced(Statement statement, Class<?> type, String sql, RequestTrace trace) {
+        return Proxy.newProxyInstance(TracingDataSource.class.getClassLoader(), new Class<?>[]{type},
+                (proxy, method, args) -> {
+                    if (!method.getName().startsWith("execute")) {
+                        return invoke(statement, proxy, method, args);
+                    }
+                    long start = System.nanoTime();
+                    try {
+                        return invoke(statement, proxy, method, args);
+                    } finally {
+                        String text = sql != null ? sql
+                                : args != null && args.length > 0 && args[0] instanceof String given ? given
+                                : method.getName();
+                        trace.add(SpanKind.SQL, text.length() > MAX_SQL_LENGTH ? text.substring(0, MAX_SQL_LENGTH) : text,
+                                start, System.nanoTime());
+                    }
+                });
+    }
+
+    private static Object invoke(Object target, Object proxy, Method method, Object[] args) throws Throwable {
+        switch (method.getName()) {
+            case "equals":
+                return proxy == args[0];
+            case "hashCode":
+                return System.identityHashCode(proxy);
+            default:
+                try {
+                    return method.invoke(target, args);
+                } catch (InvocationTargetException e) {
+                    throw e.getCause();
+                }
+        }
+    }
+}
@@ -0,0 +1,18 @@
+-- Resumes are analyzed in the background; existing rows were analyzed (or given up on) synchronously
+ALTER TABLE resumes
+ADD COLUMN status VARCHAR(20) NOT NULL DEFAULT 'COMPLETED',
+ADD COLUMN processing_error TEXT,
+ADD COLUMN processed_at TIMESTAMP;
+
+-- Work queue for resume analysis. Workers claim rows with FOR UPDATE SKIP LOCKED and push available_at
+-- forward by a lease, so a row whose worker died becomes claimable again once the lease runs out.
+CREATE TABLE resume_processing_tasks (
+    id BIGSERIAL PRIMARY KEY,
+    resume_id BIGINT NOT NULL UNIQUE REFERENCES resumes(id) ON DELETE CASCADE,
+    attempts INTEGER NOT NULL DEFAULT 0,
+    available_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    last_error TEXT,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+CREATE INDEX idx_resume_processing_tasks_available_at ON resume_processing_tasks(available_at);
@@ -0,0 +1,5 @@
+-- SHA-256 of the uploaded file; also its key in content-addressed storage
+ALTER TABLE resumes ADD COLUMN file_hash VARCHAR(64);
+
+-- Re-uploading the same file returns the existing resume instead of storing and analyzing it again
+CREATE INDEX idx_resumes_user_id_file_hash ON resumes(user_id, file_hash) WHERE file_hash IS NOT NULL;
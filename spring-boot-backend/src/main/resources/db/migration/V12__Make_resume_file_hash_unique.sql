@@ -0,0 +1,8 @@
+-- Two concurrent uploads of the same file (a double-click) could both miss the lookup and create two resumes.
+-- Duplicates created that way keep their rows, but only the oldest per user and file keeps the hash.
+UPDATE resumes r SET file_hash = NULL
+WHERE r.file_hash IS NOT NULL
+  AND EXISTS (SELECT 1 FROM resumes o WHERE o.user_id = r.user_id AND o.file_hash = r.file_hash AND o.id < r.id);
+
+DROP INDEX idx_resumes_user_id_file_hash;
+CREATE UNIQUE INDEX idx_resumes_user_id_file_hash ON resumes(user_id, file_hash) WHERE file_hash IS NOT NULL;
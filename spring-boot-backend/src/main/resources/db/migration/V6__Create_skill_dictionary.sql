@@ -0,0 +1,88 @@
+-- Canonical skill dictionary with integer ids
+CREATE TABLE skills (
+    id SERIAL PRIMARY KEY,
+    name VARCHAR(255) NOT NULL,
+    normalized_name VARCHAR(255) NOT NULL UNIQUE
+);
+
+-- Synonyms resolved to a canonical skill at write time (keys are already normalized)
+CREATE TABLE skill_aliases (
+    alias VARCHAR(255) PRIMARY KEY,
+    skill_id INTEGER NOT NULL,
+    FOREIGN KEY (skill_id) REFERENCES skills(id) ON DELETE CASCADE
+);
+
+-- Job skills keyed by skill first so skill filters are an index range scan
+CREATE TABLE job_skill_ids (
+    skill_id INTEGER NOT NULL,
+    job_id BIGINT NOT NULL,
+    PRIMARY KEY (skill_id, job_id),
+    FOREIGN KEY (skill_id) REFERENCES skills(id) ON DELETE CASCADE,
+    FOREIGN KEY (job_id) REFERENCES jobs(id) ON DELETE CASCADE
+);
+
+CREATE INDEX idx_job_skill_ids_job_id ON job_skill_ids(job_id);
+
+-- Seed canonical names for common synonyms
+INSERT INTO skills (name, normalized_name) VALUES
+    ('JavaScript', 'javascript'),
+    ('TypeScript', 'typescript'),
+    ('Node.js', 'node.js'),
+    ('React', 'react'),
+    ('Go', 'go'),
+    ('Kubernetes', 'kubernetes'),
+    ('PostgreSQL', 'postgresql'),
+    ('Spring Boot', 'spring boot'),
+    ('Machine Learning', 'machine learning'),
+    ('AWS', 'aws'),
+    ('GCP', 'gcp'),
+    ('C#', 'c#'),
+    ('CI/CD', 'ci/cd');
+
+INSERT INTO skill_aliases (alias, skill_id)
+SELECT a.alias, s.id
+FROM (VALUES
+    ('js', 'javascript'),
+    ('ts', 'typescript'),
+    ('node', 'node.js'),
+    ('nodejs', 'node.js'),
+    ('reactjs', 'react'),
+    ('react.js', 'react'),
+    ('golang', 'go'),
+    ('k8s', 'kubernetes'),
+    ('postgres', 'postgresql'),
+    ('psql', 'postgresql'),
+    ('springboot', 'spring boot'),
+    ('spring-boot', 'spring boot'),
+    ('ml', 'machine learning'),
+    ('amazon web services', 'aws'),
+    ('google cloud platform', 'gcp'),
+    ('google cloud', 'gcp'),
+    ('csharp', 'c#'),
+    ('c sharp', 'c#'),
+    ('cicd', 'ci/cd'),
+    ('ci-cd', 'ci/cd')
+) AS a(alias, normalized_name)
+JOIN skills s ON s.normalized_name = a.normalized_name;
+
+-- Backfill the dictionary and job links from the existing free-text job_skills rows
+INSERT INTO skills (name, normalized_name)
+SELECT DISTINCT ON (n.normalized_name) n.name, n.normalized_name
+FROM (
+    SELECT btrim(skill) AS name, regexp_replace(lower(btrim(skill)), '\s+', ' ', 'g') AS normalized_name
+    FROM job_skills
+) n
+WHERE n.normalized_name <> ''
+  AND n.normalized_name NOT IN (SELECT alias FROM skill_aliases)
+ORDER BY n.normalized_name, n.name
+ON CONFLICT (normalized_name) DO NOTHING;
+
+INSERT INTO job_skill_ids (skill_id, job_id)
+SELECT DISTINCT COALESCE(a.skill_id, s.id), n.job_id
+FROM (
+    SELECT job_id, regexp_replace(lower(btrim(skill)), '\s+', ' ', 'g') AS normalized_name
+    FROM job_skills
+) n
+LEFT JOIN skill_aliases a ON a.alias = n.normalized_name
+LEFT JOIN skills s ON s.normalized_name = n.normalized_name
+WHERE COALESCE(a.skill_id, s.id) IS NOT NULL;
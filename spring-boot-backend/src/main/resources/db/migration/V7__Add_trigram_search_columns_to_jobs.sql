@@ -0,0 +1,22 @@
+-- Substring filters on location/company use trigram indexes over accent- and case-folded copies
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+CREATE EXTENSION IF NOT EXISTS unaccent;
+
+-- unaccent() is only STABLE because its dictionary could change; pinning the dictionary makes the
+-- wrapper safe to use in generated columns and indexes
+CREATE OR REPLACE FUNCTION search_normalize(value TEXT) RETURNS TEXT
+    LANGUAGE sql IMMUTABLE STRICT PARALLEL SAFE
+AS $$ SELECT lower(public.unaccent('public.unaccent'::regdictionary, value)) $$;
+
+ALTER TABLE jobs
+ADD COLUMN location_search TEXT GENERATED ALWAYS AS (search_normalize(location)) STORED,
+ADD COLUMN company_search TEXT GENERATED ALWAYS AS (search_normalize(company)) STORED;
+
+CREATE INDEX idx_jobs_location_search_trgm ON jobs USING GIN (location_search gin_trgm_ops);
+CREATE INDEX idx_jobs_company_search_trgm ON jobs USING GIN (company_search gin_trgm_ops);
+
+-- The btree indexes from V3 cannot serve '%term%' patterns and only cost writes
+DROP INDEX IF EXISTS idx_jobs_location;
+DROP INDEX IF EXISTS idx_jobs_company;
+
+ANALYZE jobs;
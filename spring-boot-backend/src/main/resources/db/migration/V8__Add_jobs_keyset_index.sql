@@ -0,0 +1,5 @@
+-- Keyset pagination walks jobs newest first on (created_at, id)
+UPDATE jobs SET created_at = COALESCE(updated_at, CURRENT_TIMESTAMP) WHERE created_at IS NULL;
+ALTER TABLE jobs ALTER COLUMN created_at SET NOT NULL;
+
+CREATE INDEX idx_jobs_created_at_id ON jobs(created_at DESC, id DESC);
@@ -0,0 +1,11 @@
+-- Persistent tier of the resume analysis cache, keyed by SHA-256 of the normalized resume text.
+-- analysis_version names the model/prompt that produced the row, so bumping it retires old analyses.
+CREATE TABLE resume_analysis_cache (
+    content_hash VARCHAR(64) NOT NULL,
+    analysis_version VARCHAR(100) NOT NULL,
+    analysis JSONB NOT NULL,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    PRIMARY KEY (content_hash, analysis_version)
+);
+
+CREATE INDEX idx_resume_analysis_cache_created_at ON resume_analysis_cache(created_at);
@@ -0,0 +1,75 @@
+package com.airesumemaker.extraction;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SkillMatcherTest {
+
+    @Test
+    void javaIsNotFoundInsideJavaScript() {
+        assertEquals(List.of(), matcher("java", "Java").extract("Senior JavaScript developer"));
+
+        SkillMatcher matcher = matcher("java", "Java", "javascript", "JavaScript");
+        assertEquals(List.of("JavaScript"), matcher.extract("Senior JavaScript developer"));
+        assertEquals(List.of("Java", "JavaScript"), matcher.extract("Java, JavaScript and more Java."));
+    }
+
+    @Test
+    void cIsNotFoundInsideCPlusPlusOrCSharp() {
+        assertEquals(List.of(), matcher("c", "C").extract("Wrote C++ and C# services"));
+
+        SkillMatcher matcher = matcher("c", "C", "c++", "C++", "c#", "C#");
+        assertEquals(List.of("C++", "C#", "C"), matcher.extract("C++ (10 years), C#; some C"));
+    }
+
+    @Test
+    void springBootWinsOverSpringWhereTheyOverlap() {
+        SkillMatcher matcher = matcher("spring", "Spring", "spring boot", "Spring Boot");
+
+        assertEquals(List.of("Spring Boot"), matcher.extract("Built APIs with Spring Boot"));
+        assertEquals(List.of("Spring", "Spring Boot"), matcher.extract("Spring MVC, later Spring Boot"));
+    }
+
+    @Test
+    void whitespaceRunsInTextAndTermsMatchAsOneSpace() {
+        SkillMatcher matcher = matcher("  Spring \t Boot ", "Spring Boot", "machine learning", "Machine Learning");
+
+        assertEquals(List.of("Spring Boot", "Machine Learning"),
+                matcher.extract("SPRING\n\n   boot and  Machine\r\n\tLearning"));
+    }
+
+    @Test
+    void compileRejectsATableAboveTheLimit() {
+        // 40,000 twenty-character terms over 36 characters need about 800,001 states x 37 classes, past 2^24 entries
+        String alphabet = "abcdefghijklmnopqrstuvwxyz0123456789";
+        Map<String, String> terms = new LinkedHashMap<>();
+        long seed = 1;
+        while (terms.size() < 40_000) {
+            StringBuilder term = new StringBuilder();
+            for (int i = 0; i < 20; i++) {
+                seed = seed * 6364136223846793005L + 1442695040888963407L;
+                term.append(alphabet.charAt((int) ((seed >>> 33) % alphabet.length())));
+            }
+            terms.put(term.toString(), "skill");
+        }
+
+        IllegalArgumentException error = assertThrows(IllegalArgumentException.class, () -> SkillMatcher.compile(terms));
+        assertTrue(error.getMessage().contains("limit " + SkillMatcher.MAX_TABLE_SIZE), error.getMessage());
+    }
+
+    // Alternating term, skill pairs
+    private static SkillMatcher matcher(String... termsAndSkills) {
+        Map<String, String> terms = new LinkedHashMap<>();
+        for (int i = 0; i < termsAndSkills.length; i += 2) {
+            terms.put(termsAndSkills[i], termsAndSkills[i + 1]);
+        }
+        return SkillMatcher.compile(terms);
+    }
+}
@@ -0,0 +1,115 @@
+package com.airesumemaker.matching;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class HnswJobIndexTest {
+
+    private static final int DIMENSION = 32;
+    private static final double RECALL_TARGET = 0.95;
+
+    @Test
+    void recallMeetsTheTargetWithTheDefaultSettings() {
+        HnswJobIndex index = index();
+        fill(index, 5000, new SplittableRandom(1));
+
+        double recall = index.measureRecall(200, 10);
+
+        assertTrue(recall >= RECALL_TARGET, "recall@10 was " + recall);
+    }
+
+    @Test
+    void tombstonesStillLeaveKResultsAndRecallOnTarget() {
+        HnswJobIndex index = index();
+        SplittableRandom random = new SplittableRandom(2);
+        fill(index, 2000, random);
+        // Below the rebuild threshold, so the tombstones stay in the graph
+        Set<Long> removed = new HashSet<>();
+        for (long jobId = 1; jobId <= 2000; jobId += 2) {
+            if (removed.size() < 900) {
+                index.remove(jobId);
+                removed.add(jobId);
+            }
+        }
+
+        for (int i = 0; i < 50; i++) {
+            List<ScoredJob> results = index.search(vector(random), 10);
+            assertEquals(10, results.size());
+            results.forEach(job -> assertFalse(removed.contains(job.jobId()), "returned removed job " + job.jobId()));
+        }
+        double recall = index.measureRecall(200, 10);
+        assertTrue(recall >= RECALL_TARGET, "recall@10 with tombstones was " + recall);
+    }
+
+    @Test
+    void returnsEveryLiveJobWhenFewerThanKRemain() {
+        HnswJobIndex index = index();
+        SplittableRandom random = new SplittableRandom(3);
+        fill(index, 500, random);
+        for (long jobId = 1; jobId <= 495; jobId++) {
+            index.remove(jobId);
+        }
+
+        List<ScoredJob> results = index.search(vector(random), 10);
+
+        assertEquals(Set.of(496L, 497L, 498L, 499L, 500L),
+                Set.copyOf(results.stream().map(ScoredJob::jobId).toList()));
+    }
+
+    @Test
+    void concurrentSearchesOnVirtualThreadsMatchSequentialOnes() throws Exception {
+        HnswJobIndex index = index();
+        SplittableRandom random = new SplittableRandom(4);
+        fill(index, 2000, random);
+        List<float[]> queries = new ArrayList<>();
+        List<List<ScoredJob>> expected = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            float[] query = vector(random);
+            queries.add(query);
+            expected.add(index.search(query, 10));
+        }
+
+        // Pooled visited sets are shared across threads, so a leaked or doubly handed-out set would show up here
+        List<Future<List<ScoredJob>>> results = new ArrayList<>();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (float[] query : queries) {
+                results.add(executor.submit(() -> index.search(query, 10)));
+            }
+        }
+
+        for (int i = 0; i < queries.size(); i++) {
+            assertEquals(expected.get(i), results.get(i).get());
+        }
+    }
+
+    // The defaults from matching.hnsw in application.yml
+    private static HnswJobIndex index() {
+        return new HnswJobIndex(DIMENSION, 16, 200, 64, 0.0, 1024);
+    }
+
+    private static void fill(HnswJobIndex index, int jobs, SplittableRandom random) {
+        for (long jobId = 1; jobId <= jobs; jobId++) {
+            index.upsert(jobId, vector(random));
+        }
+    }
+
+    private static float[] vector(SplittableRandom random) {
+        float[] vector = new float[DIMENSION];
+        for (int i = 0; i < DIMENSION; i++) {
+            vector[i] = (float) (random.nextDouble() * 2 - 1);
+        }
+        return vector;
+    }
+}
@@ -0,0 +1,140 @@
+package com.airesumemaker.tracing;
+
+import com.airesumemaker.dto.JobCreateRequest;
+import com.airesumemaker.service.JobService;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Pins the number of SQL statements the hot endpoints prepare, so a lazy load or an N+1 that slips into
+ * them fails the build. The test profile also sets query-budget.fail-on-exceed, so any request over its
+ * budget fails here regardless of these exact counts.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@Testcontainers(disabledWithoutDocker = true)
+class QueryCountIntegrationTest {
+
+    @Container
+    static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @DynamicPropertySource
+    static void datasource(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", POSTGRES::getJdbcUrl);
+        registry.add("spring.datasource.username", POSTGRES::getUsername);
+        registry.add("spring.datasource.password", POSTGRES::getPassword);
+    }
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private JobService jobService;
+
+    private String recruiterEmail;
+    private String recruiterToken;
+
+    @BeforeEach
+    void registerRecruiter() throws Exception {
+        String name = "recruiter-" + UUID.randomUUID();
+        recruiterEmail = name + "@example.com";
+        JsonNode auth = postJson("/auth/register", Map.of("username", name, "email", recruiterEmail,
+                "password", "password", "firstName", "Rita", "lastName", "Recruiter", "role", "RECRUITER"));
+        recruiterToken = auth.get("token").asText();
+    }
+
+    @Test
+    void currentUserIsAnsweredFromTheToken() throws Exception {
+        try (QueryCounter.Scope queries = QueryCounter.open()) {
+            mockMvc.perform(get("/auth/me").header("Authorization", "Bearer " + recruiterToken))
+                    .andExpect(status().isOk());
+            queries.assertCount(0);
+        }
+    }
+
+    @Test
+    void listingJobsDoesNotGrowWithThePageSize() throws Exception {
+        for (int i = 0; i < 10; i++) {
+            createJob("Engineer " + i, List.of("Java", "Kafka", "PostgreSQL"));
+        }
+
+        int small = countListing(2);
+        int large = countListing(10);
+
+        // Page, count and one query for the skills of the whole page
+        assertEquals(LIST_JOBS_STATEMENTS, small, "statements for a page of 2");
+        assertEquals(small, large, "statements for a page of 10");
+    }
+
+    @Test
+    void updatingAJobTakesAFixedNumberOfStatements() throws Exception {
+        long id = createJob("Backend Engineer", List.of("Java", "Kafka"));
+
+        try (QueryCounter.Scope queries = QueryCounter.open()) {
+            mockMvc.perform(put("/jobs/{id}", id)
+                            .header("Authorization", "Bearer " + recruiterToken)
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(Map.of(
+                                    "title", "Senior Backend Engineer", "skills", List.of("Java", "Kafka")))))
+                    .andExpect(status().isOk());
+            queries.assertCount(UPDATE_JOB_STATEMENTS);
+        }
+    }
+
+    private static final int LIST_JOBS_STATEMENTS = 3;
+
+    // Load the job and write the row; replacing the skills deletes and re-inserts both skill collections
+    private static final int UPDATE_JOB_STATEMENTS = 8;
+
+    private int countListing(int size) throws Exception {
+        try (QueryCounter.Scope queries = QueryCounter.open()) {
+            mockMvc.perform(get("/jobs").param("size", String.valueOf(size))
+                            .header("Authorization", "Bearer " + recruiterToken))
+                    .andExpect(status().isOk());
+            return queries.count();
+        }
+    }
+
+    // Fixtures go through the service: creating a job with unseen skills is a write path outside these budgets
+    private long createJob(String title, List<String> skills) {
+        JobCreateRequest request = objectMapper.convertValue(Map.of("title", title, "description", "Builds services",
+                "company", "Acme", "location", "Berlin", "salaryMin", 60000, "salaryMax", 90000,
+                "jobType", "FULL_TIME", "experienceLevel", "SENIOR_LEVEL", "skills", skills), JobCreateRequest.class);
+        return jobService.createJob(request, recruiterEmail).getId();
+    }
+
+    private JsonNode postJson(String path, Object body) throws Exception {
+        String response = mockMvc.perform(post(path)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(body)))
+                .andExpect(status().isOk()).andReturn().getResponse().getContentAsString();
+        return objectMapper.readTree(response);
+    }
+}